@@ -21,9 +21,9 @@ import casetrack.app.model.ReadOnlyUserPrefs;
 import casetrack.app.model.UserPrefs;
 import casetrack.app.model.util.SampleDataUtil;
 import casetrack.app.storage.AddressBookStorage;
-import casetrack.app.storage.JsonAddressBookStorage;
 import casetrack.app.storage.JsonUserPrefsStorage;
 import casetrack.app.storage.Storage;
+import casetrack.app.storage.StorageFormats;
 import casetrack.app.storage.StorageManager;
 import casetrack.app.storage.UserPrefsStorage;
 import casetrack.app.ui.Ui;
@@ -57,7 +57,8 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = StorageFormats.createAddressBookStorage(
+                userPrefs.getAddressBookFormat(), userPrefs.getAddressBookFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -69,6 +70,9 @@ public class MainApp extends Application {
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Any changes recorded in the address book's journal are replayed on top of its last snapshot. <br>
+     * If the address book in a format other than the one chosen in {@code userPrefs} was written after the one in
+     * the chosen format, or there is none in the chosen format, it is imported and saved in the chosen format. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
@@ -78,12 +82,17 @@ public class MainApp extends Application {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
-            addressBookOptional = storage.readAddressBook();
+            Optional<ReadOnlyAddressBook> importedOptional = importAddressBook(userPrefs);
+            addressBookOptional = importedOptional.isPresent() ? importedOptional : storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            if (importedOptional.isPresent() || !addressBookOptional.isPresent()) {
+                // commands only save the changes they make, so data that is not in the data file is saved now
+                saveInitialData(storage, initialData);
+            }
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
@@ -93,6 +102,29 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the address book stored in a format other than the one chosen in {@code userPrefs}, if it was written
+     * after the one in the chosen format. If it cannot be read, the one in the chosen format is used instead.
+     */
+    private Optional<ReadOnlyAddressBook> importAddressBook(ReadOnlyUserPrefs userPrefs) {
+        try {
+            return StorageFormats.readNewerAddressBook(userPrefs.getAddressBookFormat(),
+                    userPrefs.getAddressBookFilePath());
+        } catch (DataLoadingException e) {
+            logger.warning("Newer data file in another format could not be imported: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void saveInitialData(Storage storage, ReadOnlyAddressBook initialData) {
+        try {
+            storage.saveAddressBook(initialData);
+        } catch (IOException e) {
+            logger.warning("Failed to create data file " + storage.getAddressBookFilePath() + ": "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -177,6 +209,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            logic.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,40 @@
+package casetrack.app.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+/**
+ * The file formats that the address book can be stored in.
+ */
+public enum StorageFormat {
+
+    /** Human-readable JSON, stored at the address book file path as given. */
+    JSON(null),
+
+    /** Compact binary snapshot, stored next to the address book file path with a {@code .bin} extension. */
+    BINARY(".bin");
+
+    private final String fileExtension;
+
+    StorageFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns the path of the file that holds an address book in this format,
+     * given the address book file path in the user prefs.
+     */
+    public Path getFilePath(Path addressBookFilePath) {
+        requireNonNull(addressBookFilePath);
+        if (fileExtension == null) {
+            return addressBookFilePath;
+        }
+
+        String fileName = addressBookFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return addressBookFilePath.resolveSibling(baseName + fileExtension);
+    }
+
+}
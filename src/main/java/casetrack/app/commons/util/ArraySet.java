@@ -0,0 +1,152 @@
+package casetrack.app.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set that keeps its elements in an array, for sets that hold a few elements each.
+ * It takes much less memory than a {@code HashSet}, which keeps a table and an entry object per element, and all
+ * empty sets are the same object. Looking up an element compares it with every element, so larger sets should use
+ * a {@code HashSet}.
+ *
+ * Elements are iterated in the order of the collection the set was copied from.
+ * The methods of {@code Set} that would modify the set always throw {@code UnsupportedOperationException}.
+ */
+public final class ArraySet<E> extends AbstractSet<E> {
+
+    /** Size of the collections from which duplicates are found with a hash set instead of comparing each pair. */
+    private static final int HASHED_COPY_THRESHOLD = 16;
+
+    private static final ArraySet<?> EMPTY = new ArraySet<>(new Object[0]);
+
+    private final Object[] elements;
+
+    private ArraySet(Object[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Returns an empty set.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> ArraySet<E> empty() {
+        return (ArraySet<E>) EMPTY;
+    }
+
+    /**
+     * Returns a set of the distinct elements of {@code elements}, which must not contain nulls.
+     * Returns {@code elements} itself if it is already an {@code ArraySet}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> ArraySet<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof ArraySet) {
+            return (ArraySet<E>) elements;
+        }
+        if (elements.isEmpty()) {
+            return empty();
+        }
+        if (elements.size() >= HASHED_COPY_THRESHOLD && !(elements instanceof Set)) {
+            return new ArraySet<>(new LinkedHashSet<>(elements).toArray());
+        }
+
+        Object[] distinctElements = new Object[elements.size()];
+        int size = 0;
+        for (E element : elements) {
+            requireNonNull(element);
+            if (elements instanceof Set || indexOf(distinctElements, size, element) < 0) {
+                distinctElements[size++] = element;
+            }
+        }
+        return new ArraySet<>(size == distinctElements.length
+                ? distinctElements
+                : Arrays.copyOf(distinctElements, size));
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return element != null && indexOf(elements, elements.length, element) >= 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (index >= elements.length) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[index++];
+            }
+        };
+    }
+
+    @Override
+    public boolean add(E element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the index of {@code element} among the first {@code size} of {@code elements}, or -1 if it is not
+     * among them.
+     */
+    private static int indexOf(Object[] elements, int size, Object element) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i].equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
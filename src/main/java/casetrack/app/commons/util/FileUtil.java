@@ -1,16 +1,29 @@
 package casetrack.app.commons.util;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
     private static final String CHARSET = "UTF-8";
 
     public static boolean isFileExists(Path file) {
@@ -65,6 +78,18 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Returns the time {@code file} was last modified, or the epoch if it cannot be read, such as when the file was
+     * deleted in the meantime.
+     */
+    public static FileTime getLastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
     /**
      * Assumes file exists
      */
@@ -75,9 +100,105 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, as described in {@link #writeAtomically(Path, StreamWriter, boolean)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, out -> out.write(bytes), false);
+    }
+
+    /**
+     * Replaces the content of {@code file} with the output of {@code writer}, creating the file and its missing
+     * parent directories if needed.
+     * The output is first written to a temporary file next to {@code file} and forced to disk, which is then
+     * renamed over {@code file}. A crash part way through thus leaves either the old or the new content in place.
+     *
+     * @param isBackupKept if true, the old content is copied to a backup file next to {@code file} before it is
+     *     replaced. {@code file} itself is still replaced by the rename, so it always exists.
+     * @return the CRC32 checksum of the new content, computed as it is written.
+     */
+    public static long writeAtomically(Path file, StreamWriter writer, boolean isBackupKept) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = getTempFilePath(file);
+        CRC32 checksum = new CRC32();
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new UnclosableOutputStream(
+                    new CheckedOutputStream(Channels.newOutputStream(channel), checksum));
+            writer.writeTo(out);
+            out.flush();
+            channel.force(true);
+        }
+
+        if (isBackupKept && Files.exists(file)) {
+            // the backup keeps the old modification time, so that it is not mistaken for newer data than the file
+            Files.copy(file, getBackupFilePath(file), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.COPY_ATTRIBUTES);
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(file.toAbsolutePath().getParent());
+        return checksum.getValue();
+    }
+
+    /**
+     * Returns the path of the temporary file used while {@code file} is written.
+     */
+    public static Path getTempFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the file that keeps the previous content of {@code file}.
+     */
+    public static Path getBackupFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a renamed file, to disk.
+     * Not all platforms can open a directory, in which case this does nothing.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the rename is still durable on platforms that do not support this, such as Windows
+        }
+    }
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface StreamWriter {
+        /**
+         * Writes the content to {@code out}. {@code out} may be closed, which only flushes it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * An output stream that is only flushed when closed, so that the file under it can still be forced to disk.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
     }
 
 }
@@ -0,0 +1,299 @@
+package casetrack.app.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * An immutable list that shares its structure with the lists it is derived from, so that appending or replacing an
+ * element does not copy the whole list.
+ *
+ * The elements are kept in chunks of {@value #WIDTH}, which are the leaves of a tree with {@value #WIDTH} children
+ * per node, except for the last chunk, which is kept apart as the tail. Appending copies only the tail, and a path
+ * of the tree once every {@value #WIDTH} elements. Replacing an element copies only the chunk holding it and its path
+ * of the tree. Either takes time and memory logarithmic in the size of the list with base {@value #WIDTH}, which is
+ * at most 4 chunks for lists of up to a million elements, and so does {@link #get(int)}. Removing an element other
+ * than the last rebuilds the list.
+ *
+ * The methods of {@code List} that would modify the list always throw {@code UnsupportedOperationException}.
+ */
+public final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    /** Number of bits of an index that select the children of the root and the nodes below it. */
+    private final int shift;
+    /** Root of the tree holding the full chunks before the tail. */
+    private final Object[] root;
+    /** Last chunk of the list, which holds between 1 and {@value #WIDTH} elements unless the list is empty. */
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in the order they are iterated in.
+     * Returns {@code elements} itself if it is already a {@code PersistentVector}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentVector) {
+            return (PersistentVector<E>) elements;
+        }
+
+        PersistentVector<E> vector = empty();
+        Object[] chunk = new Object[WIDTH];
+        int chunkSize = 0;
+        for (E element : elements) {
+            chunk[chunkSize++] = element;
+            if (chunkSize == WIDTH) {
+                vector = vector.plusChunk(chunk);
+                chunk = new Object[WIDTH];
+                chunkSize = 0;
+            }
+        }
+        return chunkSize == 0 ? vector : vector.plusChunk(Arrays.copyOf(chunk, chunkSize));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) chunkFor(index)[index & MASK];
+    }
+
+    /**
+     * Returns a list of the elements of this list followed by {@code element}.
+     */
+    public PersistentVector<E> plus(E element) {
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        return plusChunk(new Object[] {element});
+    }
+
+    /**
+     * Returns a list of the elements of this list with the element at {@code index} replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not that of an element of this list.
+     */
+    public PersistentVector<E> with(int index, E element) {
+        Objects.checkIndex(index, size);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, withElement(shift, root, index, element), tail);
+    }
+
+    /**
+     * Returns a list of the elements of this list without the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not that of an element of this list.
+     */
+    public PersistentVector<E> minus(int index) {
+        Objects.checkIndex(index, size);
+        if (index == size - 1 && tail.length > 1) {
+            return new PersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+
+        PersistentVector<E> vector = empty();
+        int i = 0;
+        for (E element : this) {
+            if (i++ != index) {
+                vector = vector.plus(element);
+            }
+        }
+        return vector;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index;
+            private Object[] chunk;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                if ((index & MASK) == 0) {
+                    chunk = chunkFor(index);
+                }
+                return (E) chunk[index++ & MASK];
+            }
+        };
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof PersistentVector) {
+            PersistentVector<?> otherVector = (PersistentVector<?>) other;
+            // lists derived from each other share the chunks that were not changed
+            if (size == otherVector.size && root == otherVector.root && tail == otherVector.tail) {
+                return true;
+            }
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Returns the index of the first element in the tail.
+     */
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Returns the chunk holding the element at {@code index}.
+     */
+    private Object[] chunkFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * Returns a list of the elements of this list followed by those of {@code chunk}, which becomes its tail.
+     * The tail of this list must be full, or this list must be empty.
+     */
+    private PersistentVector<E> plusChunk(Object[] chunk) {
+        if (size == 0) {
+            return new PersistentVector<>(chunk.length, BITS, EMPTY_NODE, chunk);
+        }
+        assert size - tailOffset() == WIDTH;
+
+        // the tail moves into the tree, which grows a level when it has no room left for it
+        if ((size >>> BITS) > (1 << shift)) {
+            Object[] newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            return new PersistentVector<>(size + chunk.length, shift + BITS, newRoot, chunk);
+        }
+        return new PersistentVector<>(size + chunk.length, shift, pushTail(shift, root), chunk);
+    }
+
+    /**
+     * Returns a copy of {@code node}, at the given {@code level} of the tree, with the tail added after its last
+     * chunk.
+     */
+    private Object[] pushTail(int level, Object[] node) {
+        int childIndex = ((size - 1) >>> level) & MASK;
+        Object[] newNode = node.clone();
+        if (level == BITS) {
+            newNode[childIndex] = tail;
+        } else {
+            Object[] child = (Object[]) node[childIndex];
+            newNode[childIndex] = child == null ? newPath(level - BITS, tail) : pushTail(level - BITS, child);
+        }
+        return newNode;
+    }
+
+    /**
+     * Returns a path of new nodes down from the given {@code level} of the tree, ending at {@code chunk}.
+     */
+    private static Object[] newPath(int level, Object[] chunk) {
+        if (level == 0) {
+            return chunk;
+        }
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, chunk);
+        return node;
+    }
+
+    /**
+     * Returns a copy of {@code node}, at the given {@code level} of the tree, with the element at {@code index}
+     * replaced by {@code element}.
+     */
+    private static Object[] withElement(int level, Object[] node, int index, Object element) {
+        Object[] newNode = node.clone();
+        if (level == 0) {
+            newNode[index & MASK] = element;
+        } else {
+            int childIndex = (index >>> level) & MASK;
+            newNode[childIndex] = withElement(level - BITS, (Object[]) node[childIndex], index, element);
+        }
+        return newNode;
+    }
+}
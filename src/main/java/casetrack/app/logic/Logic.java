@@ -1,8 +1,12 @@
 package casetrack.app.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import casetrack.app.commons.core.GuiSettings;
+import casetrack.app.logic.SearchPreviewer.SearchPreview;
 import casetrack.app.logic.commands.CommandResult;
 import casetrack.app.logic.commands.exceptions.CommandException;
 import casetrack.app.logic.parser.exceptions.ParseException;
@@ -23,6 +27,34 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the persons matching the search command being typed, or an empty {@code Optional} if
+     * {@code commandText} is not a valid search yet. Called off the JavaFX application thread.
+     *
+     * @see SearchPreviewer#preview(String)
+     */
+    Optional<SearchPreview> previewSearch(String commandText);
+
+    /**
+     * Shows the persons in {@code preview} in the filtered list of persons, unless the address book has changed
+     * since they were found.
+     *
+     * @return true if the persons are shown.
+     */
+    boolean showSearchPreview(SearchPreview preview);
+
+    /**
+     * Sets the handler that is given an error message whenever saving changes in the background fails.
+     * The handler is called on a background thread.
+     */
+    void setOnSaveFailure(Consumer<String> onSaveFailure);
+
+    /**
+     * Blocks until all changes made so far have been saved.
+     * @throws IOException If the changes could not be saved.
+     */
+    void flush() throws IOException;
+
     /**
      * Returns the AddressBook.
      *
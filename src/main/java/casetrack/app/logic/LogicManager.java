@@ -3,10 +3,13 @@ package casetrack.app.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import casetrack.app.commons.core.GuiSettings;
 import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.logic.SearchPreviewer.SearchPreview;
 import casetrack.app.logic.commands.Command;
 import casetrack.app.logic.commands.CommandResult;
 import casetrack.app.logic.commands.exceptions.CommandException;
@@ -15,6 +18,7 @@ import casetrack.app.logic.parser.exceptions.ParseException;
 import casetrack.app.model.Model;
 import casetrack.app.model.ReadOnlyAddressBook;
 import casetrack.app.model.person.Person;
+import casetrack.app.storage.AsyncAddressBookSaver;
 import casetrack.app.storage.Storage;
 import javafx.collections.ObservableList;
 
@@ -30,16 +34,23 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AsyncAddressBookSaver saver;
     private final AddressBookParser addressBookParser;
+    private final SearchPreviewer searchPreviewer;
+
+    /** Modification count of the address book when it was last handed to the saver. */
+    private long savedModificationCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes to the model are saved to {@code storage} in the background.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
+        this.saver = new AsyncAddressBookSaver(storage);
         addressBookParser = new AddressBookParser();
+        searchPreviewer = new SearchPreviewer(model);
+        savedModificationCount = model.getAddressBookModificationCount();
     }
 
     @Override
@@ -50,17 +61,59 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        if (!command.isReadOnly()) {
+            requestSaveIfModified();
+        }
+        if (command.isFlushRequired()) {
+            try {
+                flush();
+            } catch (IOException ioe) {
+                throw new CommandException(getSaveErrorMessage(ioe), ioe);
+            }
         }
 
         return commandResult;
     }
 
+    @Override
+    public Optional<SearchPreview> previewSearch(String commandText) {
+        return searchPreviewer.preview(commandText);
+    }
+
+    @Override
+    public boolean showSearchPreview(SearchPreview preview) {
+        return searchPreviewer.show(preview);
+    }
+
+    /**
+     * Hands the address book to the saver, unless it is unchanged since it was last handed over.
+     */
+    private void requestSaveIfModified() {
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount == savedModificationCount) {
+            return;
+        }
+        saver.requestSave(model.getAddressBook());
+        savedModificationCount = modificationCount;
+    }
+
+    @Override
+    public void setOnSaveFailure(Consumer<String> onSaveFailure) {
+        saver.setOnSaveFailure(ioe -> onSaveFailure.accept(getSaveErrorMessage(ioe)));
+    }
+
+    @Override
+    public void flush() throws IOException {
+        saver.flush();
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
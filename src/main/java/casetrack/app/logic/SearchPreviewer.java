@@ -0,0 +1,137 @@
+package casetrack.app.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.logic.commands.Command;
+import casetrack.app.logic.commands.FindCommand;
+import casetrack.app.logic.parser.AddressBookParser;
+import casetrack.app.logic.parser.exceptions.ParseException;
+import casetrack.app.model.Model;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.RefiningPredicate;
+
+/**
+ * Finds the persons matching a search command while it is being typed, so that they can be previewed.
+ * Searches are run off the JavaFX application thread, while the address book may be changed on it. The address
+ * book's search index is locked against changes during each search, so a search sees it either before or after
+ * each change, and searches during which it changed are discarded. When a search narrows down the previous one,
+ * such as when a keyword is typed further, only the persons that matched the previous search are tested.
+ * Searches previewed are not cached, as most of them are of partly typed keywords that are never searched again.
+ */
+public class SearchPreviewer {
+
+    private final Logger logger = LogsCenter.getLogger(SearchPreviewer.class);
+
+    private final Model model;
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+
+    /** The last search previewed, or null if there is none. */
+    private SearchPreview previousPreview;
+
+    /**
+     * Creates a {@code SearchPreviewer} that searches the address book of {@code model}.
+     */
+    public SearchPreviewer(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Returns the persons matching {@code commandText}, or an empty {@code Optional} if it is not a valid search
+     * command, or if the address book changed while the search ran.
+     */
+    public synchronized Optional<SearchPreview> preview(String commandText) {
+        requireNonNull(commandText);
+        Optional<Predicate<Person>> predicate = parseSearch(commandText);
+        if (predicate.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long modificationCount = model.getAddressBookModificationCount();
+        List<Person> matches = canRefine(predicate.get(), modificationCount)
+                ? previousPreview.getMatches().stream().filter(predicate.get()).collect(Collectors.toList())
+                : model.findPersons(predicate.get(), false);
+        if (model.getAddressBookModificationCount() != modificationCount) {
+            logger.fine("Search preview abandoned as the address book changed while it was searched");
+            return Optional.empty();
+        }
+
+        previousPreview = new SearchPreview(predicate.get(), matches, modificationCount);
+        return Optional.of(previousPreview);
+    }
+
+    /**
+     * Shows the persons in {@code preview} in the filtered person list, unless the address book has changed since
+     * they were found. Must be called on the JavaFX application thread.
+     *
+     * @return true if the persons are shown.
+     */
+    public boolean show(SearchPreview preview) {
+        requireNonNull(preview);
+        if (model.getAddressBookModificationCount() != preview.getModificationCount()) {
+            return false;
+        }
+        model.updateFilteredPersonList(preview.getPredicate(), preview.getMatches());
+        return true;
+    }
+
+    private boolean canRefine(Predicate<Person> predicate, long modificationCount) {
+        return previousPreview != null
+                && previousPreview.getModificationCount() == modificationCount
+                && predicate instanceof RefiningPredicate
+                && ((RefiningPredicate) predicate).refines(previousPreview.getPredicate());
+    }
+
+    private Optional<Predicate<Person>> parseSearch(String commandText) {
+        if (!commandText.trim().startsWith(FindCommand.COMMAND_WORD)) {
+            return Optional.empty();
+        }
+        try {
+            Command command = addressBookParser.parseCommand(commandText);
+            return command instanceof FindCommand
+                    ? Optional.of(((FindCommand) command).getPredicate())
+                    : Optional.empty();
+        } catch (ParseException e) {
+            // the search is not finished yet
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The persons found by a search previewed.
+     */
+    public static class SearchPreview {
+        private final Predicate<Person> predicate;
+        private final List<Person> matches;
+        private final long modificationCount;
+
+        /**
+         * Creates a preview of the {@code matches} of {@code predicate} in the address book as it was at
+         * {@code modificationCount}.
+         */
+        public SearchPreview(Predicate<Person> predicate, List<Person> matches, long modificationCount) {
+            this.predicate = predicate;
+            this.matches = List.copyOf(matches);
+            this.modificationCount = modificationCount;
+        }
+
+        public Predicate<Person> getPredicate() {
+            return predicate;
+        }
+
+        public List<Person> getMatches() {
+            return matches;
+        }
+
+        public long getModificationCount() {
+            return modificationCount;
+        }
+    }
+}
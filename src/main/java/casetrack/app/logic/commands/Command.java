@@ -17,4 +17,19 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if this command never changes the address book, so there is nothing to save after it.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Returns true if all changes must be written to the data file before this command returns, instead of in the
+     * background shortly after it.
+     */
+    public boolean isFlushRequired() {
+        return false;
+    }
+
 }
@@ -16,4 +16,8 @@ public class ExitCommand extends Command {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, null, false, true);
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
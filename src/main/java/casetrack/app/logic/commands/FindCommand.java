@@ -13,7 +13,7 @@ import casetrack.app.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose specified field contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. Searches on several fields can be combined with AND, OR and NOT.
  */
 public class FindCommand extends Command {
 
@@ -23,17 +23,39 @@ public class FindCommand extends Command {
             + ": Finds all patients whose specified field contains any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: FIELD KEYWORD [MORE_KEYWORDS]...\n"
-            + "Supported fields: name, number, email, tag\n"
+            + "Supported fields: name, fuzzy, number, email, tag, note, income\n"
             + "Examples: " + COMMAND_WORD + " name alice charlie\n"
+            + "          " + COMMAND_WORD + " fuzzy mohamad (or mohamad d/1 to allow at most 1 typo)\n"
             + "          " + COMMAND_WORD + " number 91234567\n"
             + "          " + COMMAND_WORD + " email alice@example.com\n"
-            + "          " + COMMAND_WORD + " tag friend colleague";
+            + "          " + COMMAND_WORD + " tag friend colleague\n"
+            + "          " + COMMAND_WORD + " note housing grant\n"
+            + "          " + COMMAND_WORD + " income 1000-2000 (or <1500, >=2000, 1000-, -1500)\n"
+            + "Combine fields with AND, OR, NOT and parentheses separated by spaces, quote a keyword such as \"OR\" "
+            + "to search for it, and start with explain to show how the search is done.\n"
+            + "Example: " + COMMAND_WORD + " explain tag housing AND ( name tan OR NOT income >=2000 )";
+
+    public static final String MESSAGE_SEARCH_PLAN = "Search plan:\n%1$s";
 
     private static final Logger logger = LogsCenter.getLogger(FindCommand.class);
     private final Predicate<Person> predicate;
+    private final boolean isExplain;
 
     public FindCommand(Predicate<Person> predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindCommand that lists the persons satisfying {@code predicate}, and also shows how they are
+     * found if {@code isExplain} is true.
+     */
+    public FindCommand(Predicate<Person> predicate, boolean isExplain) {
         this.predicate = predicate;
+        this.isExplain = isExplain;
+    }
+
+    public Predicate<Person> getPredicate() {
+        return predicate;
     }
 
     @Override
@@ -41,14 +63,22 @@ public class FindCommand extends Command {
         requireNonNull(model);
         logger.info("Executing search command with predicate: " + predicate);
 
+        String plan = isExplain ? model.explainSearch(predicate) : null;
         model.updateFilteredPersonList(predicate);
         int resultCount = model.getFilteredPersonList().size();
 
         logger.info("Search completed. Found " + resultCount + " person(s) matching the criteria");
 
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, resultCount),
-                new DetailPanelInstruction(null));
+        String feedback = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, resultCount);
+        if (isExplain) {
+            feedback += "\n" + String.format(MESSAGE_SEARCH_PLAN, plan);
+        }
+        return new CommandResult(feedback, new DetailPanelInstruction(null));
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 
     @Override
@@ -63,13 +93,15 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && isExplain == otherFindCommand.isExplain;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isExplain", isExplain)
                 .toString();
     }
 }
@@ -18,4 +18,9 @@ public class HelpCommand extends Command {
     public CommandResult execute(Model model) {
         return new CommandResult(SHOWING_HELP_MESSAGE, null, true, false);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
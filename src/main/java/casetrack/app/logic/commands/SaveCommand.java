@@ -0,0 +1,35 @@
+package casetrack.app.logic.commands;
+
+import casetrack.app.model.Model;
+
+/**
+ * Writes all changes to the data file before returning.
+ * Changes are otherwise saved in the background shortly after each command.
+ */
+public class SaveCommand extends Command {
+
+    public static final String COMMAND_WORD = "save";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves all changes to the data file now.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "All changes saved.";
+
+    /**
+     * The save itself is done by {@code LogicManager}, which owns the storage.
+     */
+    @Override
+    public CommandResult execute(Model model) {
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean isFlushRequired() {
+        return true;
+    }
+}
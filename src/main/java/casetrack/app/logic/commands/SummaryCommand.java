@@ -0,0 +1,85 @@
+package casetrack.app.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import casetrack.app.model.Model;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.index.ColumnStore;
+import casetrack.app.model.index.ReadOnlyColumnStore;
+import casetrack.app.model.person.Income;
+import casetrack.app.model.tag.Tag;
+
+/**
+ * Summarises all patients in the address book: their total income, the number of them in each income range, their
+ * number of notes and the number of them with each tag.
+ * The summary is computed from the columns of the address book, if it keeps them.
+ */
+public class SummaryCommand extends Command {
+
+    public static final String COMMAND_WORD = "summary";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Summarises the incomes, notes and tags of all "
+            + "patients.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Summary of %1$d patient(s)\n"
+            + "Total income: %2$s\n"
+            + "Incomes: %3$s\n"
+            + "Notes: %4$d\n"
+            + "Tags: %5$s";
+
+    public static final String MESSAGE_NO_TAGS = "none";
+
+    /** Upper bounds of the income ranges that patients are counted in, in cents. */
+    static final long[] INCOME_BOUNDS_CENTS = {100_000, 200_000, 300_000};
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        ReadOnlyColumnStore columns = addressBook.getColumnStore()
+                .orElseGet(() -> ColumnStore.of(addressBook.getPersonList()));
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, columns.size(),
+                Income.formatCents(columns.getTotalIncomeCents()), formatIncomeCounts(columns),
+                columns.getTotalNoteCount(), formatTagCounts(columns.countTags())));
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Returns the number of patients in each income range, e.g. {@code < SGD 1,000.00: 2, >= SGD 1,000.00: 1}.
+     */
+    private static String formatIncomeCounts(ReadOnlyColumnStore columns) {
+        int[] counts = columns.countIncomes(INCOME_BOUNDS_CENTS);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < INCOME_BOUNDS_CENTS.length; i++) {
+            builder.append("< ").append(Income.formatCents(BigInteger.valueOf(INCOME_BOUNDS_CENTS[i])))
+                    .append(": ").append(counts[i]).append(", ");
+        }
+        long lastBound = INCOME_BOUNDS_CENTS[INCOME_BOUNDS_CENTS.length - 1];
+        return builder.append(">= ").append(Income.formatCents(BigInteger.valueOf(lastBound)))
+                .append(": ").append(counts[INCOME_BOUNDS_CENTS.length]).toString();
+    }
+
+    /**
+     * Returns the number of patients with each tag, from the most used tag, e.g. {@code housing (2), urgent (1)}.
+     */
+    private static String formatTagCounts(Map<Tag, Integer> tagCounts) {
+        if (tagCounts.isEmpty()) {
+            return MESSAGE_NO_TAGS;
+        }
+        return tagCounts.entrySet().stream()
+                .sorted(Map.Entry.<Tag, Integer>comparingByValue().reversed()
+                        .thenComparing(entry -> entry.getKey().tagName))
+                .map(entry -> entry.getKey().tagName + " (" + entry.getValue() + ")")
+                .collect(Collectors.joining(", "));
+    }
+}
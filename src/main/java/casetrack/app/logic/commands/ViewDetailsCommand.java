@@ -45,6 +45,11 @@ public class ViewDetailsCommand extends Command {
             String.format(MESSAGE_VIEW_DETAILS_SUCCESS, Messages.format(detailTarget)), detailTarget, false, false);
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
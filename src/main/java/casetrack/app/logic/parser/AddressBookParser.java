@@ -18,6 +18,8 @@ import casetrack.app.logic.commands.FindCommand;
 import casetrack.app.logic.commands.HelpCommand;
 import casetrack.app.logic.commands.ListCommand;
 import casetrack.app.logic.commands.NoteCommand;
+import casetrack.app.logic.commands.SaveCommand;
+import casetrack.app.logic.commands.SummaryCommand;
 import casetrack.app.logic.commands.ViewDetailsCommand;
 import casetrack.app.logic.parser.exceptions.ParseException;
 
@@ -79,6 +81,12 @@ public class AddressBookParser {
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
+        case SummaryCommand.COMMAND_WORD:
+            return new SummaryCommand();
+
+        case SaveCommand.COMMAND_WORD:
+            return new SaveCommand();
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
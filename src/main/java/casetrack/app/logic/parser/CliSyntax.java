@@ -14,5 +14,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_INCOME = new Prefix("i/");
     public static final Prefix PREFIX_MEDICAL_INFO = new Prefix("m/");
     public static final Prefix PREFIX_NOTE_TEXT = new Prefix("t/");
+    public static final Prefix PREFIX_EDIT_DISTANCE = new Prefix("d/");
 
 }
@@ -1,25 +1,50 @@
 package casetrack.app.logic.parser;
 
 import static casetrack.app.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static casetrack.app.logic.parser.CliSyntax.PREFIX_EDIT_DISTANCE;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
+import java.util.OptionalInt;
 import java.util.function.Predicate;
 
 import casetrack.app.logic.commands.FindCommand;
 import casetrack.app.logic.parser.exceptions.ParseException;
+import casetrack.app.model.index.PhoneIndex;
+import casetrack.app.model.person.AndPredicate;
 import casetrack.app.model.person.EmailContainsKeywordsPredicate;
+import casetrack.app.model.person.FuzzyNameMatchesPredicate;
 import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.NotPredicate;
+import casetrack.app.model.person.NoteContainsKeywordsPredicate;
+import casetrack.app.model.person.OrPredicate;
 import casetrack.app.model.person.Person;
 import casetrack.app.model.person.PhoneContainsKeywordsPredicate;
+import casetrack.app.model.person.PhoneMatchesPredicate;
 import casetrack.app.model.person.TagContainsKeywordsPredicate;
 
 /**
- * Parses input arguments and creates a new FindCommand object
+ * Parses input arguments and creates a new FindCommand object.
+ * A search is a field followed by keywords, and searches can be combined with {@code AND}, {@code OR}, {@code NOT}
+ * and parentheses. {@code NOT} binds tightest and {@code OR} loosest.
+ * Operators and parentheses are only read as such when they stand alone between whitespace, as names may contain
+ * parentheses, and a keyword in double quotes, such as {@code "OR"}, is never read as one.
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
-    private static final int MINIMUM_ARGS_COUNT = 2;
+    public static final String KEYWORD_EXPLAIN = "explain";
+    public static final String OPERATOR_AND = "AND";
+    public static final String OPERATOR_OR = "OR";
+    public static final String OPERATOR_NOT = "NOT";
+
+    public static final String MESSAGE_INVALID_QUERY = "Invalid search: %1$s\n%2$s";
+
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+    private static final String QUOTE = "\"";
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
@@ -33,18 +58,123 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] argParts = trimmedArgs.split("\\s+");
+        Deque<String> tokens = new ArrayDeque<>(Arrays.asList(trimmedArgs.split("\\s+")));
 
-        if (argParts.length < MINIMUM_ARGS_COUNT) {
+        boolean isExplain = tokens.peek().equalsIgnoreCase(KEYWORD_EXPLAIN);
+        if (isExplain) {
+            tokens.pop();
+        }
+        if (tokens.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String searchType = argParts[0].toLowerCase();
-        List<String> keywords = Arrays.asList(Arrays.copyOfRange(argParts, 1, argParts.length));
+        Predicate<Person> predicate = parseOr(tokens);
+        if (!tokens.isEmpty()) {
+            throw invalidQuery("unexpected '" + tokens.peek() + "'");
+        }
+        return new FindCommand(predicate, isExplain);
+    }
+
+    /**
+     * Parses searches separated by {@code OR}.
+     */
+    private Predicate<Person> parseOr(Deque<String> tokens) throws ParseException {
+        List<Predicate<Person>> predicates = new ArrayList<>();
+        predicates.add(parseAnd(tokens));
+        while (OPERATOR_OR.equals(tokens.peek())) {
+            tokens.pop();
+            predicates.add(parseAnd(tokens));
+        }
+        return predicates.size() == 1 ? predicates.get(0) : new OrPredicate(predicates);
+    }
+
+    /**
+     * Parses searches separated by {@code AND}.
+     */
+    private Predicate<Person> parseAnd(Deque<String> tokens) throws ParseException {
+        List<Predicate<Person>> predicates = new ArrayList<>();
+        predicates.add(parseNot(tokens));
+        while (OPERATOR_AND.equals(tokens.peek())) {
+            tokens.pop();
+            predicates.add(parseNot(tokens));
+        }
+        return predicates.size() == 1 ? predicates.get(0) : new AndPredicate(predicates);
+    }
+
+    /**
+     * Parses a search on one field, a negated search or a search in parentheses.
+     */
+    private Predicate<Person> parseNot(Deque<String> tokens) throws ParseException {
+        String token = tokens.poll();
+        if (token == null) {
+            throw invalidQuery("missing search at the end");
+        } else if (token.equals(OPERATOR_NOT)) {
+            return new NotPredicate(parseNot(tokens));
+        } else if (token.equals(OPEN_PARENTHESIS)) {
+            Predicate<Person> predicate = parseOr(tokens);
+            if (!CLOSE_PARENTHESIS.equals(tokens.poll())) {
+                throw invalidQuery("missing '" + CLOSE_PARENTHESIS + "'");
+            }
+            return predicate;
+        } else if (isOperator(token) || token.equals(CLOSE_PARENTHESIS)) {
+            throw invalidQuery("unexpected '" + token + "'");
+        }
+
+        List<String> keywords = new ArrayList<>();
+        while (!tokens.isEmpty() && !isOperator(tokens.peek()) && !tokens.peek().equals(CLOSE_PARENTHESIS)
+                && !tokens.peek().equals(OPEN_PARENTHESIS)) {
+            keywords.add(unquote(tokens.pop()));
+        }
+        if (keywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return subcommand(token.toLowerCase(), keywords);
+    }
+
+    /**
+     * Parses the keywords of a fuzzy name search, the last of which may give the edit distance allowed.
+     * Only a {@code d/} followed by digits gives the distance, as names may contain {@code d/o}.
+     */
+    private static FuzzyNameMatchesPredicate parseFuzzyName(List<String> keywords) throws ParseException {
+        String lastKeyword = keywords.get(keywords.size() - 1);
+        if (!isEditDistance(lastKeyword)) {
+            return new FuzzyNameMatchesPredicate(keywords, OptionalInt.empty());
+        }
+
+        List<String> names = keywords.subList(0, keywords.size() - 1);
+        if (names.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        int maxDistance = ParserUtil.parseEditDistance(
+                lastKeyword.substring(PREFIX_EDIT_DISTANCE.getPrefix().length()));
+        return new FuzzyNameMatchesPredicate(List.copyOf(names), OptionalInt.of(maxDistance));
+    }
+
+    private static boolean isEditDistance(String keyword) {
+        String prefix = PREFIX_EDIT_DISTANCE.getPrefix();
+        return keyword.length() > prefix.length() && keyword.startsWith(prefix)
+                && keyword.substring(prefix.length()).chars().allMatch(Character::isDigit);
+    }
+
+    private static boolean isOperator(String token) {
+        return token.equals(OPERATOR_AND) || token.equals(OPERATOR_OR) || token.equals(OPERATOR_NOT);
+    }
+
+    /**
+     * Returns {@code token} without the double quotes around it, if it is quoted.
+     */
+    private static String unquote(String token) {
+        if (token.length() >= 2 && token.startsWith(QUOTE) && token.endsWith(QUOTE)) {
+            return token.substring(1, token.length() - 1);
+        }
+        return token;
+    }
 
-        Predicate<Person> predicate = subcommand(searchType, keywords);
-        return new FindCommand(predicate);
+    private static ParseException invalidQuery(String reason) {
+        return new ParseException(String.format(MESSAGE_INVALID_QUERY, reason, FindCommand.MESSAGE_USAGE));
     }
 
     /**
@@ -58,12 +188,23 @@ public class FindCommandParser implements Parser<FindCommand> {
         switch (searchType) {
         case "name":
             return new NameContainsKeywordsPredicate(keywords);
+        case "fuzzy":
+            return parseFuzzyName(keywords);
         case "number":
+            // complete numbers are looked up in the phone index instead of being matched against every patient, and
+            // also find the numbers that are saved with a space after the country code
+            if (keywords.stream().allMatch(PhoneIndex::isFullNumber)) {
+                return new PhoneMatchesPredicate(keywords);
+            }
             return new PhoneContainsKeywordsPredicate(keywords);
         case "email":
             return new EmailContainsKeywordsPredicate(keywords);
         case "tag":
             return new TagContainsKeywordsPredicate(keywords);
+        case "note":
+            return new NoteContainsKeywordsPredicate(keywords);
+        case "income":
+            return ParserUtil.parseIncomeRange(String.join(" ", keywords));
         default:
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
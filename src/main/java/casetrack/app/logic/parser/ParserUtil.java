@@ -2,6 +2,7 @@ package casetrack.app.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.math.BigDecimal;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -11,7 +12,9 @@ import casetrack.app.commons.util.StringUtil;
 import casetrack.app.logic.parser.exceptions.ParseException;
 import casetrack.app.model.person.Address;
 import casetrack.app.model.person.Email;
+import casetrack.app.model.person.FuzzyNameMatchesPredicate;
 import casetrack.app.model.person.Income;
+import casetrack.app.model.person.IncomeInRangePredicate;
 import casetrack.app.model.person.MedicalInfo;
 import casetrack.app.model.person.Name;
 import casetrack.app.model.person.Note;
@@ -26,6 +29,11 @@ public class ParserUtil {
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String PATIENT_STRING = "patient";
     public static final String NOTE_STRING = "note";
+    public static final String MESSAGE_INVALID_INCOME_RANGE = "Income range should be MIN-MAX, MIN-, -MAX, "
+            + "a single amount, or a comparison such as <1500 or >=2000, "
+            + "where amounts are numbers greater than or equal to 0 and MIN is not more than MAX.";
+    public static final String MESSAGE_INVALID_EDIT_DISTANCE = "Edit distance should be a whole number from 0 to "
+            + FuzzyNameMatchesPredicate.MAX_EDIT_DISTANCE + ".";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -115,6 +123,82 @@ public class ParserUtil {
         return new Income(trimmedIncome);
     }
 
+    /**
+     * Parses a {@code String range} of incomes into an {@code IncomeInRangePredicate}.
+     * The range is one of {@code MIN-MAX}, {@code MIN-}, {@code -MAX} (all inclusive), a single amount, or
+     * an amount prefixed with {@code <}, {@code <=}, {@code >} or {@code >=}. Whitespace is ignored.
+     *
+     * @throws ParseException if the given {@code range} is invalid.
+     */
+    public static IncomeInRangePredicate parseIncomeRange(String range) throws ParseException {
+        requireNonNull(range);
+        String compactRange = range.replaceAll("\\s+", "");
+        if (compactRange.startsWith("<=")) {
+            return new IncomeInRangePredicate(null, false, parseIncomeAmount(compactRange.substring(2)), true);
+        } else if (compactRange.startsWith(">=")) {
+            return new IncomeInRangePredicate(parseIncomeAmount(compactRange.substring(2)), true, null, false);
+        } else if (compactRange.startsWith("<")) {
+            return new IncomeInRangePredicate(null, false, parseIncomeAmount(compactRange.substring(1)), false);
+        } else if (compactRange.startsWith(">")) {
+            return new IncomeInRangePredicate(parseIncomeAmount(compactRange.substring(1)), false, null, false);
+        }
+
+        int separatorIndex = indexOfRangeSeparator(compactRange);
+        if (separatorIndex < 0) {
+            BigDecimal amount = parseIncomeAmount(compactRange);
+            return new IncomeInRangePredicate(amount, true, amount, true);
+        }
+
+        String min = compactRange.substring(0, separatorIndex);
+        String max = compactRange.substring(separatorIndex + 1);
+        if (min.isEmpty() && max.isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_INCOME_RANGE);
+        }
+        BigDecimal lowerBound = min.isEmpty() ? null : parseIncomeAmount(min);
+        BigDecimal upperBound = max.isEmpty() ? null : parseIncomeAmount(max);
+        if (lowerBound != null && upperBound != null && lowerBound.compareTo(upperBound) > 0) {
+            throw new ParseException(MESSAGE_INVALID_INCOME_RANGE);
+        }
+        return new IncomeInRangePredicate(lowerBound, true, upperBound, true);
+    }
+
+    /**
+     * Parses {@code distance} into the largest number of edits a fuzzy search allows.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code distance} is not a whole number from 0 to
+     *     {@link FuzzyNameMatchesPredicate#MAX_EDIT_DISTANCE}.
+     */
+    public static int parseEditDistance(String distance) throws ParseException {
+        requireNonNull(distance);
+        String trimmedDistance = distance.trim();
+        if (!trimmedDistance.matches("\\d")
+                || Integer.parseInt(trimmedDistance) > FuzzyNameMatchesPredicate.MAX_EDIT_DISTANCE) {
+            throw new ParseException(MESSAGE_INVALID_EDIT_DISTANCE);
+        }
+        return Integer.parseInt(trimmedDistance);
+    }
+
+    /**
+     * Returns the index of the {@code -} separating the bounds of {@code range}, or -1 if there is none.
+     * A {@code -} right after the exponent marker of an amount, as in {@code 1e-2}, is its exponent's sign instead.
+     */
+    private static int indexOfRangeSeparator(String range) {
+        for (int i = range.indexOf('-'); i >= 0; i = range.indexOf('-', i + 1)) {
+            if (i == 0 || Character.toLowerCase(range.charAt(i - 1)) != 'e') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static BigDecimal parseIncomeAmount(String amount) throws ParseException {
+        if (!Income.isValidIncome(amount)) {
+            throw new ParseException(MESSAGE_INVALID_INCOME_RANGE);
+        }
+        return new BigDecimal(amount);
+    }
+
     /**
      * Parses a {@code String medicalInfo} into a {@code MedicalInfo}.
      * Leading and trailing whitespaces will be trimmed.
@@ -142,7 +226,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
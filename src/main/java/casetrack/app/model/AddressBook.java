@@ -3,8 +3,11 @@ package casetrack.app.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import casetrack.app.commons.util.ToStringBuilder;
+import casetrack.app.model.index.ReadOnlyColumnStore;
 import casetrack.app.model.person.Person;
 import casetrack.app.model.person.UniquePersonList;
 import javafx.collections.ObservableList;
@@ -67,6 +70,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person in the address book with the given {@code id}, if there is one.
+     */
+    public Optional<Person> getPersonById(int id) {
+        return persons.getPersonById(id);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -94,6 +104,51 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Returns the number of changes made to this {@code AddressBook} so far.
+     * The address book is unchanged between two calls that return the same count.
+     */
+    public long getModificationCount() {
+        return persons.getModificationCount();
+    }
+
+    /**
+     * Returns the persons that satisfy {@code predicate}, ordered by relevance if it is ranked, if {@code predicate}
+     * can use the search index. Returns an empty {@code Optional} otherwise.
+     *
+     * @see UniquePersonList#filterByIndex(Predicate)
+     */
+    public Optional<List<Person>> filterByIndex(Predicate<Person> predicate) {
+        return persons.filterByIndex(predicate);
+    }
+
+    /**
+     * Returns the persons that satisfy {@code predicate}, ordered by relevance if it is ranked.
+     *
+     * @see UniquePersonList#find(Predicate)
+     */
+    public List<Person> findPersons(Predicate<Person> predicate) {
+        return persons.find(predicate);
+    }
+
+    /**
+     * Returns the persons that satisfy {@code predicate}, caching the search only if {@code isCached} is true.
+     *
+     * @see UniquePersonList#find(Predicate, boolean)
+     */
+    public List<Person> findPersons(Predicate<Person> predicate, boolean isCached) {
+        return persons.find(predicate, isCached);
+    }
+
+    /**
+     * Returns how the persons that satisfy {@code predicate} are found.
+     *
+     * @see UniquePersonList#explain(Predicate)
+     */
+    public String explain(Predicate<Person> predicate) {
+        return persons.explain(predicate);
+    }
+
     //// util methods
 
     @Override
@@ -108,6 +163,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public Optional<ReadOnlyColumnStore> getColumnStore() {
+        return Optional.of(persons.getColumnStore());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,6 +1,7 @@
 package casetrack.app.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import casetrack.app.commons.core.GuiSettings;
@@ -52,6 +53,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the number of changes made to the address book so far.
+     * The address book is unchanged between two calls that return the same count.
+     */
+    long getAddressBookModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -84,4 +91,34 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show {@code matches}, which must be the persons that
+     * satisfy {@code predicate}, in order of relevance if {@code predicate} is ranked.
+     * @throws NullPointerException if {@code predicate} or {@code matches} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, List<Person> matches);
+
+    /**
+     * Returns the persons that satisfy {@code predicate}, in order of relevance if {@code predicate} is ranked,
+     * without changing the filtered person list.
+     * May be called off the JavaFX application thread, but the result is only valid if the address book
+     * modification count is the same before and after the call.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    List<Person> findPersons(Predicate<Person> predicate);
+
+    /**
+     * Returns the persons that satisfy {@code predicate}, as by {@link #findPersons(Predicate)}, but only caches
+     * the search if {@code isCached} is true. Searches that are unlikely to be repeated, such as those previewed
+     * while a command is typed, are not cached, so that they do not push repeated searches out of the cache.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    List<Person> findPersons(Predicate<Person> predicate, boolean isCached);
+
+    /**
+     * Returns how the persons that satisfy {@code predicate} are found, one step per line.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    String explainSearch(Predicate<Person> predicate);
 }
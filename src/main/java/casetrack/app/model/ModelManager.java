@@ -4,14 +4,20 @@ import static casetrack.app.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import casetrack.app.commons.core.GuiSettings;
 import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.model.index.RankedPredicate;
 import casetrack.app.model.person.Person;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -22,6 +28,7 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -34,6 +41,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -87,6 +95,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -118,17 +131,58 @@ public class ModelManager implements Model {
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, ordered by relevance after a ranked search and as in the address book otherwise.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
+            sortedPersons.setComparator(null);
+            filteredPersons.setPredicate(predicate);
+            return;
+        }
+        updateFilteredPersonList(predicate, findPersons(predicate));
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, List<Person> matches) {
+        requireAllNonNull(predicate, matches);
+        // the filtered list tests every person, so it is given the matches to look up by ID.
+        // Persons added or edited later are tested with the predicate itself instead. Edited persons keep their ID,
+        // and so their rank, while persons added later have none and go last.
+        Map<Integer, Integer> ranks = new HashMap<>();
+        for (Person match : matches) {
+            ranks.put(match.getId(), ranks.size());
+        }
+        long modificationCount = addressBook.getModificationCount();
+        filteredPersons.setPredicate(person -> addressBook.getModificationCount() == modificationCount
+                ? ranks.containsKey(person.getId())
+                : predicate.test(person));
+        sortedPersons.setComparator(predicate instanceof RankedPredicate
+                ? Comparator.comparingInt(person -> ranks.getOrDefault(person.getId(), Integer.MAX_VALUE))
+                : null);
+    }
+
+    @Override
+    public List<Person> findPersons(Predicate<Person> predicate) {
+        return findPersons(predicate, true);
+    }
+
+    @Override
+    public List<Person> findPersons(Predicate<Person> predicate, boolean isCached) {
+        requireNonNull(predicate);
+        return addressBook.findPersons(predicate, isCached);
+    }
+
+    @Override
+    public String explainSearch(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return addressBook.explain(predicate);
     }
 
     @Override
@@ -145,7 +199,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && sortedPersons.equals(otherModelManager.sortedPersons);
     }
 
 }
@@ -1,5 +1,8 @@
 package casetrack.app.model;
 
+import java.util.Optional;
+
+import casetrack.app.model.index.ReadOnlyColumnStore;
 import casetrack.app.model.person.Person;
 import javafx.collections.ObservableList;
 
@@ -14,4 +17,12 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the columns of the fields of the persons, for summaries that scan every person, if they are kept.
+     * The columns are kept up to date as the persons change.
+     */
+    default Optional<ReadOnlyColumnStore> getColumnStore() {
+        return Optional.empty();
+    }
+
 }
@@ -3,6 +3,7 @@ package casetrack.app.model;
 import java.nio.file.Path;
 
 import casetrack.app.commons.core.GuiSettings;
+import casetrack.app.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    StorageFormat getAddressBookFormat();
+
 }
@@ -0,0 +1,149 @@
+package casetrack.app.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A BK-tree of words, which finds the words within an edit distance of a query word without comparing the
+ * query with every word.
+ * Each child of a node is keyed by its distance from the node, so by the triangle inequality only the children
+ * keyed within the edit distance of the query's distance from the node can hold matches.
+ */
+public class BkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code word} to the tree, if it is not already in it.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = distance(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.getChild(distance);
+            if (child == null) {
+                node.setChild(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the words within {@code maxDistance} edits of {@code query}, with their distances from it.
+     */
+    public Map<String, Integer> search(String query, int maxDistance) {
+        requireNonNull(query);
+        Map<String, Integer> matches = new HashMap<>();
+        if (root == null) {
+            return matches;
+        }
+
+        DistanceCalculator calculator = new DistanceCalculator(query);
+        Deque<Node> nodes = new ArrayDeque<>();
+        nodes.push(root);
+        while (!nodes.isEmpty()) {
+            Node node = nodes.pop();
+            int distance = calculator.distanceTo(node.word);
+            if (distance <= maxDistance) {
+                matches.put(node.word, distance);
+            }
+            int lastChild = Math.min(distance + maxDistance, node.children.length - 1);
+            for (int childDistance = Math.max(1, distance - maxDistance); childDistance <= lastChild;
+                    childDistance++) {
+                Node child = node.children[childDistance];
+                if (child != null) {
+                    nodes.push(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}: the fewest insertions, deletions
+     * and substitutions of single characters that turn one into the other.
+     */
+    public static int distance(String first, String second) {
+        return new DistanceCalculator(first).distanceTo(second);
+    }
+
+    /**
+     * Computes the distances from one word to others, reusing the rows of the dynamic programming table.
+     */
+    private static class DistanceCalculator {
+        private final String word;
+        private int[] previous;
+        private int[] current;
+
+        private DistanceCalculator(String word) {
+            this.word = word;
+            this.previous = new int[word.length() + 1];
+            this.current = new int[word.length() + 1];
+        }
+
+        private int distanceTo(String other) {
+            int length = word.length();
+            for (int j = 0; j <= length; j++) {
+                previous[j] = j;
+            }
+            for (int i = 1; i <= other.length(); i++) {
+                char otherCharacter = other.charAt(i - 1);
+                current[0] = i;
+                for (int j = 1; j <= length; j++) {
+                    int substitution = previous[j - 1] + (word.charAt(j - 1) == otherCharacter ? 0 : 1);
+                    current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                }
+                int[] swap = previous;
+                previous = current;
+                current = swap;
+            }
+            return previous[length];
+        }
+    }
+
+    private static class Node {
+        private final String word;
+        /** The child at each distance from this node's word, or null if there is none. */
+        private Node[] children = new Node[0];
+
+        private Node(String word) {
+            this.word = word;
+        }
+
+        private Node getChild(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        private void setChild(int distance, Node child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package casetrack.app.model.index;
+
+import static casetrack.app.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import casetrack.app.model.person.Person;
+import casetrack.app.model.tag.Tag;
+
+/**
+ * Keeps the fields of persons that summaries scan in columns, with the fields of the person with each ordinal at
+ * that position of each column. A scan then reads consecutive primitives instead of following the references of
+ * every person across the heap.
+ *
+ * Incomes are kept in cents and notes as their number, in primitive arrays. Tags are encoded as their positions in
+ * a dictionary of the tags that persons in the store have, and names are kept in lower case. The rows of removed
+ * persons are cleared, and are filled again when their ordinals are reused.
+ */
+public class ColumnStore implements PersonIndex, ReadOnlyColumnStore {
+
+    public static final String MESSAGE_UNSORTED_BOUNDS = "Income bounds must be in ascending order.";
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int[] NO_TAGS = new int[0];
+
+    /** Ordinals of the rows that hold a person. */
+    private final BitSet rows = new BitSet();
+    private long[] incomeCents = new long[INITIAL_CAPACITY];
+    private int[] noteCounts = new int[INITIAL_CAPACITY];
+    /** Codes of the tags of each person, or null if the row holds no person. */
+    private int[][] tagCodes = new int[INITIAL_CAPACITY][];
+    /** Name of each person in lower case, or null if the row holds no person. */
+    private String[] lowerCaseNames = new String[INITIAL_CAPACITY];
+
+    /**
+     * Tags that persons in the store have, at the position of their codes, or null at codes not in use. A tag is
+     * dropped once no person has it, so that the store does not keep it from being collected.
+     */
+    private final List<Tag> tagDictionary = new ArrayList<>();
+    private final Map<Tag, Integer> tagCodesByTag = new HashMap<>();
+    /** Number of persons with the tag of each code. */
+    private int[] tagUseCounts = new int[INITIAL_CAPACITY];
+    private final Deque<Integer> freeTagCodes = new ArrayDeque<>();
+
+    /**
+     * Returns a {@code ColumnStore} of {@code persons}, with the ordinals of their positions in the list.
+     */
+    public static ColumnStore of(List<Person> persons) {
+        requireNonNull(persons);
+        ColumnStore columns = new ColumnStore();
+        for (int ordinal = 0; ordinal < persons.size(); ordinal++) {
+            columns.add(ordinal, persons.get(ordinal));
+        }
+        return columns;
+    }
+
+    @Override
+    public void add(int ordinal, Person person) {
+        ensureCapacity(ordinal + 1);
+        setRow(ordinal, person);
+        rows.set(ordinal);
+    }
+
+    @Override
+    public void remove(int ordinal, Person person) {
+        releaseTags(tagCodes[ordinal]);
+        rows.clear(ordinal);
+        incomeCents[ordinal] = 0;
+        noteCounts[ordinal] = 0;
+        tagCodes[ordinal] = null;
+        lowerCaseNames[ordinal] = null;
+    }
+
+    /**
+     * Overwrites the row of the person in place.
+     */
+    @Override
+    public void update(int ordinal, Person person, Person editedPerson) {
+        int[] codes = tagCodes[ordinal];
+        setRow(ordinal, editedPerson);
+        // the tags of the edited person are encoded first, so that the codes of tags it keeps stay in use
+        releaseTags(codes);
+    }
+
+    @Override
+    public void clear() {
+        rows.clear();
+        incomeCents = new long[INITIAL_CAPACITY];
+        noteCounts = new int[INITIAL_CAPACITY];
+        tagCodes = new int[INITIAL_CAPACITY][];
+        lowerCaseNames = new String[INITIAL_CAPACITY];
+        tagDictionary.clear();
+        tagCodesByTag.clear();
+        tagUseCounts = new int[INITIAL_CAPACITY];
+        freeTagCodes.clear();
+    }
+
+    @Override
+    public int size() {
+        return rows.cardinality();
+    }
+
+    @Override
+    public BigInteger getTotalIncomeCents() {
+        // cleared rows hold no income, so every row up to the last person is summed
+        int end = rows.length();
+        try {
+            long total = 0;
+            for (int row = 0; row < end; row++) {
+                total = Math.addExact(total, incomeCents[row]);
+            }
+            return BigInteger.valueOf(total);
+        } catch (ArithmeticException e) {
+            // the total is beyond a long, which takes far more persons than a caseload has
+            BigInteger total = BigInteger.ZERO;
+            for (int row = 0; row < end; row++) {
+                total = total.add(BigInteger.valueOf(incomeCents[row]));
+            }
+            return total;
+        }
+    }
+
+    @Override
+    public int[] countIncomes(long... upperBoundsCents) {
+        requireNonNull(upperBoundsCents);
+        for (int i = 1; i < upperBoundsCents.length; i++) {
+            checkArgument(upperBoundsCents[i - 1] <= upperBoundsCents[i], MESSAGE_UNSORTED_BOUNDS);
+        }
+
+        int[] counts = new int[upperBoundsCents.length + 1];
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            long cents = incomeCents[row];
+            int range = 0;
+            while (range < upperBoundsCents.length && cents >= upperBoundsCents[range]) {
+                range++;
+            }
+            counts[range]++;
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<Tag, Integer> countTags() {
+        // the number of persons with each tag is kept up to date as rows change, so no row is scanned
+        Map<Tag, Integer> tagCounts = new LinkedHashMap<>();
+        for (int code = 0; code < tagDictionary.size(); code++) {
+            if (tagUseCounts[code] > 0) {
+                tagCounts.put(tagDictionary.get(code), tagUseCounts[code]);
+            }
+        }
+        return tagCounts;
+    }
+
+    @Override
+    public long getTotalNoteCount() {
+        long total = 0;
+        int end = rows.length();
+        for (int row = 0; row < end; row++) {
+            total += noteCounts[row];
+        }
+        return total;
+    }
+
+    @Override
+    public int countNamesContaining(String keyword) {
+        requireNonNull(keyword);
+        String lowerCaseKeyword = keyword.toLowerCase();
+        int count = 0;
+        int end = rows.length();
+        for (int row = 0; row < end; row++) {
+            String name = lowerCaseNames[row];
+            if (name != null && name.contains(lowerCaseKeyword)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void setRow(int ordinal, Person person) {
+        incomeCents[ordinal] = person.getIncome().getCents();
+        noteCounts[ordinal] = person.getNotes().size();
+        tagCodes[ordinal] = encodeTags(person.getTags());
+        lowerCaseNames[ordinal] = person.getName().getLowerCaseName();
+    }
+
+    private int[] encodeTags(Set<Tag> tags) {
+        if (tags.isEmpty()) {
+            return NO_TAGS;
+        }
+        int[] codes = new int[tags.size()];
+        int i = 0;
+        for (Tag tag : tags) {
+            int code = tagCodesByTag.computeIfAbsent(tag, this::addToDictionary);
+            tagUseCounts[code]++;
+            codes[i++] = code;
+        }
+        return codes;
+    }
+
+    private int addToDictionary(Tag tag) {
+        if (!freeTagCodes.isEmpty()) {
+            int code = freeTagCodes.pop();
+            tagDictionary.set(code, tag);
+            return code;
+        }
+        tagDictionary.add(tag);
+        int code = tagDictionary.size() - 1;
+        if (code == tagUseCounts.length) {
+            tagUseCounts = Arrays.copyOf(tagUseCounts, code * 2);
+        }
+        return code;
+    }
+
+    /**
+     * Drops the tags with the given {@code codes} from the dictionary if no other person has them.
+     */
+    private void releaseTags(int[] codes) {
+        if (codes == null) {
+            return;
+        }
+        for (int code : codes) {
+            if (--tagUseCounts[code] == 0) {
+                tagCodesByTag.remove(tagDictionary.set(code, null));
+                freeTagCodes.push(code);
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= incomeCents.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, incomeCents.length * 2);
+        incomeCents = Arrays.copyOf(incomeCents, newCapacity);
+        noteCounts = Arrays.copyOf(noteCounts, newCapacity);
+        tagCodes = Arrays.copyOf(tagCodes, newCapacity);
+        lowerCaseNames = Arrays.copyOf(lowerCaseNames, newCapacity);
+    }
+}
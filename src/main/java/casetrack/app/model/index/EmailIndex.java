@@ -0,0 +1,14 @@
+package casetrack.app.model.index;
+
+import casetrack.app.model.person.Person;
+
+/**
+ * Indexes persons by the trigrams of their lower-cased email addresses, for {@code EmailContainsKeywordsPredicate}.
+ */
+public class EmailIndex extends TrigramIndex {
+
+    @Override
+    protected String getValue(Person person) {
+        return person.getEmail().getLowerCaseValue();
+    }
+}
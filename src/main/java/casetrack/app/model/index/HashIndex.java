@@ -0,0 +1,79 @@
+package casetrack.app.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import casetrack.app.model.person.Person;
+
+/**
+ * Indexes persons by keys derived from one of their fields, so that the persons with a given key are found in
+ * constant time.
+ */
+public abstract class HashIndex implements PersonIndex {
+
+    private final Map<String, PostingList> postingLists = new HashMap<>();
+
+    /**
+     * Returns the keys that {@code person} can be looked up by.
+     */
+    protected abstract Collection<String> getKeys(Person person);
+
+    @Override
+    public void add(int ordinal, Person person) {
+        for (String key : getKeys(person)) {
+            postingLists.computeIfAbsent(key, unused -> new PostingList()).add(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(int ordinal, Person person) {
+        for (String key : getKeys(person)) {
+            PostingList postingList = postingLists.get(key);
+            postingList.remove(ordinal);
+            if (postingList.isEmpty()) {
+                postingLists.remove(key);
+            }
+        }
+    }
+
+    @Override
+    public void update(int ordinal, Person person, Person editedPerson) {
+        Collection<String> keys = getKeys(person);
+        Collection<String> editedKeys = getKeys(editedPerson);
+        if (!keys.equals(editedKeys)) {
+            remove(ordinal, person);
+            add(ordinal, editedPerson);
+        }
+    }
+
+    @Override
+    public void clear() {
+        postingLists.clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons with the given {@code key}.
+     */
+    public BitSet get(String key) {
+        requireNonNull(key);
+        BitSet persons = new BitSet();
+        PostingList postingList = postingLists.get(key);
+        if (postingList != null) {
+            for (int i = 0; i < postingList.size(); i++) {
+                persons.set(postingList.get(i));
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the number of distinct keys in the index.
+     */
+    public int size() {
+        return postingLists.size();
+    }
+}
@@ -0,0 +1,68 @@
+package casetrack.app.model.index;
+
+import java.util.BitSet;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import casetrack.app.model.person.Person;
+
+/**
+ * Indexes persons by income, keeping the ordinals of the persons with each income in a map sorted by income.
+ * A range of incomes is found in O(log n + k) time, where k is the number of distinct incomes in the range.
+ */
+public class IncomeIndex implements PersonIndex {
+
+    /** Ordinals of the persons with each income, keyed by the income in cents. */
+    private final NavigableMap<Long, PostingList> postingLists = new TreeMap<>();
+
+    @Override
+    public void add(int ordinal, Person person) {
+        postingLists.computeIfAbsent(person.getIncome().getCents(), unused -> new PostingList()).add(ordinal);
+    }
+
+    @Override
+    public void remove(int ordinal, Person person) {
+        long income = person.getIncome().getCents();
+        PostingList postingList = postingLists.get(income);
+        postingList.remove(ordinal);
+        if (postingList.isEmpty()) {
+            postingLists.remove(income);
+        }
+    }
+
+    @Override
+    public void update(int ordinal, Person person, Person editedPerson) {
+        if (!person.getIncome().equals(editedPerson.getIncome())) {
+            remove(ordinal, person);
+            add(ordinal, editedPerson);
+        }
+    }
+
+    @Override
+    public void clear() {
+        postingLists.clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons with an income from {@code minCents} to {@code maxCents} cents inclusive.
+     */
+    public BitSet getPersonsInRange(long minCents, long maxCents) {
+        BitSet persons = new BitSet();
+        if (minCents > maxCents) {
+            return persons;
+        }
+        for (PostingList postingList : postingLists.subMap(minCents, true, maxCents, true).values()) {
+            for (int i = 0; i < postingList.size(); i++) {
+                persons.set(postingList.get(i));
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the number of distinct incomes in the index.
+     */
+    public int size() {
+        return postingLists.size();
+    }
+}
@@ -0,0 +1,27 @@
+package casetrack.app.model.index;
+
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import casetrack.app.model.person.Person;
+
+/**
+ * A {@code Predicate<Person>} that can use a {@code SearchIndex} to narrow down the persons it has to test.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the ordinals of the persons in {@code searchIndex} that may satisfy this predicate,
+     * or an empty {@code Optional} if the indexes cannot narrow them down.
+     * Every person that satisfies the predicate must be a candidate, but not every candidate has to satisfy it.
+     */
+    Optional<BitSet> getCandidates(SearchIndex searchIndex);
+
+    /**
+     * Returns true if every candidate satisfies this predicate, so that the candidates need not be tested.
+     */
+    default boolean hasExactCandidates() {
+        return false;
+    }
+}
@@ -0,0 +1,110 @@
+package casetrack.app.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import casetrack.app.model.person.Person;
+
+/**
+ * Indexes persons by the words in their names, and finds the words within an edit distance of a keyword with a
+ * {@code BkTree}, so that misspelt names can be found without comparing the keyword with every name.
+ * Words are lower-cased runs of letters and digits with at least one letter; numbers in names are not indexed.
+ */
+public class NameTokenIndex implements PersonIndex {
+
+    private final Map<String, PostingList> postingLists = new HashMap<>();
+    /**
+     * The indexed words. Words no person has any more are left in the tree and skipped when searching, until they
+     * make up half of it and the tree is rebuilt.
+     */
+    private BkTree words = new BkTree();
+
+    /**
+     * Returns the distinct words in {@code name} that are indexed.
+     */
+    public static Set<String> tokenize(String name) {
+        return NoteTokenIndex.tokenize(name).stream()
+                .filter(token -> token.chars().anyMatch(Character::isLetter))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void add(int ordinal, Person person) {
+        for (String token : tokenize(person.getName().fullName)) {
+            postingLists.computeIfAbsent(token, unused -> {
+                words.add(token);
+                return new PostingList();
+            }).add(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(int ordinal, Person person) {
+        for (String token : tokenize(person.getName().fullName)) {
+            PostingList postingList = postingLists.get(token);
+            postingList.remove(ordinal);
+            if (postingList.isEmpty()) {
+                postingLists.remove(token);
+            }
+        }
+
+        if (words.size() > 2 * postingLists.size()) {
+            words = new BkTree();
+            postingLists.keySet().forEach(words::add);
+        }
+    }
+
+    @Override
+    public void update(int ordinal, Person person, Person editedPerson) {
+        if (!person.getName().equals(editedPerson.getName())) {
+            remove(ordinal, person);
+            add(ordinal, editedPerson);
+        }
+    }
+
+    @Override
+    public void clear() {
+        postingLists.clear();
+        words = new BkTree();
+    }
+
+    /**
+     * Returns the indexed words within {@code maxDistance} edits of {@code keyword}, with their distances from it.
+     */
+    public Map<String, Integer> getSimilarWords(String keyword, int maxDistance) {
+        requireNonNull(keyword);
+        Map<String, Integer> similarWords = words.search(keyword, maxDistance);
+        similarWords.keySet().retainAll(postingLists.keySet());
+        return similarWords;
+    }
+
+    /**
+     * Returns the ordinals of the persons with any of {@code tokens} in their names.
+     */
+    public BitSet getPersonsWithAnyOf(Iterable<String> tokens) {
+        requireNonNull(tokens);
+        BitSet persons = new BitSet();
+        for (String token : tokens) {
+            PostingList postingList = postingLists.get(token);
+            if (postingList == null) {
+                continue;
+            }
+            for (int i = 0; i < postingList.size(); i++) {
+                persons.set(postingList.get(i));
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the number of distinct words in the names of the persons in the index.
+     */
+    public int size() {
+        return postingLists.size();
+    }
+}
@@ -0,0 +1,204 @@
+package casetrack.app.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
+
+/**
+ * An inverted index of the words in the notes of persons, which ranks the persons matching a search by
+ * BM25 relevance.
+ * A word is a run of letters and digits, compared ignoring case.
+ */
+public class NoteTokenIndex implements PersonIndex {
+
+    /** BM25 term frequency saturation. */
+    public static final double K1 = 1.2;
+    /** BM25 note length normalisation. */
+    public static final double B = 0.75;
+
+    private final Map<String, PostingList> postingLists = new HashMap<>();
+    /** Number of times each token appears in the notes of the person with each ordinal, or null if not indexed. */
+    private final List<Map<String, Integer>> tokenCounts = new ArrayList<>();
+    /** Number of tokens in the notes of the person with each ordinal. */
+    private final List<Integer> tokenTotals = new ArrayList<>();
+    private int personCount;
+    private long tokenTotal;
+
+    /**
+     * Returns the lower-cased words in {@code text}, in order.
+     */
+    public static List<String> tokenize(String text) {
+        requireNonNull(text);
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordCharacter && start < 0) {
+                start = i;
+            } else if (!isWordCharacter && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    @Override
+    public void add(int ordinal, Person person) {
+        Map<String, Integer> counts = countTokens(person);
+        for (String token : counts.keySet()) {
+            postingLists.computeIfAbsent(token, unused -> new PostingList()).add(ordinal);
+        }
+        setTokenCounts(ordinal, counts);
+    }
+
+    @Override
+    public void remove(int ordinal, Person person) {
+        Map<String, Integer> counts = getTokenCounts(ordinal);
+        for (String token : counts.keySet()) {
+            removeFromPostingList(token, ordinal);
+        }
+        setTokenCounts(ordinal, null);
+    }
+
+    /**
+     * Updates only the posting lists of the tokens that were added to or removed from the person's notes,
+     * so that adding or editing one note does not reindex all of them.
+     */
+    @Override
+    public void update(int ordinal, Person person, Person editedPerson) {
+        if (person.getNotes().equals(editedPerson.getNotes())) {
+            return;
+        }
+
+        Map<String, Integer> counts = getTokenCounts(ordinal);
+        Map<String, Integer> editedCounts = countTokens(editedPerson);
+        for (String token : counts.keySet()) {
+            if (!editedCounts.containsKey(token)) {
+                removeFromPostingList(token, ordinal);
+            }
+        }
+        for (String token : editedCounts.keySet()) {
+            if (!counts.containsKey(token)) {
+                postingLists.computeIfAbsent(token, unused -> new PostingList()).add(ordinal);
+            }
+        }
+        setTokenCounts(ordinal, null);
+        setTokenCounts(ordinal, editedCounts);
+    }
+
+    @Override
+    public void clear() {
+        postingLists.clear();
+        tokenCounts.clear();
+        tokenTotals.clear();
+        personCount = 0;
+        tokenTotal = 0;
+    }
+
+    /**
+     * Returns the ordinals of the persons with notes containing any of {@code tokens}.
+     */
+    public BitSet getCandidates(Set<String> tokens) {
+        requireNonNull(tokens);
+        BitSet candidates = new BitSet();
+        for (String token : tokens) {
+            PostingList postingList = postingLists.get(token);
+            if (postingList == null) {
+                continue;
+            }
+            for (int i = 0; i < postingList.size(); i++) {
+                candidates.set(postingList.get(i));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the BM25 relevance of the notes of the person with the given {@code ordinal} to {@code tokens}.
+     * Tokens that are rarer across all persons count for more, as do tokens that make up more of the person's notes.
+     */
+    public double getScore(Set<String> tokens, int ordinal) {
+        requireNonNull(tokens);
+        Map<String, Integer> counts = getTokenCounts(ordinal);
+        if (counts.isEmpty()) {
+            return 0;
+        }
+
+        double averageLength = (double) tokenTotal / personCount;
+        double lengthNormalisation = 1 - B + B * tokenTotals.get(ordinal) / averageLength;
+        double score = 0;
+        for (String token : tokens) {
+            Integer count = counts.get(token);
+            if (count == null) {
+                continue;
+            }
+            int personsWithToken = postingLists.get(token).size();
+            double inverseFrequency = Math.log(1 + (personCount - personsWithToken + 0.5) / (personsWithToken + 0.5));
+            score += inverseFrequency * count * (K1 + 1) / (count + K1 * lengthNormalisation);
+        }
+        return score;
+    }
+
+    /**
+     * Returns the number of distinct tokens in the index.
+     */
+    public int size() {
+        return postingLists.size();
+    }
+
+    private static Map<String, Integer> countTokens(Person person) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Note note : person.getNotes()) {
+            for (String token : note.getTokens()) {
+                counts.merge(token, 1, Integer::sum);
+            }
+        }
+        return counts.isEmpty() ? Map.of() : counts;
+    }
+
+    private Map<String, Integer> getTokenCounts(int ordinal) {
+        Map<String, Integer> counts = ordinal < tokenCounts.size() ? tokenCounts.get(ordinal) : null;
+        return counts == null ? Map.of() : counts;
+    }
+
+    /**
+     * Records {@code counts} as the token counts of the ordinal, or forgets them if {@code counts} is null,
+     * keeping the totals used for the average note length up to date.
+     */
+    private void setTokenCounts(int ordinal, Map<String, Integer> counts) {
+        while (tokenCounts.size() <= ordinal) {
+            tokenCounts.add(null);
+            tokenTotals.add(0);
+        }
+
+        if (tokenCounts.get(ordinal) != null) {
+            personCount--;
+            tokenTotal -= tokenTotals.get(ordinal);
+        }
+
+        int total = counts == null ? 0 : counts.values().stream().mapToInt(Integer::intValue).sum();
+        tokenCounts.set(ordinal, counts);
+        tokenTotals.set(ordinal, total);
+        if (counts != null) {
+            personCount++;
+            tokenTotal += total;
+        }
+    }
+
+    private void removeFromPostingList(String token, int ordinal) {
+        PostingList postingList = postingLists.get(token);
+        postingList.remove(ordinal);
+        if (postingList.isEmpty()) {
+            postingLists.remove(token);
+        }
+    }
+}
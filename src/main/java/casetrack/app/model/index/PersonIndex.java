@@ -0,0 +1,33 @@
+package casetrack.app.model.index;
+
+import casetrack.app.model.person.Person;
+
+/**
+ * An index over the persons in a {@code SearchIndex}, kept up to date as persons are added and removed.
+ * Persons are identified by their ordinal, which is given by the {@code SearchIndex}.
+ */
+public interface PersonIndex {
+
+    /**
+     * Adds {@code person}, which has the given {@code ordinal}, to the index.
+     */
+    void add(int ordinal, Person person);
+
+    /**
+     * Removes {@code person}, which has the given {@code ordinal}, from the index.
+     */
+    void remove(int ordinal, Person person);
+
+    /**
+     * Replaces {@code person}, which has the given {@code ordinal}, with {@code editedPerson} in the index.
+     */
+    default void update(int ordinal, Person person, Person editedPerson) {
+        remove(ordinal, person);
+        add(ordinal, editedPerson);
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    void clear();
+}
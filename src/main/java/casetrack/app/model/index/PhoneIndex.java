@@ -0,0 +1,39 @@
+package casetrack.app.model.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.Phone;
+
+/**
+ * Indexes persons by the digits of their phone numbers.
+ * A person is indexed by every run of at least {@link #FULL_NUMBER_MIN_DIGITS} consecutive digits of its normalised
+ * phone number, so a full number finds the phones that contain it, such as {@code 91234567} and {@code 6591234567}
+ * finding {@code +65 91234567}. Local numbers have a single key, and the longest numbers at most 91.
+ */
+public class PhoneIndex extends HashIndex {
+
+    /** Number of digits in a local Singapore phone number, the shortest number that is looked up in full. */
+    public static final int FULL_NUMBER_MIN_DIGITS = 8;
+
+    /**
+     * Returns true if {@code number} is a valid phone number with enough digits to be looked up in the index.
+     */
+    public static boolean isFullNumber(String number) {
+        return Phone.isValidPhone(number) && Phone.normalize(number).length() >= FULL_NUMBER_MIN_DIGITS;
+    }
+
+    @Override
+    protected Collection<String> getKeys(Person person) {
+        String number = person.getPhone().getNormalizedValue();
+        List<String> keys = new ArrayList<>();
+        for (int start = 0; start + FULL_NUMBER_MIN_DIGITS <= number.length(); start++) {
+            for (int end = start + FULL_NUMBER_MIN_DIGITS; end <= number.length(); end++) {
+                keys.add(number.substring(start, end));
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,74 @@
+package casetrack.app.model.index;
+
+import java.util.Arrays;
+
+/**
+ * A set of person ordinals kept in ascending order in a growable {@code int} array.
+ * Ordinals are mostly added in ascending order, in which case adding one appends it to the array.
+ */
+public class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] ordinals = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds {@code ordinal} to the list, if it is not already in it.
+     */
+    public void add(int ordinal) {
+        assert ordinal >= 0;
+        int position = size;
+        if (size > 0 && ordinals[size - 1] >= ordinal) {
+            position = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+        }
+
+        if (size == ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, size * 2);
+        }
+        System.arraycopy(ordinals, position, ordinals, position + 1, size - position);
+        ordinals[position] = ordinal;
+        size++;
+    }
+
+    /**
+     * Removes {@code ordinal} from the list, if it is in it.
+     */
+    public void remove(int ordinal) {
+        int position = Arrays.binarySearch(ordinals, 0, size, ordinal);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(ordinals, position + 1, ordinals, position, size - position - 1);
+        size--;
+    }
+
+    public boolean contains(int ordinal) {
+        return Arrays.binarySearch(ordinals, 0, size, ordinal) >= 0;
+    }
+
+    /**
+     * Returns the ordinal at {@code position} in ascending order.
+     */
+    public int get(int position) {
+        assert position >= 0 && position < size;
+        return ordinals[position];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOf(ordinals, size));
+    }
+}
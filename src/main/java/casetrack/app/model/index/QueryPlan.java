@@ -0,0 +1,103 @@
+package casetrack.app.model.index;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import casetrack.app.model.person.Person;
+
+/**
+ * A step in the evaluation of a search, as planned by {@code QueryPlanner}.
+ * A step narrows the persons down to its candidates with the indexes, and leaves the residual predicate for
+ * the candidates to be tested with. A step that cannot use the indexes tests every person.
+ */
+public class QueryPlan {
+
+    private final String operation;
+    private final String description;
+    private final BitSet candidates;
+    private final int estimatedCardinality;
+    private final Predicate<Person> residual;
+    private final List<QueryPlan> steps;
+
+    /**
+     * Creates a step that performs {@code operation} on {@code description}, following {@code steps} in order.
+     *
+     * @param candidates the ordinals of the persons that may match, or null if every person may match.
+     * @param personCount the number of persons in the search index.
+     * @param residual the predicate the candidates still have to satisfy, or null if every candidate matches.
+     */
+    public QueryPlan(String operation, String description, BitSet candidates, int personCount,
+            Predicate<Person> residual, List<QueryPlan> steps) {
+        this.operation = operation;
+        this.description = description;
+        this.candidates = candidates;
+        this.estimatedCardinality = candidates == null ? personCount : candidates.cardinality();
+        this.residual = residual;
+        this.steps = List.copyOf(steps);
+    }
+
+    /**
+     * Returns the ordinals of the persons that may match, or an empty {@code Optional} if every person may match.
+     */
+    public Optional<BitSet> getCandidates() {
+        return Optional.ofNullable(candidates);
+    }
+
+    /**
+     * Returns the predicate the candidates still have to satisfy, or an empty {@code Optional} if every candidate
+     * matches.
+     */
+    public Optional<Predicate<Person>> getResidual() {
+        return Optional.ofNullable(residual);
+    }
+
+    /**
+     * Returns true if the candidates are exactly the persons that match.
+     */
+    public boolean isExact() {
+        return candidates != null && residual == null;
+    }
+
+    /**
+     * Returns the number of persons this step leaves to be tested or returned, which is at least the number
+     * of persons that match.
+     */
+    public int getEstimatedCardinality() {
+        return estimatedCardinality;
+    }
+
+    public List<QueryPlan> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Returns a description of this step and the steps it follows, one per line, indented by depth.
+     */
+    public String explain() {
+        StringBuilder builder = new StringBuilder();
+        explain(builder, 0);
+        return builder.toString().stripTrailing();
+    }
+
+    private void explain(StringBuilder builder, int depth) {
+        builder.append("  ".repeat(depth)).append(operation);
+        if (!description.isEmpty()) {
+            builder.append(' ').append(description);
+        }
+        builder.append(" (est. ").append(estimatedCardinality).append(candidates == null ? " tested" : " candidates");
+        if (isExact()) {
+            builder.append(", exact");
+        }
+        builder.append(")\n");
+        for (QueryPlan step : steps) {
+            step.explain(builder, depth + 1);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return explain();
+    }
+}
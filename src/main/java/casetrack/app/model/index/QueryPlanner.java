@@ -0,0 +1,134 @@
+package casetrack.app.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import casetrack.app.model.person.AndPredicate;
+import casetrack.app.model.person.NotPredicate;
+import casetrack.app.model.person.OrPredicate;
+import casetrack.app.model.person.Person;
+
+/**
+ * Plans how a search is evaluated with a {@code SearchIndex}.
+ * The clauses of an {@code AndPredicate} that can use the indexes are intersected from the most selective,
+ * and only the clauses whose candidates are not exact are tested on the result, most selective first.
+ * {@code OrPredicate}s and {@code NotPredicate}s combine the candidates of their clauses when every clause can
+ * use the indexes, and are tested on every person otherwise.
+ */
+public class QueryPlanner {
+
+    /** Orders steps that narrow the persons down by how many they leave, before steps that test every person. */
+    private static final Comparator<QueryPlan> MOST_SELECTIVE_FIRST = Comparator
+            .comparing((QueryPlan step) -> step.getCandidates().isEmpty())
+            .thenComparingInt(QueryPlan::getEstimatedCardinality);
+
+    /**
+     * Returns the plan for finding the persons in {@code searchIndex} that satisfy {@code predicate}.
+     */
+    public static QueryPlan plan(Predicate<Person> predicate, SearchIndex searchIndex) {
+        requireNonNull(predicate);
+        requireNonNull(searchIndex);
+        if (predicate instanceof AndPredicate) {
+            return planAnd((AndPredicate) predicate, searchIndex);
+        } else if (predicate instanceof OrPredicate) {
+            return planOr((OrPredicate) predicate, searchIndex);
+        } else if (predicate instanceof NotPredicate) {
+            return planNot((NotPredicate) predicate, searchIndex);
+        } else if (predicate instanceof IndexedPredicate) {
+            IndexedPredicate indexedPredicate = (IndexedPredicate) predicate;
+            BitSet candidates = indexedPredicate.getCandidates(searchIndex).orElse(null);
+            boolean isExact = candidates != null && indexedPredicate.hasExactCandidates();
+            return new QueryPlan(candidates == null ? "scan" : "index", describe(predicate), candidates,
+                    searchIndex.size(), isExact ? null : predicate, List.of());
+        }
+        return new QueryPlan("scan", describe(predicate), null, searchIndex.size(), predicate, List.of());
+    }
+
+    /**
+     * Returns true if the candidates of {@code predicate} are exactly the persons that satisfy it.
+     */
+    public static boolean hasExactCandidates(Predicate<Person> predicate) {
+        return predicate instanceof IndexedPredicate && ((IndexedPredicate) predicate).hasExactCandidates();
+    }
+
+    private static QueryPlan planAnd(AndPredicate predicate, SearchIndex searchIndex) {
+        List<QueryPlan> steps = new ArrayList<>();
+        for (Predicate<Person> clause : predicate.getPredicates()) {
+            steps.add(plan(clause, searchIndex));
+        }
+        steps.sort(MOST_SELECTIVE_FIRST);
+
+        BitSet candidates = null;
+        List<Predicate<Person>> residuals = new ArrayList<>();
+        for (QueryPlan step : steps) {
+            if (step.getCandidates().isPresent()) {
+                if (candidates == null) {
+                    candidates = (BitSet) step.getCandidates().get().clone();
+                } else {
+                    candidates.and(step.getCandidates().get());
+                }
+            }
+            step.getResidual().ifPresent(residuals::add);
+        }
+
+        Predicate<Person> residual = residuals.isEmpty() ? null : person -> {
+            for (Predicate<Person> clause : residuals) {
+                if (!clause.test(person)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+        return new QueryPlan("AND", "", candidates, searchIndex.size(), residual, steps);
+    }
+
+    private static QueryPlan planOr(OrPredicate predicate, SearchIndex searchIndex) {
+        List<QueryPlan> steps = new ArrayList<>();
+        for (Predicate<Person> clause : predicate.getPredicates()) {
+            steps.add(plan(clause, searchIndex));
+        }
+
+        BitSet candidates = new BitSet();
+        boolean isExact = true;
+        for (QueryPlan step : steps) {
+            if (step.getCandidates().isEmpty()) {
+                // a clause that matches anyone means the union cannot narrow the persons down
+                candidates = null;
+                break;
+            }
+            candidates.or(step.getCandidates().get());
+            isExact &= step.isExact();
+        }
+        boolean isResidualNeeded = candidates == null || !isExact;
+        return new QueryPlan("OR", "", candidates, searchIndex.size(), isResidualNeeded ? predicate : null, steps);
+    }
+
+    private static QueryPlan planNot(NotPredicate predicate, SearchIndex searchIndex) {
+        QueryPlan step = plan(predicate.getPredicate(), searchIndex);
+        if (!step.isExact()) {
+            // the persons who are not candidates do not match, but the candidates may not match either
+            return new QueryPlan("NOT", "", null, searchIndex.size(), predicate, List.of(step));
+        }
+
+        BitSet candidates = searchIndex.getOrdinals();
+        candidates.andNot(step.getCandidates().get());
+        return new QueryPlan("NOT", "", candidates, searchIndex.size(), null, List.of(step));
+    }
+
+    /**
+     * Returns {@code predicate} as shown in a plan, without the package of its class.
+     */
+    private static String describe(Predicate<Person> predicate) {
+        String description = predicate.toString();
+        String packageName = predicate.getClass().getPackageName();
+        if (!packageName.isEmpty() && description.startsWith(packageName + ".")) {
+            return description.substring(packageName.length() + 1);
+        }
+        return description;
+    }
+}
@@ -0,0 +1,13 @@
+package casetrack.app.model.index;
+
+/**
+ * An {@code IndexedPredicate} whose matches are ordered by their relevance, as scored with a {@code SearchIndex}.
+ */
+public interface RankedPredicate extends IndexedPredicate {
+
+    /**
+     * Returns the relevance of the person with the given {@code ordinal} in {@code searchIndex}.
+     * Persons with higher scores are more relevant.
+     */
+    double getScore(SearchIndex searchIndex, int ordinal);
+}
@@ -0,0 +1,46 @@
+package casetrack.app.model.index;
+
+import java.math.BigInteger;
+import java.util.Map;
+
+import casetrack.app.model.tag.Tag;
+
+/**
+ * Unmodifiable view of a {@code ColumnStore}, which summarises the persons in an address book by scanning columns
+ * of their fields.
+ */
+public interface ReadOnlyColumnStore {
+
+    /**
+     * Returns the number of persons in the store.
+     */
+    int size();
+
+    /**
+     * Returns the total income of all persons, in cents.
+     */
+    BigInteger getTotalIncomeCents();
+
+    /**
+     * Returns the numbers of persons with incomes in the ranges separated by {@code upperBoundsCents}, which must be
+     * in ascending order. The count at index {@code i} is that of the incomes less than {@code upperBoundsCents[i]}
+     * and, if {@code i > 0}, not less than {@code upperBoundsCents[i - 1]}. The last count is that of the incomes not
+     * less than the last bound.
+     */
+    int[] countIncomes(long... upperBoundsCents);
+
+    /**
+     * Returns the number of persons with each tag. Tags that no person has are left out.
+     */
+    Map<Tag, Integer> countTags();
+
+    /**
+     * Returns the total number of notes of all persons.
+     */
+    long getTotalNoteCount();
+
+    /**
+     * Returns the number of persons whose names contain {@code keyword}, ignoring case.
+     */
+    int countNamesContaining(String keyword);
+}
@@ -0,0 +1,175 @@
+package casetrack.app.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+
+import casetrack.app.model.person.Person;
+
+/**
+ * Gives each person in a {@code UniquePersonList} an ordinal, and keeps the {@code PersonIndex}es over them
+ * up to date.
+ * A person keeps its ordinal when it is replaced by an edited version of itself, and the ordinals of removed persons
+ * are reused, so ordinals stay small and do not depend on the order of the list.
+ */
+public class SearchIndex {
+
+    /** The person with each ordinal, or null if the ordinal is not in use. */
+    private final List<Person> persons = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final BitSet ordinalsInUse = new BitSet();
+
+    private final NameTrigramIndex nameIndex = new NameTrigramIndex();
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+    private final NoteTokenIndex noteIndex = new NoteTokenIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private final IncomeIndex incomeIndex = new IncomeIndex();
+    private final PhoneIndex phoneIndex = new PhoneIndex();
+    private final EmailIndex emailIndex = new EmailIndex();
+    private final SearchResultCache resultCache = new SearchResultCache();
+    private final List<PersonIndex> indexes = new ArrayList<>(List.of(nameIndex, nameTokenIndex, noteIndex, tagIndex,
+            incomeIndex, phoneIndex, emailIndex, resultCache));
+    /** Columns of the fields of the persons, or null until they are first requested. */
+    private ColumnStore columnStore;
+
+    /**
+     * Adds {@code person} to the indexes and returns its ordinal.
+     */
+    public int add(Person person) {
+        requireNonNull(person);
+        int ordinal;
+        if (freeOrdinals.isEmpty()) {
+            ordinal = persons.size();
+            persons.add(person);
+        } else {
+            ordinal = freeOrdinals.pop();
+            persons.set(ordinal, person);
+        }
+        ordinalsInUse.set(ordinal);
+
+        for (PersonIndex index : indexes) {
+            index.add(ordinal, person);
+        }
+        return ordinal;
+    }
+
+    /**
+     * Replaces the person with the given {@code ordinal} with {@code editedPerson}, which keeps the ordinal.
+     */
+    public void set(int ordinal, Person editedPerson) {
+        requireNonNull(editedPerson);
+        Person person = persons.set(ordinal, editedPerson);
+        assert person != null;
+
+        for (PersonIndex index : indexes) {
+            index.update(ordinal, person, editedPerson);
+        }
+    }
+
+    /**
+     * Removes the person with the given {@code ordinal} from the indexes.
+     */
+    public void remove(int ordinal) {
+        Person person = persons.set(ordinal, null);
+        assert person != null;
+
+        for (PersonIndex index : indexes) {
+            index.remove(ordinal, person);
+        }
+        ordinalsInUse.clear(ordinal);
+        freeOrdinals.push(ordinal);
+    }
+
+    /**
+     * Removes all persons from the indexes.
+     */
+    public void clear() {
+        persons.clear();
+        freeOrdinals.clear();
+        ordinalsInUse.clear();
+        for (PersonIndex index : indexes) {
+            index.clear();
+        }
+    }
+
+    /**
+     * Returns the person with the given {@code ordinal}, or null if the ordinal is not in use.
+     */
+    public Person getPerson(int ordinal) {
+        return ordinal < persons.size() ? persons.get(ordinal) : null;
+    }
+
+    /**
+     * Returns the number of persons in the index.
+     */
+    public int size() {
+        return persons.size() - freeOrdinals.size();
+    }
+
+    /**
+     * Returns the ordinals of all persons in the index.
+     */
+    public BitSet getOrdinals() {
+        return (BitSet) ordinalsInUse.clone();
+    }
+
+    public NameTrigramIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    public NameTokenIndex getNameTokenIndex() {
+        return nameTokenIndex;
+    }
+
+    public NoteTokenIndex getNoteIndex() {
+        return noteIndex;
+    }
+
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    public IncomeIndex getIncomeIndex() {
+        return incomeIndex;
+    }
+
+    public PhoneIndex getPhoneIndex() {
+        return phoneIndex;
+    }
+
+    public EmailIndex getEmailIndex() {
+        return emailIndex;
+    }
+
+    /**
+     * Returns true if the columns of the fields of the persons have been built.
+     */
+    public boolean hasColumnStore() {
+        return columnStore != null;
+    }
+
+    /**
+     * Returns the columns of the fields of the persons, building them the first time they are requested. From then
+     * on they are kept up to date like the other indexes, so changes only pay for them once they are used.
+     */
+    public ColumnStore getColumnStore() {
+        if (columnStore == null) {
+            ColumnStore columns = new ColumnStore();
+            for (int ordinal = ordinalsInUse.nextSetBit(0); ordinal >= 0;
+                    ordinal = ordinalsInUse.nextSetBit(ordinal + 1)) {
+                columns.add(ordinal, persons.get(ordinal));
+            }
+            indexes.add(columns);
+            columnStore = columns;
+        }
+        return columnStore;
+    }
+
+    public SearchResultCache getResultCache() {
+        return resultCache;
+    }
+}
@@ -0,0 +1,161 @@
+package casetrack.app.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import casetrack.app.model.person.Person;
+
+/**
+ * Remembers the ordinals of the persons matching the most recently used searches, up to a fixed number of searches.
+ * Searches are looked up by their predicate, so predicates that test the same thing must be equal and have the same
+ * hash code.
+ *
+ * The cache is kept up to date as a {@code PersonIndex}. The matches of a search are only changed by the persons
+ * added, edited or removed, so each of them is tested against the cached searches instead of dropping the cache.
+ * The order of the matches of a {@code RankedPredicate} can depend on every person, such as through the number of
+ * notes a word appears in, so those searches are dropped whenever the list changes.
+ *
+ * Searches may be run off the JavaFX application thread, so all methods are synchronized.
+ */
+public class SearchResultCache implements PersonIndex {
+
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private final int capacity;
+    /** The cached searches, from the least recently used. */
+    private final Map<Predicate<Person>, Entry> entries;
+    private long version;
+
+    /**
+     * Creates a cache that holds the matches of at most {@code capacity} searches.
+     */
+    public SearchResultCache(int capacity) {
+        assert capacity > 0;
+        this.capacity = capacity;
+        entries = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Predicate<Person>, Entry> eldest) {
+                return size() > SearchResultCache.this.capacity;
+            }
+        };
+    }
+
+    public SearchResultCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns the number of changes made to the cached persons so far.
+     * Pass it to {@link #put(Predicate, List, long)} along with matches found after calling this method.
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the ordinals of the persons matching {@code predicate}, if its matches are cached.
+     * The ordinals are ordered from the most relevant for a {@code RankedPredicate}, and ascending otherwise.
+     */
+    public synchronized Optional<int[]> get(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        Entry entry = entries.get(predicate);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.rankedOrdinals != null
+                ? entry.rankedOrdinals.clone()
+                : entry.matches.stream().toArray());
+    }
+
+    /**
+     * Caches {@code ordinals} as the matches of {@code predicate}, ordered as they should be returned by
+     * {@link #get(Predicate)}. Nothing is cached if the persons changed after {@code version} was obtained
+     * from {@link #getVersion()}, as the matches may be out of date.
+     */
+    public synchronized void put(Predicate<Person> predicate, List<Integer> ordinals, long version) {
+        requireNonNull(predicate);
+        requireNonNull(ordinals);
+        if (version != this.version) {
+            return;
+        }
+
+        Entry entry = new Entry(predicate);
+        if (predicate instanceof RankedPredicate) {
+            entry.rankedOrdinals = ordinals.stream().mapToInt(Integer::intValue).toArray();
+        } else {
+            for (int ordinal : ordinals) {
+                entry.matches.set(ordinal);
+            }
+        }
+        entries.put(predicate, entry);
+    }
+
+    /**
+     * Returns the number of searches cached.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized void add(int ordinal, Person person) {
+        version++;
+        forEachUnrankedEntry(entry -> entry.matches.set(ordinal, entry.predicate.test(person)));
+    }
+
+    @Override
+    public synchronized void remove(int ordinal, Person person) {
+        version++;
+        forEachUnrankedEntry(entry -> entry.matches.clear(ordinal));
+    }
+
+    @Override
+    public synchronized void update(int ordinal, Person person, Person editedPerson) {
+        version++;
+        forEachUnrankedEntry(entry -> entry.matches.set(ordinal, entry.predicate.test(editedPerson)));
+    }
+
+    @Override
+    public synchronized void clear() {
+        version++;
+        entries.clear();
+    }
+
+    /**
+     * Drops the searches with a {@code RankedPredicate}, and applies {@code action} to the others.
+     */
+    private void forEachUnrankedEntry(Consumer<Entry> action) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.rankedOrdinals != null) {
+                iterator.remove();
+            } else {
+                action.accept(entry);
+            }
+        }
+    }
+
+    /**
+     * The matches of a cached search.
+     */
+    private static class Entry {
+        private final Predicate<Person> predicate;
+        /** Ordinals of the matching persons, kept up to date as persons change. Unused for ranked searches. */
+        private final BitSet matches = new BitSet();
+        /** Ordinals of the matching persons from the most relevant, or null if the search is not ranked. */
+        private int[] rankedOrdinals;
+
+        Entry(Predicate<Person> predicate) {
+            this.predicate = predicate;
+        }
+    }
+}
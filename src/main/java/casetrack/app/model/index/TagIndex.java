@@ -0,0 +1,89 @@
+package casetrack.app.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import casetrack.app.model.person.Person;
+import casetrack.app.model.tag.Tag;
+
+/**
+ * Indexes persons by their tags, keeping a bitmap of the ordinals of the persons with each tag.
+ * There are few distinct tags and ordinals are reused, so the bitmaps stay dense, and searches combine them with
+ * bitwise operations instead of looking at every person.
+ */
+public class TagIndex implements PersonIndex {
+
+    private final Map<Tag, BitSet> bitmaps = new HashMap<>();
+
+    @Override
+    public void add(int ordinal, Person person) {
+        for (Tag tag : person.getTags()) {
+            bitmaps.computeIfAbsent(tag, unused -> new BitSet()).set(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(int ordinal, Person person) {
+        for (Tag tag : person.getTags()) {
+            removeFromBitmap(tag, ordinal);
+        }
+    }
+
+    /**
+     * Updates only the bitmaps of the tags that were added to or removed from the person.
+     */
+    @Override
+    public void update(int ordinal, Person person, Person editedPerson) {
+        Set<Tag> tags = person.getTags();
+        Set<Tag> editedTags = editedPerson.getTags();
+        for (Tag tag : tags) {
+            if (!editedTags.contains(tag)) {
+                removeFromBitmap(tag, ordinal);
+            }
+        }
+        for (Tag tag : editedTags) {
+            if (!tags.contains(tag)) {
+                bitmaps.computeIfAbsent(tag, unused -> new BitSet()).set(ordinal);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        bitmaps.clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons with a tag whose name contains {@code keyword}, ignoring case.
+     */
+    public BitSet getPersonsWithTagContaining(String keyword) {
+        requireNonNull(keyword);
+        String lowerCaseKeyword = keyword.toLowerCase();
+        BitSet persons = new BitSet();
+        for (Map.Entry<Tag, BitSet> entry : bitmaps.entrySet()) {
+            if (entry.getKey().getLowerCaseTagName().contains(lowerCaseKeyword)) {
+                persons.or(entry.getValue());
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the number of distinct tags in the index.
+     */
+    public int size() {
+        return bitmaps.size();
+    }
+
+    private void removeFromBitmap(Tag tag, int ordinal) {
+        BitSet bitmap = bitmaps.get(tag);
+        bitmap.clear(ordinal);
+        if (bitmap.isEmpty()) {
+            bitmaps.remove(tag);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package casetrack.app.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import casetrack.app.model.person.Person;
+
+/**
+ * Indexes persons by the trigrams (substrings of three characters) of one of their lower-cased fields.
+ * A value contains a keyword only if it contains every trigram of the keyword, so the persons whose values have all
+ * of them are the candidates for a case-insensitive substring search.
+ */
+public abstract class TrigramIndex implements PersonIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, PostingList> postingLists = new HashMap<>();
+
+    /**
+     * Returns the lower-cased value of {@code person} that is indexed.
+     */
+    protected abstract String getValue(Person person);
+
+    @Override
+    public void add(int ordinal, Person person) {
+        String value = getValue(person);
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            postingLists.computeIfAbsent(getTrigram(value, i), unused -> new PostingList()).add(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(int ordinal, Person person) {
+        String value = getValue(person);
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            Long trigram = getTrigram(value, i);
+            PostingList postingList = postingLists.get(trigram);
+            if (postingList == null) {
+                continue;
+            }
+            postingList.remove(ordinal);
+            if (postingList.isEmpty()) {
+                postingLists.remove(trigram);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        postingLists.clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons whose values may contain {@code keyword}, ignoring case.
+     * Returns an empty {@code Optional} if {@code keyword} is shorter than a trigram, as every value may contain it.
+     */
+    public Optional<BitSet> getCandidates(String keyword) {
+        requireNonNull(keyword);
+        String normalisedKeyword = normalise(keyword);
+        if (normalisedKeyword.length() < GRAM_LENGTH) {
+            return Optional.empty();
+        }
+
+        List<PostingList> keywordPostingLists = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= normalisedKeyword.length(); i++) {
+            PostingList postingList = postingLists.get(getTrigram(normalisedKeyword, i));
+            if (postingList == null) {
+                return Optional.of(new BitSet());
+            }
+            keywordPostingLists.add(postingList);
+        }
+
+        // walks the shortest posting list, so the cost depends on the rarest trigram rather than on the list size
+        keywordPostingLists.sort(Comparator.comparingInt(PostingList::size));
+        PostingList shortest = keywordPostingLists.get(0);
+        BitSet candidates = new BitSet();
+        for (int i = 0; i < shortest.size(); i++) {
+            int ordinal = shortest.get(i);
+            if (isInAll(ordinal, keywordPostingLists)) {
+                candidates.set(ordinal);
+            }
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns the number of distinct trigrams in the index.
+     */
+    public int size() {
+        return postingLists.size();
+    }
+
+    private static boolean isInAll(int ordinal, List<PostingList> postingLists) {
+        for (int i = 1; i < postingLists.size(); i++) {
+            if (!postingLists.get(i).contains(ordinal)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code value} in the form that is indexed, which matches the case-insensitive comparison of the
+     * {@code ...ContainsKeywordsPredicate}s.
+     */
+    private static String normalise(String value) {
+        return value.toLowerCase();
+    }
+
+    private static Long getTrigram(String value, int start) {
+        return ((long) value.charAt(start) << 32) | ((long) value.charAt(start + 1) << 16) | value.charAt(start + 2);
+    }
+}
@@ -0,0 +1,77 @@
+package casetrack.app.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import casetrack.app.commons.util.ToStringBuilder;
+import casetrack.app.model.index.IndexedPredicate;
+import casetrack.app.model.index.QueryPlanner;
+import casetrack.app.model.index.SearchIndex;
+
+/**
+ * Tests that a {@code Person} satisfies all of the given predicates.
+ */
+public class AndPredicate implements IndexedPredicate {
+    private final List<Predicate<Person>> predicates;
+
+    /**
+     * Creates a predicate that is satisfied by the persons that satisfy every one of {@code predicates}.
+     */
+    public AndPredicate(List<Predicate<Person>> predicates) {
+        requireNonNull(predicates);
+        this.predicates = List.copyOf(predicates);
+    }
+
+    public List<Predicate<Person>> getPredicates() {
+        return predicates;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Predicate<Person> predicate : predicates) {
+            if (!predicate.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<BitSet> getCandidates(SearchIndex searchIndex) {
+        return QueryPlanner.plan(this, searchIndex).getCandidates();
+    }
+
+    @Override
+    public boolean hasExactCandidates() {
+        return predicates.stream().allMatch(QueryPlanner::hasExactCandidates);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AndPredicate)) {
+            return false;
+        }
+
+        AndPredicate otherAndPredicate = (AndPredicate) other;
+        return predicates.equals(otherAndPredicate.predicates);
+    }
+
+    @Override
+    public int hashCode() {
+        return predicates.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicates", predicates).toString();
+    }
+}
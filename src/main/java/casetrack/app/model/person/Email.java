@@ -1,6 +1,7 @@
 package casetrack.app.model.person;
 
 import static casetrack.app.commons.util.AppUtil.checkArgument;
+import static casetrack.app.commons.util.StringUtil.isAsciiAlphanumeric;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -32,6 +33,8 @@ public class Email {
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
 
     public final String value;
+    /** {@code value} in lower case, which searches compare against as emails are not case-sensitive. */
+    private final String lowerCaseValue;
 
     /**
      * Constructs an {@code Email}.
@@ -42,13 +45,79 @@ public class Email {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
+        lowerCaseValue = email.toLowerCase();
     }
 
     /**
-     * Returns if a given string is a valid email.
+     * Returns if a given string is a valid email, which is if it matches {@code VALIDATION_REGEX}.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int at = test.indexOf('@');
+        return at >= 0 && isValidLocalPart(test, at) && isValidDomain(test, at + 1);
+    }
+
+    /**
+     * Returns true if the characters of {@code email} before {@code end} are alphanumeric, separated by single
+     * special characters.
+     */
+    private static boolean isValidLocalPart(String email, int end) {
+        boolean isAfterSeparator = true;
+        for (int i = 0; i < end; i++) {
+            char c = email.charAt(i);
+            if (isAsciiAlphanumeric(c)) {
+                isAfterSeparator = false;
+            } else if (!isAfterSeparator && SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                isAfterSeparator = true;
+            } else {
+                return false;
+            }
+        }
+        return !isAfterSeparator;
+    }
+
+    /**
+     * Returns true if the characters of {@code email} from {@code begin} are domain labels separated by periods.
+     */
+    private static boolean isValidDomain(String email, int begin) {
+        int labelBegin = begin;
+        for (int i = begin; i <= email.length(); i++) {
+            if (i == email.length() || email.charAt(i) == '.') {
+                if (!isValidDomainLabel(email, labelBegin, i, i == email.length())) {
+                    return false;
+                }
+                labelBegin = i + 1;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the characters of {@code email} from {@code begin} to {@code end} are alphanumeric, separated
+     * by single hyphens. The last label must also have two alphanumeric characters in a row, as it is made up of at
+     * least two parts in {@code DOMAIN_LAST_PART_REGEX}.
+     */
+    private static boolean isValidDomainLabel(String email, int begin, int end, boolean isLastLabel) {
+        boolean isAfterHyphen = true;
+        boolean hasAlphanumericPair = false;
+        for (int i = begin; i < end; i++) {
+            char c = email.charAt(i);
+            if (isAsciiAlphanumeric(c)) {
+                hasAlphanumericPair |= !isAfterHyphen;
+                isAfterHyphen = false;
+            } else if (!isAfterHyphen && c == '-') {
+                isAfterHyphen = true;
+            } else {
+                return false;
+            }
+        }
+        return !isAfterHyphen && (!isLastLabel || hasAlphanumericPair);
+    }
+
+    /**
+     * Returns the email in lower case.
+     */
+    public String getLowerCaseValue() {
+        return lowerCaseValue;
     }
 
     @Override
@@ -1,24 +1,66 @@
 package casetrack.app.model.person;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import casetrack.app.commons.util.ToStringBuilder;
+import casetrack.app.model.index.IndexedPredicate;
+import casetrack.app.model.index.SearchIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Email} matches any of the keywords given.
  */
-public class EmailContainsKeywordsPredicate implements Predicate<Person> {
+public class EmailContainsKeywordsPredicate implements IndexedPredicate, RefiningPredicate {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
 
+    /**
+     * Creates a predicate that matches the emails containing any of {@code keywords}, ignoring case.
+     */
     public EmailContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream().map(String::toLowerCase).collect(Collectors.toList());
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> person.getEmail().value.toLowerCase().contains(keyword.toLowerCase()));
+        String email = person.getEmail().getLowerCaseValue();
+        for (String keyword : lowerCaseKeywords) {
+            if (email.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<BitSet> getCandidates(SearchIndex searchIndex) {
+        BitSet candidates = new BitSet();
+        for (String keyword : keywords) {
+            Optional<BitSet> keywordCandidates = searchIndex.getEmailIndex().getCandidates(keyword);
+            if (keywordCandidates.isEmpty()) {
+                return Optional.empty();
+            }
+            candidates.or(keywordCandidates.get());
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns true if {@code other} is also an email search, and each keyword of this search contains a keyword of
+     * {@code other}, ignoring case.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        if (!(other instanceof EmailContainsKeywordsPredicate)) {
+            return false;
+        }
+        List<String> otherKeywords = ((EmailContainsKeywordsPredicate) other).lowerCaseKeywords;
+        return lowerCaseKeywords.stream().allMatch(keyword -> otherKeywords.stream().anyMatch(keyword::contains));
     }
 
     @Override
@@ -33,7 +75,12 @@ public class EmailContainsKeywordsPredicate implements Predicate<Person> {
 
         EmailContainsKeywordsPredicate otherEmailContainsKeywordsPredicate =
                 (EmailContainsKeywordsPredicate) other;
-        return keywords.equals(otherEmailContainsKeywordsPredicate.keywords);
+        return Set.copyOf(lowerCaseKeywords).equals(Set.copyOf(otherEmailContainsKeywordsPredicate.lowerCaseKeywords));
+    }
+
+    @Override
+    public int hashCode() {
+        return Set.copyOf(lowerCaseKeywords).hashCode();
     }
 
     @Override
@@ -0,0 +1,135 @@
+package casetrack.app.model.person;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import casetrack.app.commons.util.ToStringBuilder;
+import casetrack.app.model.index.BkTree;
+import casetrack.app.model.index.NameTokenIndex;
+import casetrack.app.model.index.RankedPredicate;
+import casetrack.app.model.index.SearchIndex;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} has a word within a few edits of any of the keywords given, so that
+ * misspelt names are found. Persons whose names are closer to more of the keywords are more relevant.
+ */
+public class FuzzyNameMatchesPredicate implements RankedPredicate {
+
+    /** The largest edit distance that can be searched for, beyond which most short names match each other. */
+    public static final int MAX_EDIT_DISTANCE = 3;
+
+    private final List<String> keywords;
+    private final OptionalInt maxDistance;
+    private final List<String> keywordTokens = new ArrayList<>();
+    /** Edit distance allowed for the keyword token at the same position. */
+    private final List<Integer> keywordDistances = new ArrayList<>();
+
+    /**
+     * Creates a predicate that matches the names with a word within {@code maxDistance} edits of any of
+     * {@code keywords}, or within a distance that depends on the length of the keyword if {@code maxDistance}
+     * is empty.
+     */
+    public FuzzyNameMatchesPredicate(List<String> keywords, OptionalInt maxDistance) {
+        assert maxDistance.orElse(0) >= 0 && maxDistance.orElse(0) <= MAX_EDIT_DISTANCE;
+        this.keywords = keywords;
+        this.maxDistance = maxDistance;
+        for (String keyword : keywords) {
+            for (String token : NameTokenIndex.tokenize(keyword)) {
+                keywordTokens.add(token);
+                keywordDistances.add(maxDistance.orElse(getDefaultDistance(token)));
+            }
+        }
+    }
+
+    /**
+     * Returns the edit distance allowed for {@code token} by default: none for words of up to two characters,
+     * one for words of up to five and two for longer words.
+     */
+    public static int getDefaultDistance(String token) {
+        if (token.length() <= 2) {
+            return 0;
+        }
+        return token.length() <= 5 ? 1 : 2;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return getScore(person) > 0;
+    }
+
+    @Override
+    public Optional<BitSet> getCandidates(SearchIndex searchIndex) {
+        NameTokenIndex nameTokenIndex = searchIndex.getNameTokenIndex();
+        BitSet candidates = new BitSet();
+        for (int i = 0; i < keywordTokens.size(); i++) {
+            Set<String> similarWords = nameTokenIndex.getSimilarWords(keywordTokens.get(i), keywordDistances.get(i))
+                    .keySet();
+            candidates.or(nameTokenIndex.getPersonsWithAnyOf(similarWords));
+        }
+        return Optional.of(candidates);
+    }
+
+    @Override
+    public boolean hasExactCandidates() {
+        return true;
+    }
+
+    /**
+     * Scores the person by how closely its name matches each keyword: a keyword adds one more than the edits it
+     * is allowed to the score, less the edits its closest word in the name needs.
+     */
+    @Override
+    public double getScore(SearchIndex searchIndex, int ordinal) {
+        return getScore(searchIndex.getPerson(ordinal));
+    }
+
+    private int getScore(Person person) {
+        Set<String> nameTokens = NameTokenIndex.tokenize(person.getName().fullName);
+        int score = 0;
+        for (int i = 0; i < keywordTokens.size(); i++) {
+            int allowedDistance = keywordDistances.get(i);
+            int closestDistance = Integer.MAX_VALUE;
+            for (String nameToken : nameTokens) {
+                // words whose lengths differ by more than the allowed distance cannot be close enough
+                if (Math.abs(nameToken.length() - keywordTokens.get(i).length()) <= allowedDistance) {
+                    closestDistance = Math.min(closestDistance, BkTree.distance(keywordTokens.get(i), nameToken));
+                }
+            }
+            if (closestDistance <= allowedDistance) {
+                score += allowedDistance + 1 - closestDistance;
+            }
+        }
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyNameMatchesPredicate)) {
+            return false;
+        }
+
+        FuzzyNameMatchesPredicate otherFuzzyNameMatchesPredicate = (FuzzyNameMatchesPredicate) other;
+        return keywords.equals(otherFuzzyNameMatchesPredicate.keywords)
+                && maxDistance.equals(otherFuzzyNameMatchesPredicate.maxDistance);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords, maxDistance);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).add("maxDistance", maxDistance).toString();
+    }
+}
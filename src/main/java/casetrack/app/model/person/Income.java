@@ -4,6 +4,8 @@ import static casetrack.app.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
@@ -12,14 +14,29 @@ import java.util.Locale;
 
 /**
  * Represents a Person's income in the address book.
- * Guarantees: immutable; is valid as declared in {@link #isValidIncome(String)}
+ * Guarantees: immutable; is valid as declared in {@link #isValidIncome(String)}, or in
+ * {@link #isValidStoredIncome(String)} if read from a data file with {@link #fromStoredValue(String)}
+ *
+ * The income is kept as a whole number of cents. Amounts with more than two decimal places, which data files saved by
+ * earlier versions may hold, are rounded half-even to the cent when they are read.
  */
 public class Income {
 
     public static final String MESSAGE_CONSTRAINTS =
+            "Income must be a numeric value greater than or equal to 0, with at most 2 decimal places.";
+    public static final String MESSAGE_STORED_CONSTRAINTS =
             "Income must be a numeric value greater than or equal to 0.";
 
-    private final BigDecimal value;
+    private static final int CENTS_PER_DOLLAR = 100;
+    private static final BigDecimal MAX_CENTS = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    /**
+     * Formatter of SGD amounts. Building one takes longer than formatting many amounts, and formatters are not
+     * thread-safe, so each thread builds its own once.
+     */
+    private static final ThreadLocal<NumberFormat> SGD_FORMAT = ThreadLocal.withInitial(Income::createSgdFormat);
+
+    private final long cents;
 
     /**
      * Constructs an {@code Income} from a numeric string.
@@ -27,41 +44,138 @@ public class Income {
      */
     public Income(String income) {
         requireNonNull(income);
-        checkArgument(isValidIncome(income), MESSAGE_CONSTRAINTS);
-        this.value = new BigDecimal(income.trim()).stripTrailingZeros();
+        long parsedCents = parseCents(income.trim(), false);
+        checkArgument(parsedCents >= 0, MESSAGE_CONSTRAINTS);
+        this.cents = parsedCents;
+    }
+
+    private Income(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * Returns the {@code Income} read from a data file, rounded half-even to the cent if it has more than two
+     * decimal places.
+     *
+     * @param income A valid stored income, as declared in {@link #isValidStoredIncome(String)}.
+     */
+    public static Income fromStoredValue(String income) {
+        requireNonNull(income);
+        long parsedCents = parseCents(income.trim(), true);
+        checkArgument(parsedCents >= 0, MESSAGE_STORED_CONSTRAINTS);
+        return new Income(parsedCents);
     }
 
     /**
-     * Returns true if a given string is a valid income.
+     * Returns true if a given string is a valid income with at most two decimal places, other than trailing zeros,
+     * so that it is kept without rounding.
      */
     public static boolean isValidIncome(String test) {
         requireNonNull(test);
-        String trimmed = test.trim();
-        if (trimmed.isEmpty()) {
-            return false;
+        return parseCents(test.trim(), false) >= 0;
+    }
+
+    /**
+     * Returns true if a given string is a valid income in a data file, which may have more decimal places than
+     * {@link #isValidIncome(String)} allows.
+     */
+    public static boolean isValidStoredIncome(String test) {
+        requireNonNull(test);
+        return parseCents(test.trim(), true) >= 0;
+    }
+
+    /**
+     * Returns {@code amount} as a whole number of cents, or -1 if it is not a non-negative amount of at most
+     * {@code Long.MAX_VALUE} cents.
+     * Amounts of digits with at most two decimal places are parsed directly, and other forms, such as
+     * {@code 1E+3}, through {@code BigDecimal}.
+     *
+     * @param isRounded whether an amount with more than two decimal places is rounded half-even to the cent,
+     *     instead of being invalid.
+     */
+    private static long parseCents(String amount, boolean isRounded) {
+        int start = amount.startsWith("+") ? 1 : 0;
+        int pointIndex = amount.indexOf('.');
+        int wholeEnd = pointIndex < 0 ? amount.length() : pointIndex;
+        int fractionDigits = amount.length() - wholeEnd - 1;
+        // up to 16 whole digits, so that the cents cannot overflow
+        if (wholeEnd > start && wholeEnd - start <= 16 && fractionDigits <= 2) {
+            long cents = 0;
+            for (int i = start; i < amount.length(); i++) {
+                char c = amount.charAt(i);
+                if (i == pointIndex) {
+                    continue;
+                }
+                if (c < '0' || c > '9') {
+                    return parseCentsExactly(amount, isRounded);
+                }
+                cents = cents * 10 + (c - '0');
+            }
+            for (int i = Math.max(fractionDigits, 0); i < 2; i++) {
+                cents *= 10;
+            }
+            return cents;
         }
+        return parseCentsExactly(amount, isRounded);
+    }
+
+    private static long parseCentsExactly(String amount, boolean isRounded) {
+        BigDecimal value;
         try {
-            BigDecimal bd = new BigDecimal(trimmed);
-            return bd.compareTo(BigDecimal.ZERO) >= 0;
+            value = new BigDecimal(amount);
         } catch (NumberFormatException ex) {
-            return false;
+            return -1;
         }
+        if (value.signum() < 0) {
+            return -1;
+        }
+        BigDecimal cents = value.movePointRight(2);
+        if (cents.stripTrailingZeros().scale() > 0) {
+            if (!isRounded) {
+                return -1;
+            }
+            cents = cents.setScale(0, RoundingMode.HALF_EVEN);
+        }
+        return cents.compareTo(MAX_CENTS) > 0 ? -1 : cents.longValue();
     }
 
     public BigDecimal getValue() {
-        return value;
+        return BigDecimal.valueOf(cents, 2).stripTrailingZeros();
+    }
+
+    /**
+     * Returns the income as a whole number of cents.
+     */
+    public long getCents() {
+        return cents;
     }
 
     /**
      * Returns this income formatted as a Singapore Dollar (SGD) currency string using the en-SG locale.
      * Always shows two decimal places with grouping separators where applicable.
      *
-     * Solution below adapted
-     * from https://stackoverflow.com/questions/7828364/formatting-currencies-in-foreign-locales-in-java
      * @return SGD currency string (en-SG) with grouping and exactly two decimal places.
      */
     @Override
     public String toString() {
+        return SGD_FORMAT.get().format(BigDecimal.valueOf(cents, 2));
+    }
+
+    /**
+     * Returns {@code cents} formatted as an SGD amount, as incomes are by {@link #toString()}.
+     */
+    public static String formatCents(BigInteger cents) {
+        requireNonNull(cents);
+        return SGD_FORMAT.get().format(new BigDecimal(cents, 2));
+    }
+
+    /**
+     * Returns a formatter of SGD amounts in the en-SG locale, with the currency code in place of the symbol.
+     *
+     * Solution below adapted
+     * from https://stackoverflow.com/questions/7828364/formatting-currencies-in-foreign-locales-in-java
+     */
+    private static NumberFormat createSgdFormat() {
         Currency sgd = Currency.getInstance("SGD");
         NumberFormat format = NumberFormat.getCurrencyInstance(new Locale("en", "SG"));
         DecimalFormat df = (DecimalFormat) format;
@@ -69,7 +183,7 @@ public class Income {
         symbols.setCurrencySymbol(sgd.getCurrencyCode() + " ");
         df.setDecimalFormatSymbols(symbols);
         df.setCurrency(sgd);
-        return df.format(this.value);
+        return df;
     }
 
     /**
@@ -78,7 +192,14 @@ public class Income {
      * @return numeric string without currency/grouping; trailing zeros not preserved.
      */
     public String toPlainString() {
-        return this.value.toString();
+        long fraction = cents % CENTS_PER_DOLLAR;
+        String dollars = Long.toString(cents / CENTS_PER_DOLLAR);
+        if (fraction == 0) {
+            return dollars;
+        }
+        return fraction % 10 == 0
+                ? dollars + "." + fraction / 10
+                : dollars + (fraction < 10 ? ".0" : ".") + fraction;
     }
 
     @Override
@@ -90,12 +211,11 @@ public class Income {
             return false;
         }
         Income otherIncome = (Income) other;
-        return this.value.compareTo(otherIncome.value) == 0;
+        return cents == otherIncome.cents;
     }
 
     @Override
     public int hashCode() {
-        // Ensure values that are numerically equal have the same hash (e.g., 1 and 1.0)
-        return this.value.stripTrailingZeros().hashCode();
+        return Long.hashCode(cents);
     }
 }
@@ -0,0 +1,110 @@
+package casetrack.app.model.person;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.Optional;
+
+import casetrack.app.commons.util.ToStringBuilder;
+import casetrack.app.model.index.IndexedPredicate;
+import casetrack.app.model.index.SearchIndex;
+
+/**
+ * Tests that a {@code Person}'s {@code Income} is within a range.
+ * Either bound may be left open, and each bound may be inclusive or exclusive.
+ * Incomes are whole numbers of cents, so the range is tested as the least and the greatest number of cents in it.
+ */
+public class IncomeInRangePredicate implements IndexedPredicate {
+    private static final BigDecimal MIN_CENTS = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal MAX_CENTS = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private final BigDecimal lowerBound;
+    private final boolean isLowerInclusive;
+    private final BigDecimal upperBound;
+    private final boolean isUpperInclusive;
+    private final long minCents;
+    private final long maxCents;
+
+    /**
+     * Creates a predicate that matches the incomes between {@code lowerBound} and {@code upperBound}.
+     * A null bound leaves that end of the range open, and its inclusiveness is ignored.
+     */
+    public IncomeInRangePredicate(BigDecimal lowerBound, boolean isLowerInclusive, BigDecimal upperBound,
+            boolean isUpperInclusive) {
+        this.lowerBound = lowerBound;
+        this.isLowerInclusive = lowerBound != null && isLowerInclusive;
+        this.upperBound = upperBound;
+        this.isUpperInclusive = upperBound != null && isUpperInclusive;
+        this.minCents = lowerBound == null ? Long.MIN_VALUE : toMinCents(lowerBound, isLowerInclusive);
+        this.maxCents = upperBound == null ? Long.MAX_VALUE : -toMinCents(upperBound.negate(), isUpperInclusive);
+    }
+
+    /**
+     * Returns the least number of cents that is at least {@code bound} in dollars, or more than it if it is not
+     * {@code isInclusive}.
+     */
+    private static long toMinCents(BigDecimal bound, boolean isInclusive) {
+        BigDecimal cents = bound.movePointRight(2);
+        BigDecimal minCents = cents.setScale(0, RoundingMode.CEILING);
+        if (!isInclusive && minCents.compareTo(cents) == 0) {
+            minCents = minCents.add(BigDecimal.ONE);
+        }
+        // bounds beyond the range of a long are clamped, leaving Long.MIN_VALUE for negating
+        return minCents.max(MIN_CENTS.add(BigDecimal.ONE)).min(MAX_CENTS).longValue();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        long cents = person.getIncome().getCents();
+        return cents >= minCents && cents <= maxCents;
+    }
+
+    @Override
+    public Optional<BitSet> getCandidates(SearchIndex searchIndex) {
+        return Optional.of(searchIndex.getIncomeIndex().getPersonsInRange(minCents, maxCents));
+    }
+
+    @Override
+    public boolean hasExactCandidates() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IncomeInRangePredicate)) {
+            return false;
+        }
+
+        IncomeInRangePredicate otherIncomeInRangePredicate = (IncomeInRangePredicate) other;
+        return isSameBound(lowerBound, otherIncomeInRangePredicate.lowerBound)
+                && isLowerInclusive == otherIncomeInRangePredicate.isLowerInclusive
+                && isSameBound(upperBound, otherIncomeInRangePredicate.upperBound)
+                && isUpperInclusive == otherIncomeInRangePredicate.isUpperInclusive;
+    }
+
+    private static boolean isSameBound(BigDecimal bound, BigDecimal otherBound) {
+        return bound == null ? otherBound == null : otherBound != null && bound.compareTo(otherBound) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lowerBound == null ? null : lowerBound.stripTrailingZeros(), isLowerInclusive,
+                upperBound == null ? null : upperBound.stripTrailingZeros(), isUpperInclusive);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("lowerBound", lowerBound)
+                .add("isLowerInclusive", isLowerInclusive)
+                .add("upperBound", upperBound)
+                .add("isUpperInclusive", isUpperInclusive)
+                .toString();
+    }
+}
@@ -1,6 +1,8 @@
 package casetrack.app.model.person;
 
 import static casetrack.app.commons.util.AppUtil.checkArgument;
+import static casetrack.app.commons.util.StringUtil.isRegexWhitespace;
+import static casetrack.app.commons.util.StringUtil.isSingleLine;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -32,10 +34,10 @@ public class MedicalInfo {
     }
 
     /**
-     * Returns true if a given string is a valid medical info.
+     * Returns true if a given string is a valid medical info, which is if it matches {@code VALIDATION_REGEX}.
      */
     public static boolean isValidMedicalInfo(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return !test.isEmpty() && !isRegexWhitespace(test.charAt(0)) && isSingleLine(test, 1);
     }
 
     @Override
@@ -1,6 +1,8 @@
 package casetrack.app.model.person;
 
 import static casetrack.app.commons.util.AppUtil.checkArgument;
+import static casetrack.app.commons.util.StringUtil.isAsciiAlphanumeric;
+import static casetrack.app.commons.util.StringUtil.isAsciiLetter;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -26,6 +28,10 @@ public class Name {
     public static final String AT_LEAST_ONE_ALPHABET = ".*[a-zA-Z].*";
 
     public final String fullName;
+    /** {@code fullName} in lower case, which keyword searches compare against. */
+    private final String lowerCaseName;
+    /** {@code lowerCaseName} with its spaces collapsed, which names are compared by. */
+    private final String normalizedName;
 
     /**
      * Constructs a {@code Name}.
@@ -36,15 +42,45 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        lowerCaseName = name.toLowerCase();
+        normalizedName = normalize(lowerCaseName);
     }
 
     /**
-     * Returns true if a given string is a valid name.
+     * Returns true if a given string is a valid name, which is if it matches both {@code VALIDATION_REGEX} and
+     * {@code AT_LEAST_ONE_ALPHABET}.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX) && test.matches(AT_LEAST_ONE_ALPHABET);
+        if (test.isEmpty() || !(isAsciiAlphanumeric(test.charAt(0)) || isBracket(test.charAt(0)))) {
+            return false;
+        }
+
+        boolean hasLetter = false;
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            hasLetter |= isAsciiLetter(c);
+            // a '/' is only allowed in an 's/o ' or 'd/o ', which cannot start the name
+            boolean isValidCharacter = c == '/'
+                    ? i >= 2 && i + 2 < test.length() && "sdSD".indexOf(test.charAt(i - 1)) >= 0
+                            && "oO".indexOf(test.charAt(i + 1)) >= 0 && test.charAt(i + 2) == ' '
+                    : isAsciiAlphanumeric(c) || isBracket(c) || " .'@-".indexOf(c) >= 0;
+            if (!isValidCharacter) {
+                return false;
+            }
+        }
+        return hasLetter;
     }
 
+    private static boolean isBracket(char c) {
+        return c == '(' || c == ')';
+    }
+
+    /**
+     * Returns the name in lower case.
+     */
+    public String getLowerCaseName() {
+        return lowerCaseName;
+    }
 
     @Override
     public String toString() {
@@ -63,19 +99,40 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return normalizedName(fullName).equals(normalizedName(otherName.fullName));
+        return normalizedName.equals(otherName.normalizedName);
     }
 
     @Override
     public int hashCode() {
-        return normalizedName(fullName).hashCode();
+        return normalizedName.hashCode();
     }
 
     /**
-     * Normalizes a name by converting to lowercase and replacing multiple consecutive spaces with a single space.
+     * Normalizes a lower-cased name by replacing each run of whitespace with a single space, and removing the
+     * whitespace at either end. Returns {@code name} itself if it is already normalized, which most names are.
      */
-    private static String normalizedName(String name) {
-        return name.toLowerCase().replaceAll("\\s+", " ").trim();
+    private static String normalize(String name) {
+        StringBuilder normalized = null;
+        boolean isAfterWhitespace = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean isWhitespace = Character.isWhitespace(c);
+            if (normalized == null && isWhitespace && (c != ' ' || isAfterWhitespace || i == 0)) {
+                // a space just before is added back before the next word, if there is one
+                normalized = new StringBuilder(name.length()).append(name, 0, isAfterWhitespace ? i - 1 : i);
+            }
+            if (normalized != null && !isWhitespace) {
+                if (isAfterWhitespace && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                normalized.append(c);
+            }
+            isAfterWhitespace = isWhitespace;
+        }
+        if (normalized == null) {
+            return isAfterWhitespace ? name.substring(0, name.length() - 1) : name;
+        }
+        return normalized.toString();
     }
 
 }
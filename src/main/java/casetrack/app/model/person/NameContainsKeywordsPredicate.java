@@ -1,24 +1,66 @@
 package casetrack.app.model.person;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import casetrack.app.commons.util.ToStringBuilder;
+import casetrack.app.model.index.IndexedPredicate;
+import casetrack.app.model.index.SearchIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPredicate, RefiningPredicate {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
 
+    /**
+     * Creates a predicate that matches the names containing any of {@code keywords}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream().map(String::toLowerCase).collect(Collectors.toList());
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> person.getName().fullName.toLowerCase().contains(keyword.toLowerCase()));
+        String name = person.getName().getLowerCaseName();
+        for (String keyword : lowerCaseKeywords) {
+            if (name.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<BitSet> getCandidates(SearchIndex searchIndex) {
+        BitSet candidates = new BitSet();
+        for (String keyword : keywords) {
+            Optional<BitSet> keywordCandidates = searchIndex.getNameIndex().getCandidates(keyword);
+            if (keywordCandidates.isEmpty()) {
+                return Optional.empty();
+            }
+            candidates.or(keywordCandidates.get());
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns true if {@code other} is also a name search, and each keyword of this search contains a keyword of
+     * {@code other}, such as when more characters are typed at the end of the last keyword.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        if (!(other instanceof NameContainsKeywordsPredicate)) {
+            return false;
+        }
+        List<String> otherKeywords = ((NameContainsKeywordsPredicate) other).lowerCaseKeywords;
+        return lowerCaseKeywords.stream().allMatch(keyword -> otherKeywords.stream().anyMatch(keyword::contains));
     }
 
     @Override
@@ -33,7 +75,14 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         }
 
         NameContainsKeywordsPredicate otherNameContainsKeywordsPredicate = (NameContainsKeywordsPredicate) other;
-        return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
+        // the order, case and repetitions of the keywords do not change the matches
+        return Set.copyOf(lowerCaseKeywords)
+                .equals(Set.copyOf(otherNameContainsKeywordsPredicate.lowerCaseKeywords));
+    }
+
+    @Override
+    public int hashCode() {
+        return Set.copyOf(lowerCaseKeywords).hashCode();
     }
 
     @Override
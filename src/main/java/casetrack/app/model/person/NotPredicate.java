@@ -0,0 +1,71 @@
+package casetrack.app.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import casetrack.app.commons.util.ToStringBuilder;
+import casetrack.app.model.index.IndexedPredicate;
+import casetrack.app.model.index.QueryPlanner;
+import casetrack.app.model.index.SearchIndex;
+
+/**
+ * Tests that a {@code Person} does not satisfy the given predicate.
+ */
+public class NotPredicate implements IndexedPredicate {
+    private final Predicate<Person> predicate;
+
+    /**
+     * Creates a predicate that is satisfied by the persons that do not satisfy {@code predicate}.
+     */
+    public NotPredicate(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    public Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !predicate.test(person);
+    }
+
+    @Override
+    public Optional<BitSet> getCandidates(SearchIndex searchIndex) {
+        return QueryPlanner.plan(this, searchIndex).getCandidates();
+    }
+
+    @Override
+    public boolean hasExactCandidates() {
+        return QueryPlanner.hasExactCandidates(predicate);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotPredicate)) {
+            return false;
+        }
+
+        NotPredicate otherNotPredicate = (NotPredicate) other;
+        return predicate.equals(otherNotPredicate.predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return predicate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicate", predicate).toString();
+    }
+}
@@ -1,8 +1,14 @@
 package casetrack.app.model.person;
 
 import static casetrack.app.commons.util.AppUtil.checkArgument;
+import static casetrack.app.commons.util.StringUtil.isLineTerminator;
+import static casetrack.app.commons.util.StringUtil.isRegexWhitespace;
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
+import casetrack.app.model.index.NoteTokenIndex;
+
 /**
  * Represents a Note for a Person in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidNote(String)}
@@ -13,6 +19,8 @@ public class Note {
     public static final String VALIDATION_REGEX = ".*\\S.*"; // At least one non-whitespace character
 
     public final String value;
+    /** Lower-cased words in {@code value}, which note searches compare against. */
+    private final List<String> tokens;
 
     /**
      * Constructs a {@code Note}.
@@ -23,13 +31,37 @@ public class Note {
         requireNonNull(note);
         checkArgument(isValidNote(note), MESSAGE_CONSTRAINTS);
         value = note.trim();
+        tokens = List.copyOf(NoteTokenIndex.tokenize(value));
     }
 
     /**
-     * Returns true if a given string is a valid note.
+     * Returns true if a given string is a valid note, which is if it matches {@code VALIDATION_REGEX}.
      */
     public static boolean isValidNote(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // '.' does not match the end of a line, so a note can only have one line terminator,
+        // which must then be the character matched by '\\S'
+        boolean hasNonWhitespace = false;
+        int lineTerminatorCount = 0;
+        boolean isLineTerminatorNonWhitespace = false;
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (isLineTerminator(c)) {
+                lineTerminatorCount++;
+                isLineTerminatorNonWhitespace = !isRegexWhitespace(c);
+            } else if (!isRegexWhitespace(c)) {
+                hasNonWhitespace = true;
+            }
+        }
+        return lineTerminatorCount == 0 ? hasNonWhitespace : lineTerminatorCount == 1 && isLineTerminatorNonWhitespace;
+    }
+
+    /**
+     * Returns the lower-cased words in the note, in order.
+     *
+     * @see NoteTokenIndex#tokenize(String)
+     */
+    public List<String> getTokens() {
+        return tokens;
     }
 
     @Override
@@ -0,0 +1,83 @@
+package casetrack.app.model.person;
+
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import casetrack.app.commons.util.ToStringBuilder;
+import casetrack.app.model.index.NoteTokenIndex;
+import casetrack.app.model.index.RankedPredicate;
+import casetrack.app.model.index.SearchIndex;
+
+/**
+ * Tests that any of a {@code Person}'s {@code Note}s contains any of the words in the keywords given.
+ * Words are compared whole and ignoring case, and matching persons are ranked by how relevant their notes are.
+ */
+public class NoteContainsKeywordsPredicate implements RankedPredicate {
+    private final List<String> keywords;
+    private final Set<String> tokens = new LinkedHashSet<>();
+
+    /**
+     * Creates a predicate that matches the persons with notes containing any of the words in {@code keywords}.
+     */
+    public NoteContainsKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        for (String keyword : keywords) {
+            tokens.addAll(NoteTokenIndex.tokenize(keyword));
+        }
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Note note : person.getNotes()) {
+            for (String token : note.getTokens()) {
+                if (tokens.contains(token)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<BitSet> getCandidates(SearchIndex searchIndex) {
+        return Optional.of(searchIndex.getNoteIndex().getCandidates(tokens));
+    }
+
+    @Override
+    public boolean hasExactCandidates() {
+        return true;
+    }
+
+    @Override
+    public double getScore(SearchIndex searchIndex, int ordinal) {
+        return searchIndex.getNoteIndex().getScore(tokens, ordinal);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NoteContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        NoteContainsKeywordsPredicate otherNoteContainsKeywordsPredicate = (NoteContainsKeywordsPredicate) other;
+        return keywords.equals(otherNoteContainsKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
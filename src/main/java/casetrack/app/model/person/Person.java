@@ -2,22 +2,34 @@ package casetrack.app.model.person;
 
 import static casetrack.app.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import casetrack.app.commons.util.ArraySet;
+import casetrack.app.commons.util.PersistentVector;
 import casetrack.app.commons.util.ToStringBuilder;
 import casetrack.app.model.tag.Tag;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * A person also has a numeric ID, which is assigned when it is first added to an address book and kept through
+ * edits and saves, so that the person can be found without comparing its fields. The ID is not part of the person's
+ * identity or data, so it is ignored by {@link #isSamePerson(Person)} and {@link #equals(Object)}.
+ *
+ * Notes are kept in a {@code PersistentVector}, so that the person returned by adding or editing a note shares all
+ * the other notes with this one instead of copying them. It shares the tags too, which are kept in an
+ * {@code ArraySet} as most persons have only a few.
  */
 public class Person {
 
+    /** ID of a person that has not been added to an address book yet. */
+    public static final int UNASSIGNED_ID = 0;
+
+    private final int id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -27,22 +39,15 @@ public class Person {
     private final Address address;
     private final Income income;
     private final MedicalInfo medicalInfo;
-    private final Set<Tag> tags = new HashSet<>();
-    private final List<Note> notes = new ArrayList<>();
+    private final ArraySet<Tag> tags;
+    private final PersistentVector<Note> notes;
 
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Address address, Income income,
             MedicalInfo medicalInfo, Set<Tag> tags) {
-        requireAllNonNull(name, phone, email, address, income, medicalInfo, tags);
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.income = income;
-        this.medicalInfo = medicalInfo;
-        this.tags.addAll(tags);
+        this(name, phone, email, address, income, medicalInfo, tags, List.of());
     }
 
     /**
@@ -50,15 +55,47 @@ public class Person {
      */
     public Person(Name name, Phone phone, Email email, Address address,
             Income income, MedicalInfo medicalInfo, Set<Tag> tags, List<Note> notes) {
+        this(UNASSIGNED_ID, name, phone, email, address, income, medicalInfo, tags, notes);
+    }
+
+    /**
+     * Constructor with an ID, which must be positive or {@link #UNASSIGNED_ID}.
+     */
+    public Person(int id, Name name, Phone phone, Email email, Address address,
+            Income income, MedicalInfo medicalInfo, Set<Tag> tags, List<Note> notes) {
         requireAllNonNull(name, phone, email, address, income, medicalInfo, tags, notes);
+        assert id >= UNASSIGNED_ID;
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
         this.income = income;
         this.medicalInfo = medicalInfo;
-        this.tags.addAll(tags);
-        this.notes.addAll(notes);
+        this.tags = ArraySet.copyOf(tags);
+        this.notes = PersistentVector.copyOf(notes);
+    }
+
+    /**
+     * Creates a person with the same fields as {@code source}, except for the given {@code id} and {@code notes}.
+     */
+    private Person(Person source, int id, PersistentVector<Note> notes) {
+        this.id = id;
+        this.name = source.name;
+        this.phone = source.phone;
+        this.email = source.email;
+        this.address = source.address;
+        this.income = source.income;
+        this.medicalInfo = source.medicalInfo;
+        this.tags = source.tags;
+        this.notes = notes;
+    }
+
+    /**
+     * Returns the ID of this person, or {@link #UNASSIGNED_ID} if it has not been added to an address book.
+     */
+    public int getId() {
+        return id;
     }
 
     public Name getName() {
@@ -90,7 +127,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -98,34 +135,35 @@ public class Person {
      * if modification is attempted.
      */
     public List<Note> getNotes() {
-        return Collections.unmodifiableList(notes);
+        return notes;
+    }
+
+    /**
+     * Returns a new Person with the same fields as this one and the given ID.
+     */
+    public Person withId(int id) {
+        return new Person(this, id, notes);
     }
 
     /**
      * Returns a new Person with the given note added to the notes list.
      */
     public Person addNote(Note note) {
-        List<Note> updatedNotes = new ArrayList<>(notes);
-        updatedNotes.add(note);
-        return new Person(name, phone, email, address, income, medicalInfo, new HashSet<>(tags), updatedNotes);
+        return new Person(this, id, notes.plus(note));
     }
 
     /**
      * Returns a new Person with the note at the specified index removed from the notes list.
      */
     public Person removeNote(int noteIndex) {
-        List<Note> updatedNotes = new ArrayList<>(notes);
-        updatedNotes.remove(noteIndex);
-        return new Person(name, phone, email, address, income, medicalInfo, new HashSet<>(tags), updatedNotes);
+        return new Person(this, id, notes.minus(noteIndex));
     }
 
     /**
      * Returns a new Person with the note at the specified index replaced with the new note.
      */
     public Person editNote(int noteIndex, Note newNote) {
-        List<Note> updatedNotes = new ArrayList<>(notes);
-        updatedNotes.set(noteIndex, newNote);
-        return new Person(name, phone, email, address, income, medicalInfo, new HashSet<>(tags), updatedNotes);
+        return new Person(this, id, notes.with(noteIndex, newNote));
     }
 
     /**
@@ -143,7 +181,7 @@ public class Person {
     }
 
     /**
-     * Returns true if both persons have the same identity and data fields.
+     * Returns true if both persons have the same identity and data fields, whatever their IDs.
      * This defines a stronger notion of equality between two persons.
      */
     @Override
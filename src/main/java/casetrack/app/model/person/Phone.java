@@ -1,6 +1,8 @@
 package casetrack.app.model.person;
 
 import static casetrack.app.commons.util.AppUtil.checkArgument;
+import static casetrack.app.commons.util.StringUtil.isAsciiDigit;
+import static casetrack.app.commons.util.StringUtil.isRegexWhitespace;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -17,6 +19,9 @@ public class Phone {
                     + "with an optional '+' prefix. "
                     + "A space may optionally separate the country code from the main number.";
     public static final String VALIDATION_REGEX = "(\\+\\d{1,3}\\s?|\\d{1,3}\\s)?\\d{3,17}";
+    private static final int MIN_DIGITS = 3;
+    private static final int MAX_DIGITS = 17;
+    private static final int MAX_COUNTRY_CODE_DIGITS = 3;
     public final String value;
     private final String normalizedValue;
 
@@ -38,15 +43,54 @@ public class Phone {
      * @param phone The phone number to normalize.
      * @return The normalized phone number containing only digits.
      */
-    private static String normalize(String phone) {
-        return phone.replaceAll("[+\\s]", "");
+    public static String normalize(String phone) {
+        StringBuilder normalized = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c != '+' && !isRegexWhitespace(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
     }
 
     /**
-     * Returns true if a given string is a valid phone number.
+     * Returns true if a given string is a valid phone number, which is if it matches {@code VALIDATION_REGEX}.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int index = test.startsWith("+") ? 1 : 0;
+        int firstDigits = countDigits(test, index);
+        index += firstDigits;
+        if (index == test.length()) {
+            // without a space, a country code after a '+' is told apart from the number only by its length
+            return index > firstDigits
+                    ? firstDigits >= 1 + MIN_DIGITS && firstDigits <= MAX_COUNTRY_CODE_DIGITS + MAX_DIGITS
+                    : firstDigits >= MIN_DIGITS && firstDigits <= MAX_DIGITS;
+        }
+        if (firstDigits < 1 || firstDigits > MAX_COUNTRY_CODE_DIGITS || !isRegexWhitespace(test.charAt(index))) {
+            return false;
+        }
+        index++;
+        int digits = countDigits(test, index);
+        return index + digits == test.length() && digits >= MIN_DIGITS && digits <= MAX_DIGITS;
+    }
+
+    /**
+     * Returns the phone number without '+' signs and spaces.
+     */
+    public String getNormalizedValue() {
+        return normalizedValue;
+    }
+
+    /**
+     * Returns the number of consecutive digits in {@code s} from {@code beginIndex}.
+     */
+    private static int countDigits(String s, int beginIndex) {
+        int end = beginIndex;
+        while (end < s.length() && isAsciiDigit(s.charAt(end))) {
+            end++;
+        }
+        return end - beginIndex;
     }
 
     @Override
@@ -1,6 +1,7 @@
 package casetrack.app.model.person;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import casetrack.app.commons.util.ToStringBuilder;
@@ -8,7 +9,7 @@ import casetrack.app.commons.util.ToStringBuilder;
 /**
  * Tests that a {@code Person}'s {@code Phone} matches any of the keywords given.
  */
-public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
+public class PhoneContainsKeywordsPredicate implements RefiningPredicate {
     private final List<String> keywords;
 
     public PhoneContainsKeywordsPredicate(List<String> keywords) {
@@ -21,6 +22,19 @@ public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(keyword -> person.getPhone().value.contains(keyword));
     }
 
+    /**
+     * Returns true if {@code other} is also a phone search, and each keyword of this search contains a keyword of
+     * {@code other}.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        if (!(other instanceof PhoneContainsKeywordsPredicate)) {
+            return false;
+        }
+        List<String> otherKeywords = ((PhoneContainsKeywordsPredicate) other).keywords;
+        return keywords.stream().allMatch(keyword -> otherKeywords.stream().anyMatch(keyword::contains));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -34,7 +48,12 @@ public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
 
         PhoneContainsKeywordsPredicate otherPhoneContainsKeywordsPredicate =
                 (PhoneContainsKeywordsPredicate) other;
-        return keywords.equals(otherPhoneContainsKeywordsPredicate.keywords);
+        return Set.copyOf(keywords).equals(Set.copyOf(otherPhoneContainsKeywordsPredicate.keywords));
+    }
+
+    @Override
+    public int hashCode() {
+        return Set.copyOf(keywords).hashCode();
     }
 
     @Override
@@ -0,0 +1,75 @@
+package casetrack.app.model.person;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import casetrack.app.commons.util.ToStringBuilder;
+import casetrack.app.model.index.IndexedPredicate;
+import casetrack.app.model.index.PhoneIndex;
+import casetrack.app.model.index.SearchIndex;
+
+/**
+ * Tests that a {@code Person}'s {@code Phone} contains any of the full phone numbers given, like
+ * {@code PhoneContainsKeywordsPredicate}, or ends with it when country codes, spaces and {@code +} signs are ignored.
+ * Every number must satisfy {@link PhoneIndex#isFullNumber(String)}, so that the phone index can find the candidates.
+ */
+public class PhoneMatchesPredicate implements IndexedPredicate {
+    private final List<String> numbers;
+    private final List<String> normalizedNumbers;
+
+    /**
+     * Creates a predicate that matches the persons whose phones contain or end with any of the phone {@code numbers}.
+     */
+    public PhoneMatchesPredicate(List<String> numbers) {
+        assert numbers.stream().allMatch(PhoneIndex::isFullNumber);
+        this.numbers = numbers;
+        this.normalizedNumbers = numbers.stream().map(Phone::normalize).collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Phone phone = person.getPhone();
+        return numbers.stream().anyMatch(phone.value::contains)
+                || normalizedNumbers.stream().anyMatch(phone.getNormalizedValue()::endsWith);
+    }
+
+    /**
+     * Returns the persons whose normalised phones contain any of the numbers, which include every match.
+     */
+    @Override
+    public Optional<BitSet> getCandidates(SearchIndex searchIndex) {
+        BitSet candidates = new BitSet();
+        for (String number : normalizedNumbers) {
+            candidates.or(searchIndex.getPhoneIndex().get(number));
+        }
+        return Optional.of(candidates);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PhoneMatchesPredicate)) {
+            return false;
+        }
+
+        PhoneMatchesPredicate otherPhoneMatchesPredicate = (PhoneMatchesPredicate) other;
+        return Set.copyOf(normalizedNumbers).equals(Set.copyOf(otherPhoneMatchesPredicate.normalizedNumbers));
+    }
+
+    @Override
+    public int hashCode() {
+        return Set.copyOf(normalizedNumbers).hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("numbers", numbers).toString();
+    }
+}
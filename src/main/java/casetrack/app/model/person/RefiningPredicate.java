@@ -0,0 +1,16 @@
+package casetrack.app.model.person;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate<Person>} that can tell when it only matches persons that another predicate matches, so that
+ * a search can be narrowed down by testing the matches of the previous search instead of every person.
+ */
+public interface RefiningPredicate extends Predicate<Person> {
+
+    /**
+     * Returns true if every person that satisfies this predicate also satisfies {@code other}.
+     * Returning false is always correct, but means the previous matches cannot be reused.
+     */
+    boolean refines(Predicate<Person> other);
+}
@@ -1,25 +1,121 @@
 package casetrack.app.model.person;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import casetrack.app.commons.util.ToStringBuilder;
+import casetrack.app.model.index.IndexedPredicate;
+import casetrack.app.model.index.SearchIndex;
+import casetrack.app.model.index.TagIndex;
+import casetrack.app.model.tag.Tag;
 
 /**
- * Tests that a {@code Person}'s {@code Tag}s match any of the keywords given.
+ * Tests that a {@code Person}'s {@code Tag}s match the keywords given.
+ * A person matches if it has a tag matching any of the plain keywords, a tag matching each keyword prefixed with
+ * {@code +}, and no tag matching a keyword prefixed with {@code !}. A tag matches a keyword if its name contains
+ * the keyword, ignoring case.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Person> {
+public class TagContainsKeywordsPredicate implements IndexedPredicate {
+
+    public static final String ALL_OF_PREFIX = "+";
+    public static final String NONE_OF_PREFIX = "!";
+
     private final List<String> keywords;
+    private final List<String> anyOfKeywords = new ArrayList<>();
+    private final List<String> allOfKeywords = new ArrayList<>();
+    private final List<String> noneOfKeywords = new ArrayList<>();
 
+    /**
+     * Creates a predicate that matches the persons whose tags match {@code keywords}.
+     */
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        for (String keyword : keywords) {
+            String lowerCaseKeyword = keyword.toLowerCase();
+            if (lowerCaseKeyword.length() > 1 && lowerCaseKeyword.startsWith(ALL_OF_PREFIX)) {
+                allOfKeywords.add(lowerCaseKeyword.substring(ALL_OF_PREFIX.length()));
+            } else if (lowerCaseKeyword.length() > 1 && lowerCaseKeyword.startsWith(NONE_OF_PREFIX)) {
+                noneOfKeywords.add(lowerCaseKeyword.substring(NONE_OF_PREFIX.length()));
+            } else {
+                anyOfKeywords.add(lowerCaseKeyword);
+            }
+        }
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> person.getTags().stream()
-                        .anyMatch(tag -> tag.tagName.toLowerCase().contains(keyword.toLowerCase())));
+        if (keywords.isEmpty()) {
+            return false;
+        }
+
+        return (anyOfKeywords.isEmpty() || hasTagContainingAny(person, anyOfKeywords))
+                && hasTagContainingEach(person, allOfKeywords)
+                && !hasTagContainingAny(person, noneOfKeywords);
+    }
+
+    /**
+     * Combines the tag bitmaps of the keywords, which gives exactly the matching persons.
+     */
+    @Override
+    public Optional<BitSet> getCandidates(SearchIndex searchIndex) {
+        if (keywords.isEmpty()) {
+            return Optional.of(new BitSet());
+        }
+
+        TagIndex tagIndex = searchIndex.getTagIndex();
+        BitSet candidates;
+        if (!anyOfKeywords.isEmpty()) {
+            candidates = new BitSet();
+            for (String keyword : anyOfKeywords) {
+                candidates.or(tagIndex.getPersonsWithTagContaining(keyword));
+            }
+        } else {
+            candidates = searchIndex.getOrdinals();
+        }
+
+        for (String keyword : allOfKeywords) {
+            candidates.and(tagIndex.getPersonsWithTagContaining(keyword));
+        }
+        for (String keyword : noneOfKeywords) {
+            candidates.andNot(tagIndex.getPersonsWithTagContaining(keyword));
+        }
+        return Optional.of(candidates);
+    }
+
+    @Override
+    public boolean hasExactCandidates() {
+        return true;
+    }
+
+    private static boolean hasTagContaining(Person person, String lowerCaseKeyword) {
+        for (Tag tag : person.getTags()) {
+            if (tag.getLowerCaseTagName().contains(lowerCaseKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasTagContainingAny(Person person, List<String> lowerCaseKeywords) {
+        for (String keyword : lowerCaseKeywords) {
+            if (hasTagContaining(person, keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasTagContainingEach(Person person, List<String> lowerCaseKeywords) {
+        for (String keyword : lowerCaseKeywords) {
+            if (!hasTagContaining(person, keyword)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -34,7 +130,14 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
 
         TagContainsKeywordsPredicate otherTagContainsKeywordsPredicate =
                 (TagContainsKeywordsPredicate) other;
-        return keywords.equals(otherTagContainsKeywordsPredicate.keywords);
+        return Set.copyOf(anyOfKeywords).equals(Set.copyOf(otherTagContainsKeywordsPredicate.anyOfKeywords))
+                && Set.copyOf(allOfKeywords).equals(Set.copyOf(otherTagContainsKeywordsPredicate.allOfKeywords))
+                && Set.copyOf(noneOfKeywords).equals(Set.copyOf(otherTagContainsKeywordsPredicate.noneOfKeywords));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Set.copyOf(anyOfKeywords), Set.copyOf(allOfKeywords), Set.copyOf(noneOfKeywords));
     }
 
     @Override
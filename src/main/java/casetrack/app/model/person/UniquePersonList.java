@@ -3,11 +3,33 @@ package casetrack.app.model.person;
 import static casetrack.app.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import casetrack.app.model.index.IndexedPredicate;
+import casetrack.app.model.index.QueryPlan;
+import casetrack.app.model.index.QueryPlanner;
+import casetrack.app.model.index.RankedPredicate;
+import casetrack.app.model.index.ReadOnlyColumnStore;
+import casetrack.app.model.index.SearchIndex;
+import casetrack.app.model.index.SearchResultCache;
 import casetrack.app.model.person.exceptions.DuplicatePersonException;
 import casetrack.app.model.person.exceptions.PersonNotFoundException;
+import casetrack.app.model.tag.Tag;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -18,54 +40,119 @@ import javafx.collections.ObservableList;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are indexed by their ID, so that the persons to update and remove are found without comparing the fields
+ * of any other person, by their identity, so that duplicates are found without scanning the list, and by a
+ * {@code SearchIndex}, so that searches with an {@code IndexedPredicate} do not need to either.
+ * Each person is given an ID that is not used by another person in the list when it is added, unless it already has
+ * one, and keeps its ID when it is updated. The persons in the list are therefore not always the same objects as
+ * those passed to it, but are equal to them.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    /** Number of persons to test, from which they are tested in parallel. */
+    static final int PARALLEL_FILTER_THRESHOLD = 10_000;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Identity of each person in {@code internalList}, at the same position. */
+    private final List<IdentityKey> identities = new ArrayList<>();
+    /** Maps the identity of each person to itself, which records the person's position in the list. */
+    private final Map<IdentityKey, IdentityKey> identityIndex = new HashMap<>();
+    /** Maps the ID of each person to its identity. */
+    private final Map<Integer, IdentityKey> idIndex = new HashMap<>();
+    /** Smallest ID greater than that of every person added so far, so it is not used by any of them. */
+    private int nextId = Person.UNASSIGNED_ID + 1;
+    private final SearchIndex searchIndex = new SearchIndex();
+    /**
+     * Held to read {@code searchIndex} during a search, and to change it, as searches may be run off the JavaFX
+     * application thread while the list is changed on it. A search therefore sees the index either before or after
+     * each change, and never part way through one.
+     */
+    private final ReadWriteLock searchLock = new ReentrantReadWriteLock();
+    /**
+     * Number of changes made to the list so far. Incremented with the change to the search index, before the change
+     * is seen by list listeners, and volatile so that searches run off the JavaFX application thread can tell when
+     * the list changed since they started.
+     */
+    private volatile long modificationCount;
+    private final ReadOnlyColumnStore columnStore = new LockedColumnStore();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(new IdentityKey(toCheck));
+    }
+
+    /**
+     * Returns the person in the list with the given {@code id}, if there is one.
+     */
+    public Optional<Person> getPersonById(int id) {
+        IdentityKey identity = idIndex.get(id);
+        return identity == null ? Optional.empty() : Optional.of(internalList.get(identity.position));
     }
 
     /**
-     * Adds a person to the list.
+     * Adds a person to the list, keeping its ID if it has one that no other person in the list has, and giving it
+     * a new ID otherwise.
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        IdentityKey identity = new IdentityKey(toAdd);
+        if (identityIndex.containsKey(identity)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+
+        Person added = assignId(toAdd, idIndex);
+        identity.id = added.getId();
+        identity.position = internalList.size();
+        changeSearchIndex(() -> identity.ordinal = searchIndex.add(added));
+        identities.add(identity);
+        identityIndex.put(identity, identity);
+        idIndex.put(identity.id, identity);
+        internalList.add(added);
     }
 
     /**
-     * Replaces the person {@code target} in the list with {@code editedPerson}.
+     * Replaces the person {@code target} in the list with {@code editedPerson}, which takes the ID of {@code target}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
-            throw new DuplicatePersonException();
+        IdentityKey identity = identities.get(index);
+        if (!target.isSamePerson(editedPerson)) {
+            IdentityKey editedIdentity = new IdentityKey(editedPerson);
+            if (identityIndex.containsKey(editedIdentity)) {
+                throw new DuplicatePersonException();
+            }
+
+            editedIdentity.id = identity.id;
+            editedIdentity.position = index;
+            editedIdentity.ordinal = identity.ordinal;
+            identityIndex.remove(identity);
+            identities.set(index, editedIdentity);
+            identityIndex.put(editedIdentity, editedIdentity);
+            idIndex.put(editedIdentity.id, editedIdentity);
         }
 
-        internalList.set(index, editedPerson);
+        Person edited = editedPerson.getId() == identity.id ? editedPerson : editedPerson.withId(identity.id);
+        changeSearchIndex(() -> searchIndex.set(identity.ordinal, edited));
+        internalList.set(index, edited);
     }
 
     /**
@@ -74,27 +161,156 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        IdentityKey identity = identities.remove(index);
+        identityIndex.remove(identity);
+        idIndex.remove(identity.id);
+        changeSearchIndex(() -> searchIndex.remove(identity.ordinal));
+        for (int i = index; i < identities.size(); i++) {
+            identities.get(i).position = i;
+        }
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setPersons(replacement.internalList);
     }
 
     /**
-     * Replaces the contents of this list with {@code persons}.
+     * Replaces the contents of this list with {@code persons}, which keep or are given IDs as by
+     * {@link #add(Person)}.
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+
+        List<IdentityKey> replacementIdentities = new ArrayList<>(persons.size());
+        Map<IdentityKey, IdentityKey> replacementIndex = new HashMap<>();
+        for (Person person : persons) {
+            IdentityKey identity = new IdentityKey(person);
+            identity.position = replacementIdentities.size();
+            if (replacementIndex.putIfAbsent(identity, identity) != null) {
+                throw new DuplicatePersonException();
+            }
+            replacementIdentities.add(identity);
+        }
+
+        // persons without an ID are given IDs above all the IDs of the others, so that those can all be kept
+        for (Person person : persons) {
+            nextId = Math.max(nextId, person.getId() + 1);
+        }
+        List<Person> replacementPersons = new ArrayList<>(persons.size());
+        Map<Integer, IdentityKey> replacementIdIndex = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = assignId(persons.get(i), replacementIdIndex);
+            IdentityKey identity = replacementIdentities.get(i);
+            identity.id = person.getId();
+            replacementIdIndex.put(identity.id, identity);
+            replacementPersons.add(person);
+        }
+
+        changeSearchIndex(() -> {
+            searchIndex.clear();
+            for (int i = 0; i < replacementPersons.size(); i++) {
+                replacementIdentities.get(i).ordinal = searchIndex.add(replacementPersons.get(i));
+            }
+        });
+        identities.clear();
+        identities.addAll(replacementIdentities);
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        idIndex.clear();
+        idIndex.putAll(replacementIdIndex);
+        internalList.setAll(replacementPersons);
+    }
+
+    /**
+     * Returns the number of changes made to the list so far.
+     * The list is unchanged between two calls that return the same count.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the persons in the list that satisfy {@code predicate}, if {@code predicate} can use the search index
+     * to narrow down the persons to test. The persons are ordered from the most relevant if {@code predicate} is a
+     * {@code RankedPredicate}, and are in no particular order otherwise.
+     * Returns an empty {@code Optional} if the search index cannot be used, in which case every person has to be
+     * tested.
+     */
+    public Optional<List<Person>> filterByIndex(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        searchLock.readLock().lock();
+        try {
+            return filterOrdinalsByIndex(predicate).map(this::toPersons);
+        } finally {
+            searchLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the persons in the list that satisfy {@code predicate}, ordered as by
+     * {@link #filterByIndex(Predicate)}. The search index is used if it can be, and every person is tested otherwise.
+     * The matches of recent searches are cached, so repeating a search does not test any person.
+     */
+    public List<Person> find(Predicate<Person> predicate) {
+        return find(predicate, true);
+    }
+
+    /**
+     * Returns the persons in the list that satisfy {@code predicate}, as by {@link #find(Predicate)}.
+     * Cached matches are used either way, but the matches are only cached if {@code isCached} is true, so that
+     * searches that are unlikely to be repeated do not push those that are out of the cache.
+     */
+    public List<Person> find(Predicate<Person> predicate, boolean isCached) {
+        requireNonNull(predicate);
+        searchLock.readLock().lock();
+        try {
+            SearchResultCache resultCache = searchIndex.getResultCache();
+            Optional<int[]> cachedOrdinals = resultCache.get(predicate);
+            if (cachedOrdinals.isPresent()) {
+                return toPersons(Arrays.stream(cachedOrdinals.get()).boxed().collect(Collectors.toList()));
+            }
+
+            long version = resultCache.getVersion();
+            List<Integer> matchingOrdinals = filterOrdinalsByIndex(predicate)
+                    .orElseGet(() -> filterOrdinals(searchIndex.getOrdinals(), predicate));
+            if (isCached) {
+                resultCache.put(predicate, matchingOrdinals, version);
+            }
+            return toPersons(matchingOrdinals);
+        } finally {
+            searchLock.readLock().unlock();
         }
+    }
+
+    /**
+     * Returns how the persons in the list that satisfy {@code predicate} are found, with the estimated number of
+     * persons each step leaves.
+     */
+    public String explain(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        searchLock.readLock().lock();
+        try {
+            return QueryPlanner.plan(predicate, searchIndex).explain();
+        } finally {
+            searchLock.readLock().unlock();
+        }
+    }
 
-        internalList.setAll(persons);
+    /**
+     * Returns the columns of the fields of the persons in the list. They are built when they are first read, and are
+     * kept up to date as the list changes from then on.
+     */
+    public ReadOnlyColumnStore getColumnStore() {
+        return columnStore;
     }
 
     /**
@@ -106,7 +322,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -135,16 +351,222 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the ordinals of the persons that satisfy {@code predicate}, if {@code predicate} can use the search
+     * index.
+     *
+     * @see #filterByIndex(Predicate)
+     */
+    private Optional<List<Integer>> filterOrdinalsByIndex(Predicate<Person> predicate) {
+        if (!(predicate instanceof IndexedPredicate)) {
+            return Optional.empty();
+        }
+
+        QueryPlan plan = QueryPlanner.plan(predicate, searchIndex);
+        Optional<BitSet> candidates = plan.getCandidates();
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        // only the parts of the predicate that the indexes could not answer exactly are tested
+        List<Integer> matchingOrdinals = filterOrdinals(candidates.get(), plan.getResidual().orElse(person -> true));
+
+        if (predicate instanceof RankedPredicate) {
+            RankedPredicate rankedPredicate = (RankedPredicate) predicate;
+            Map<Integer, Double> scores = new HashMap<>();
+            for (Integer ordinal : matchingOrdinals) {
+                scores.put(ordinal, rankedPredicate.getScore(searchIndex, ordinal));
+            }
+            // the sort is stable, so persons with equal scores stay in the order they were added
+            matchingOrdinals.sort((first, second) -> Double.compare(scores.get(second), scores.get(first)));
+        }
+        return Optional.of(matchingOrdinals);
+    }
+
+    /**
+     * Returns the given {@code ordinals}, in ascending order, of the persons that satisfy {@code predicate}.
+     * Persons are tested in parallel on the common fork-join pool when there are many of them, as they are
+     * independent of each other and predicates do not change any state.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
+    private List<Integer> filterOrdinals(BitSet ordinals, Predicate<Person> predicate) {
+        IntPredicate isMatch = ordinal -> {
+            Person person = searchIndex.getPerson(ordinal);
+            return person != null && predicate.test(person);
+        };
+        if (ordinals.cardinality() < PARALLEL_FILTER_THRESHOLD) {
+            List<Integer> matchingOrdinals = new ArrayList<>();
+            for (int ordinal = ordinals.nextSetBit(0); ordinal >= 0; ordinal = ordinals.nextSetBit(ordinal + 1)) {
+                if (isMatch.test(ordinal)) {
+                    matchingOrdinals.add(ordinal);
                 }
             }
+            return matchingOrdinals;
+        }
+
+        // a range splits evenly between the threads, unlike BitSet#stream()
+        return IntStream.range(0, ordinals.length())
+                .parallel()
+                .filter(ordinal -> ordinals.get(ordinal) && isMatch.test(ordinal))
+                .boxed()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Runs {@code change} to the search index while no search is running, and counts it as a change to the list.
+     * The list itself is changed afterwards, so that its listeners do not run while searches wait.
+     */
+    private void changeSearchIndex(Runnable change) {
+        searchLock.writeLock().lock();
+        try {
+            change.run();
+            modificationCount++;
+        } finally {
+            searchLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the result of {@code summary} of the columns of the search index, which it reads while holding the
+     * read lock, as searches do. The columns are built while holding the write lock if they are not yet.
+     */
+    private <T> T readColumns(Function<ReadOnlyColumnStore, T> summary) {
+        searchLock.readLock().lock();
+        try {
+            if (searchIndex.hasColumnStore()) {
+                return summary.apply(searchIndex.getColumnStore());
+            }
+        } finally {
+            searchLock.readLock().unlock();
+        }
+
+        searchLock.writeLock().lock();
+        try {
+            return summary.apply(searchIndex.getColumnStore());
+        } finally {
+            searchLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the persons with the given {@code ordinals}, skipping those no longer in the list.
+     */
+    private List<Person> toPersons(List<Integer> ordinals) {
+        List<Person> persons = new ArrayList<>(ordinals.size());
+        for (Integer ordinal : ordinals) {
+            Person person = searchIndex.getPerson(ordinal);
+            if (person != null) {
+                persons.add(person);
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns {@code person} if its ID is not {@link Person#UNASSIGNED_ID} or in {@code usedIds}, and otherwise
+     * {@code person} with the next unused ID.
+     */
+    private Person assignId(Person person, Map<Integer, IdentityKey> usedIds) {
+        int id = person.getId();
+        if (id == Person.UNASSIGNED_ID || usedIds.containsKey(id)) {
+            id = nextId;
+        }
+        nextId = Math.max(nextId, id + 1);
+        return id == person.getId() ? person : person.withId(id);
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person} in the list, or -1 if there is none.
+     * The person with the ID of {@code person} is usually {@code person} itself, as the persons to update and
+     * remove are taken from the list, so it is compared first. Otherwise, only the person with the same identity
+     * as {@code person} can be equal to it, so that is the only other one compared.
+     */
+    private int indexOf(Person person) {
+        IdentityKey identity = idIndex.get(person.getId());
+        if (identity != null && internalList.get(identity.position) == person) {
+            return identity.position;
+        }
+
+        identity = identityIndex.get(new IdentityKey(person));
+        if (identity == null || !internalList.get(identity.position).equals(person)) {
+            return -1;
+        }
+        return identity.position;
+    }
+
+    /**
+     * Reads the columns of the search index, as by {@link #readColumns(Function)}.
+     */
+    private class LockedColumnStore implements ReadOnlyColumnStore {
+        @Override
+        public int size() {
+            return readColumns(ReadOnlyColumnStore::size);
+        }
+
+        @Override
+        public BigInteger getTotalIncomeCents() {
+            return readColumns(ReadOnlyColumnStore::getTotalIncomeCents);
+        }
+
+        @Override
+        public int[] countIncomes(long... upperBoundsCents) {
+            return readColumns(columns -> columns.countIncomes(upperBoundsCents));
+        }
+
+        @Override
+        public Map<Tag, Integer> countTags() {
+            return readColumns(ReadOnlyColumnStore::countTags);
+        }
+
+        @Override
+        public long getTotalNoteCount() {
+            return readColumns(ReadOnlyColumnStore::getTotalNoteCount);
+        }
+
+        @Override
+        public int countNamesContaining(String keyword) {
+            return readColumns(columns -> columns.countNamesContaining(keyword));
+        }
+    }
+
+    /**
+     * The identity of a person, as compared by {@link Person#isSamePerson(Person)}.
+     */
+    private static class IdentityKey {
+        private final Name name;
+        private final Phone phone;
+        private final int hash;
+
+        /** ID of the person. Not part of the identity. */
+        private int id;
+        /** Position of the person in the list. Not part of the identity. */
+        private int position;
+        /** Ordinal of the person in the search index. Not part of the identity. */
+        private int ordinal;
+
+        IdentityKey(Person person) {
+            name = person.getName();
+            phone = person.getPhone();
+            hash = 31 * name.hashCode() + phone.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+
+            IdentityKey otherIdentityKey = (IdentityKey) other;
+            return hash == otherIdentityKey.hash
+                    && name.equals(otherIdentityKey.name)
+                    && phone.equals(otherIdentityKey.phone);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
         }
-        return true;
     }
 }
@@ -1,11 +1,22 @@
 package casetrack.app.model.tag;
 
 import static casetrack.app.commons.util.AppUtil.checkArgument;
+import static casetrack.app.commons.util.StringUtil.isAsciiAlphanumeric;
 import static java.util.Objects.requireNonNull;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * Many patients share the same few tags, so tags read from the user or from storage are interned with
+ * {@link #of(String)}, which returns the same {@code Tag} for every tag with the same name. Tags are only interned
+ * while they are in use, so tags that are typed once, such as in a search or a mistyped edit, are not kept.
  */
 public class Tag {
 
@@ -14,7 +25,14 @@ public class Tag {
             + "or contain consecutive hyphens.";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+(-\\p{Alnum}+)*";
 
+    /** Interned tags by their names, held weakly so that tags no longer in use can be collected. */
+    private static final ConcurrentMap<String, InternedTag> INTERNED_TAGS = new ConcurrentHashMap<>();
+    /** Entries of {@code INTERNED_TAGS} whose tags were collected, to be removed from it. */
+    private static final ReferenceQueue<Tag> COLLECTED_TAGS = new ReferenceQueue<>();
+
     public final String tagName;
+    /** {@code tagName} in lower case, which tag searches compare against. */
+    private final String lowerCaseTagName;
 
     /**
      * Constructs a {@code Tag}.
@@ -25,13 +43,67 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.lowerCaseTagName = tagName.toLowerCase();
+    }
+
+    /**
+     * Returns the interned tag with the given name, which is the same object for every call with an equal name.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        removeCollectedTags();
+        InternedTag interned = INTERNED_TAGS.get(tagName);
+        Tag tag = interned == null ? null : interned.get();
+        if (tag != null) {
+            return tag;
+        }
+
+        // validated before it is interned, so that invalid names are never kept
+        Tag newTag = new Tag(tagName);
+        while (true) {
+            interned = INTERNED_TAGS.putIfAbsent(newTag.tagName, new InternedTag(newTag));
+            tag = interned == null ? newTag : interned.get();
+            if (tag != null) {
+                return tag;
+            }
+            // the tag interned under this name was collected, but its entry is not removed yet
+            INTERNED_TAGS.remove(newTag.tagName, interned);
+        }
+    }
+
+    private static void removeCollectedTags() {
+        for (Reference<? extends Tag> collected = COLLECTED_TAGS.poll(); collected != null;
+                collected = COLLECTED_TAGS.poll()) {
+            InternedTag interned = (InternedTag) collected;
+            INTERNED_TAGS.remove(interned.tagName, interned);
+        }
     }
 
     /**
-     * Returns true if a given string is a valid tag name.
+     * Returns true if a given string is a valid tag name, which is if it matches {@code VALIDATION_REGEX}.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        boolean isAfterHyphen = true;
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c == '-' && !isAfterHyphen) {
+                isAfterHyphen = true;
+            } else if (isAsciiAlphanumeric(c)) {
+                isAfterHyphen = false;
+            } else {
+                return false;
+            }
+        }
+        return !isAfterHyphen;
+    }
+
+    /**
+     * Returns the tag name in lower case.
+     */
+    public String getLowerCaseTagName() {
+        return lowerCaseTagName;
     }
 
     @Override
@@ -61,4 +133,16 @@ public class Tag {
         return '[' + tagName + ']';
     }
 
+    /**
+     * A weak reference to an interned tag, which remembers the name it is interned under.
+     */
+    private static class InternedTag extends WeakReference<Tag> {
+        private final String tagName;
+
+        InternedTag(Tag tag) {
+            super(tag, COLLECTED_TAGS);
+            tagName = tag.tagName;
+        }
+    }
+
 }
@@ -0,0 +1,196 @@
+package casetrack.app.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.person.Person;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * Saves the address book to an {@code AddressBookStorage} on a single background thread.
+ * Save requests made in quick succession are coalesced, so a burst of changes is written to disk once.
+ * A save that fails is retried in the background, waiting twice as long after each further failure, until it
+ * succeeds or a newer save is requested.
+ * {@link #flush()} waits until everything requested so far has been written.
+ */
+public class AsyncAddressBookSaver {
+
+    /** Default time to wait for further changes before writing a requested save. */
+    public static final long DEFAULT_SAVE_DELAY_MILLIS = 200;
+    /** Default time to wait before retrying a failed save for the first time. */
+    public static final long DEFAULT_RETRY_DELAY_MILLIS = 1000;
+    /** Longest time to wait before retrying a failed save. */
+    public static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final long saveDelayMillis;
+    private final long retryDelayMillis;
+    private final ScheduledExecutorService executor;
+
+    /** The latest snapshot that has not been written yet, or null if there is none. */
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+    private final AtomicBoolean isSaveScheduled = new AtomicBoolean();
+    private volatile Consumer<IOException> onSaveFailure = e -> { };
+    /** Number of saves that failed since the last one that succeeded. Used on the background thread only. */
+    private int consecutiveFailureCount;
+
+    /**
+     * Creates an {@code AsyncAddressBookSaver} that writes to {@code storage}.
+     */
+    public AsyncAddressBookSaver(AddressBookStorage storage) {
+        this(storage, DEFAULT_SAVE_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates an {@code AsyncAddressBookSaver} that writes to {@code storage} {@code saveDelayMillis} after
+     * the first of a burst of save requests.
+     */
+    public AsyncAddressBookSaver(AddressBookStorage storage, long saveDelayMillis) {
+        this(storage, saveDelayMillis, DEFAULT_RETRY_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates an {@code AsyncAddressBookSaver} that writes to {@code storage} {@code saveDelayMillis} after
+     * the first of a burst of save requests, and first retries a failed save after {@code retryDelayMillis}.
+     */
+    public AsyncAddressBookSaver(AddressBookStorage storage, long saveDelayMillis, long retryDelayMillis) {
+        requireNonNull(storage);
+        assert saveDelayMillis >= 0;
+        assert retryDelayMillis > 0;
+        this.storage = storage;
+        this.saveDelayMillis = saveDelayMillis;
+        this.retryDelayMillis = retryDelayMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is called, on the background thread, when a requested save fails.
+     */
+    public void setOnSaveFailure(Consumer<IOException> onSaveFailure) {
+        requireNonNull(onSaveFailure);
+        this.onSaveFailure = onSaveFailure;
+    }
+
+    /**
+     * Requests that {@code addressBook} be saved in the background.
+     * A snapshot of its persons is taken immediately, so this must be called on the thread that modifies it.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        pendingSnapshot.set(new AddressBookSnapshot(addressBook));
+        scheduleSave(saveDelayMillis);
+    }
+
+    private void scheduleSave(long delayMillis) {
+        if (isSaveScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::saveInBackground, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Blocks until every save requested so far has been written, writing any pending save immediately.
+     *
+     * @throws IOException if the last requested save could not be written.
+     */
+    public void flush() throws IOException {
+        Future<?> flushed = executor.submit(() -> {
+            savePending();
+            return null;
+        });
+
+        try {
+            flushed.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void saveInBackground() {
+        // cleared first, so that a request arriving while this save runs schedules another one
+        isSaveScheduled.set(false);
+        try {
+            savePending();
+        } catch (IOException e) {
+            onSaveFailure.accept(e);
+        }
+    }
+
+    /**
+     * Writes the pending snapshot, if any. Runs on the background thread only.
+     * A snapshot that fails to be written stays pending, unless a newer one has been requested in the meantime,
+     * and a retry is scheduled after a delay that doubles with each consecutive failure.
+     */
+    private void savePending() throws IOException {
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+            consecutiveFailureCount = 0;
+        } catch (IOException e) {
+            pendingSnapshot.compareAndSet(null, snapshot);
+            consecutiveFailureCount++;
+            long delayMillis = getRetryDelayMillis(consecutiveFailureCount);
+            logger.warning("Failed to save address book in the background, retrying in " + delayMillis + " ms: " + e);
+            scheduleSave(delayMillis);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the time to wait before retrying after the given number of consecutive failed saves.
+     */
+    private long getRetryDelayMillis(int failureCount) {
+        long delayMillis = retryDelayMillis;
+        for (int i = 1; i < failureCount && delayMillis < MAX_RETRY_DELAY_MILLIS; i++) {
+            delayMillis *= 2;
+        }
+        return Math.min(delayMillis, MAX_RETRY_DELAY_MILLIS);
+    }
+
+    /**
+     * An unmodifiable copy of the persons of an address book at one point in time.
+     * Persons are immutable, so copying the list is enough.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(addressBook.getPersonList()));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+
+}
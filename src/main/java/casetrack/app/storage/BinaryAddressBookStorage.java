@@ -0,0 +1,267 @@
+package casetrack.app.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.commons.util.FileUtil;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.person.Address;
+import casetrack.app.model.person.Email;
+import casetrack.app.model.person.Income;
+import casetrack.app.model.person.MedicalInfo;
+import casetrack.app.model.person.Name;
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.Phone;
+import casetrack.app.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * The file starts with a magic number, a format version and the number of persons, followed by each person's ID
+ * and fields as length-prefixed UTF-8 strings, and ends with a CRC32 checksum of everything before it.
+ * Persons are read straight off a buffered stream, so loading does not hold the whole file in memory.
+ */
+public class BinaryAddressBookStorage implements SnapshotStorage {
+
+    /** Identifies a CaseTrack binary snapshot ("CTAB"). */
+    public static final int MAGIC = 0x43544142;
+    public static final int VERSION = 2;
+
+    public static final String MESSAGE_NOT_BINARY_SNAPSHOT = "File is not a binary address book snapshot";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary snapshot version: %d";
+    public static final String MESSAGE_CORRUPTED = "Binary snapshot is corrupted: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (InputStream fileIn = Files.newInputStream(filePath)) {
+            CheckedInputStream checkedIn = new CheckedInputStream(new BufferedInputStream(fileIn), new CRC32());
+            return Optional.of(readSnapshot(new DataInputStream(checkedIn), checkedIn, Files.size(filePath)));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        saveSnapshot(addressBook, filePath);
+    }
+
+    @Override
+    public long saveSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        return FileUtil.writeAtomically(filePath, fileOut -> {
+            CheckedOutputStream checkedOut = new CheckedOutputStream(new BufferedOutputStream(fileOut), new CRC32());
+            DataOutputStream out = new DataOutputStream(checkedOut);
+            writeSnapshot(addressBook, out);
+            out.writeLong(checkedOut.getChecksum().getValue());
+            out.flush();
+        }, true);
+    }
+
+    private static void writeSnapshot(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(persons.size());
+        for (Person person : persons) {
+            writePerson(person, out);
+        }
+    }
+
+    private static void writePerson(Person person, DataOutputStream out) throws IOException {
+        out.writeInt(person.getId());
+        writeString(person.getName().fullName, out);
+        writeString(person.getPhone().value, out);
+        writeString(person.getEmail().value, out);
+        writeString(person.getAddress().value, out);
+        writeString(person.getIncome().toPlainString(), out);
+        writeString(person.getMedicalInfo().toString(), out);
+
+        Set<Tag> tags = person.getTags();
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            writeString(tag.tagName, out);
+        }
+
+        List<Note> notes = person.getNotes();
+        out.writeInt(notes.size());
+        for (Note note : notes) {
+            writeString(note.value, out);
+        }
+    }
+
+    private static void writeString(String value, DataOutputStream out) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a whole snapshot from {@code in} and verifies its checksum.
+     *
+     * @param fileSize the size of the file being read, which bounds every length read from it.
+     * @throws IllegalValueException if the snapshot is not in the expected format or violates the data constraints.
+     */
+    private static AddressBook readSnapshot(DataInputStream in, CheckedInputStream checkedIn, long fileSize)
+            throws IOException, IllegalValueException {
+        try {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_SNAPSHOT);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            int personCount = readLength(in, fileSize);
+            ParallelPersonLoader loader = new ParallelPersonLoader();
+            for (int i = 0; i < personCount; i++) {
+                loader.add(readPerson(in, fileSize));
+            }
+
+            long expectedChecksum = checkedIn.getChecksum().getValue();
+            if (in.readLong() != expectedChecksum || in.read() != -1) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "checksum mismatch"));
+            }
+
+            return loader.finish();
+        } catch (EOFException e) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "unexpected end of file"));
+        }
+    }
+
+    /**
+     * Reads the ID and fields of a person from {@code in}, returning the conversion of them into the model's
+     * {@code Person}.
+     */
+    private static ParallelPersonLoader.PersonConversion readPerson(DataInputStream in, long fileSize)
+            throws IOException, IllegalValueException {
+        int id = in.readInt();
+        if (id < Person.UNASSIGNED_ID) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "invalid ID " + id));
+        }
+        String name = readString(in, fileSize);
+        String phone = readString(in, fileSize);
+        String email = readString(in, fileSize);
+        String address = readString(in, fileSize);
+        String income = readString(in, fileSize);
+        String medicalInfo = readString(in, fileSize);
+
+        int tagCount = readLength(in, fileSize);
+        List<String> tagNames = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tagNames.add(readString(in, fileSize));
+        }
+
+        int noteCount = readLength(in, fileSize);
+        List<String> noteValues = new ArrayList<>(noteCount);
+        for (int i = 0; i < noteCount; i++) {
+            noteValues.add(readString(in, fileSize));
+        }
+
+        // the field constructors still check every value, as the checksum only guards against corruption
+        return () -> {
+            try {
+                Set<Tag> tags = new HashSet<>();
+                for (String tagName : tagNames) {
+                    tags.add(Tag.of(tagName));
+                }
+                List<Note> notes = new ArrayList<>(noteCount);
+                for (String noteValue : noteValues) {
+                    notes.add(new Note(noteValue));
+                }
+                // snapshots saved by earlier versions may hold incomes with more than two decimal places
+                Income modelIncome = Income.fromStoredValue(income);
+                if (!Income.isValidIncome(income)) {
+                    logger.warning("Rounded income " + income + " of " + name + " to " + modelIncome.toPlainString());
+                }
+                return new Person(id, new Name(name), new Phone(phone), new Email(email), new Address(address),
+                        modelIncome, new MedicalInfo(medicalInfo), tags, notes);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(e.getMessage());
+            }
+        };
+    }
+
+    private static String readString(DataInputStream in, long fileSize) throws IOException, IllegalValueException {
+        byte[] bytes = new byte[readLength(in, fileSize)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readLength(DataInputStream in, long fileSize) throws IOException, IllegalValueException {
+        int length = in.readInt();
+        if (length < 0 || length > fileSize) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "invalid length " + length));
+        }
+        return length;
+    }
+
+}
@@ -0,0 +1,335 @@
+package casetrack.app.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.commons.util.FileUtil;
+import casetrack.app.commons.util.JsonUtil;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * An {@code AddressBookStorage} that keeps a snapshot of the address book in another {@code AddressBookStorage}
+ * and records later changes in an append-only journal file next to the snapshot.
+ * Each save appends one record per added, edited or deleted person instead of rewriting the whole snapshot.
+ * The journal is replayed on top of the snapshot when the address book is read, and is compacted into a
+ * fresh snapshot once it grows past a threshold.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /** Default number of journal records after which the journal is compacted into a new snapshot. */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final SnapshotStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    /** Persons as last read from or written to the default file path, or null if not known. */
+    private List<Person> persistedPersons;
+    /** Checksum of the snapshot at the default file path, or null if not known. */
+    private Long snapshotChecksum;
+    private int journalRecordCount;
+    private boolean isJournalAppendable;
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that keeps its snapshots in {@code snapshotStorage}.
+     */
+    public JournalAddressBookStorage(SnapshotStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that keeps its snapshots in {@code snapshotStorage} and
+     * compacts its journal after {@code compactionThreshold} records.
+     */
+    public JournalAddressBookStorage(SnapshotStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        assert compactionThreshold > 0;
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the path of the journal file kept next to the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal, if any, on top of it.
+     * A journal without a snapshot is ignored.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent()) {
+            return snapshot;
+        }
+
+        AddressBook addressBook = new AddressBook(snapshot.get());
+        JournalReplay replay = replayJournal(addressBook, filePath);
+
+        if (filePath.equals(getAddressBookFilePath())) {
+            persistedPersons = new ArrayList<>(addressBook.getPersonList());
+            snapshotChecksum = replay.snapshotChecksum;
+            journalRecordCount = replay.recordCount;
+            isJournalAppendable = replay.isAppendable;
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath}.
+     * Saves to the default file path only append the changes made since the last read or save to the journal,
+     * unless the journal is due for compaction or there is no snapshot to journal them against, as when it was
+     * moved aside after it could not be read. The first save after reading a snapshot without a journal, whose
+     * checksum is thus not known, also writes a new snapshot. Saves to any other path write a full snapshot.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        List<JsonAdaptedJournalRecord> records = persistedPersons == null ? null : diff(persistedPersons, persons);
+
+        if (records == null || !isJournalAppendable || journalRecordCount + records.size() > compactionThreshold
+                || snapshotChecksum == null || !Files.exists(filePath)) {
+            compact(addressBook, filePath);
+        } else if (!records.isEmpty()) {
+            appendToJournal(records, filePath);
+        }
+
+        persistedPersons = new ArrayList<>(persons);
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot at {@code filePath} and starts an empty journal for it.
+     * The snapshot storage keeps the previous snapshot as a backup file, and the previous journal is kept as the
+     * journal of that backup file, so that the address book recovered from the backup file includes the changes
+     * journaled after it. If there was no previous snapshot, the backup file and its journal are left as they are.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        logger.fine("Compacting journal into snapshot " + filePath);
+        boolean hasPreviousSnapshot = Files.exists(filePath);
+        long checksum = snapshotStorage.saveSnapshot(addressBook, filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (hasPreviousSnapshot && Files.exists(journalFilePath)) {
+            Files.move(journalFilePath, getJournalFilePath(FileUtil.getBackupFilePath(filePath)),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+        String header = JsonUtil.toCompactJsonString(JsonJournalHeader.of(filePath, checksum))
+                + System.lineSeparator();
+        FileUtil.writeToFile(journalFilePath, header);
+        snapshotChecksum = checksum;
+        journalRecordCount = 0;
+        isJournalAppendable = true;
+    }
+
+    /**
+     * Appends {@code records} to the journal of the snapshot at {@code filePath} and forces them to disk,
+     * so that all the changes of one save cost a single disk sync.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records, Path filePath) throws IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(journalFilePath)) {
+            lines.append(JsonUtil.toCompactJsonString(JsonJournalHeader.of(filePath, snapshotChecksum)))
+                    .append(System.lineSeparator());
+        }
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append(System.lineSeparator());
+        }
+
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        journalRecordCount += records.size();
+    }
+
+    /**
+     * Replays the journal of the snapshot at {@code snapshotFilePath} onto {@code addressBook}.
+     * The records are applied to a copy of the person list, in which they find the persons they change by ID, and
+     * which replaces that of {@code addressBook} once all of them are applied, so that only the final list is
+     * checked for duplicate persons.
+     *
+     * @throws DataLoadingException if the journal could not be read, contains invalid records, or leaves duplicate
+     *     persons.
+     */
+    private JournalReplay replayJournal(AddressBook addressBook, Path snapshotFilePath) throws DataLoadingException {
+        ReplayedPersons persons = new ReplayedPersons(addressBook.getPersonList());
+        JournalReplay replay = applyJournal(persons, snapshotFilePath);
+        if (replay.recordCount > 0) {
+            try {
+                addressBook.setPersons(persons.toList());
+            } catch (DuplicatePersonException e) {
+                Path journalFilePath = getJournalFilePath(snapshotFilePath);
+                logger.info("Duplicate persons found after replaying " + journalFilePath);
+                throw new DataLoadingException(
+                        new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+            }
+        }
+        return replay;
+    }
+
+    /**
+     * Applies the records in the journal of the snapshot at {@code snapshotFilePath} to {@code persons}.
+     */
+    private JournalReplay applyJournal(ReplayedPersons persons, Path snapshotFilePath) throws DataLoadingException {
+        Path journalFilePath = getJournalFilePath(snapshotFilePath);
+        if (!Files.exists(journalFilePath)) {
+            return new JournalReplay(0, true, null);
+        }
+
+        List<String> lines;
+        JsonJournalHeader header;
+        try {
+            lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+            header = lines.isEmpty() ? null : JsonUtil.fromJsonString(lines.get(0), JsonJournalHeader.class);
+            if (header == null || !header.matches(snapshotFilePath)) {
+                logger.info("Ignoring journal " + journalFilePath + " as it does not belong to the current snapshot.");
+                return new JournalReplay(0, false, null);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        int recordCount = 0;
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    // the last append was interrupted part way through
+                    logger.warning("Discarding incomplete last record in journal " + journalFilePath);
+                    return new JournalReplay(recordCount, false, header.getSnapshotChecksum());
+                }
+                logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+
+            try {
+                record.applyTo(persons);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            recordCount++;
+        }
+
+        logger.info("Replayed " + recordCount + " record(s) from journal " + journalFilePath);
+        return new JournalReplay(recordCount, true, header.getSnapshotChecksum());
+    }
+
+    /**
+     * Returns the journal records that turn {@code persisted} into {@code current}, or null if some person has no
+     * ID, so that records cannot refer to it.
+     * Persons are immutable, so persons that were not changed are the very same objects in both lists, and edited
+     * persons keep their ID.
+     */
+    static List<JsonAdaptedJournalRecord> diff(List<Person> persisted, List<Person> current) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+
+        // invariant: replaying the records gives current[0, j) followed by persisted[i, ...)
+        int i = 0;
+        int j = 0;
+        while (i < persisted.size() && j < current.size()) {
+            Person persistedPerson = persisted.get(i);
+            Person currentPerson = current.get(j);
+            if (persistedPerson == currentPerson) {
+                i++;
+                j++;
+            } else if (currentPerson.getId() == Person.UNASSIGNED_ID
+                    || persistedPerson.getId() == Person.UNASSIGNED_ID) {
+                return null;
+            } else if (persistedPerson.getId() == currentPerson.getId()) {
+                records.add(JsonAdaptedJournalRecord.set(currentPerson));
+                i++;
+                j++;
+            } else {
+                // persons are only appended, so a person out of place was removed, or is added again at the end
+                records.add(JsonAdaptedJournalRecord.delete(persistedPerson.getId()));
+                i++;
+            }
+        }
+
+        for (; i < persisted.size(); i++) {
+            if (persisted.get(i).getId() == Person.UNASSIGNED_ID) {
+                return null;
+            }
+            records.add(JsonAdaptedJournalRecord.delete(persisted.get(i).getId()));
+        }
+        for (; j < current.size(); j++) {
+            records.add(JsonAdaptedJournalRecord.add(current.get(j)));
+        }
+        return records;
+    }
+
+    /**
+     * The outcome of replaying a journal.
+     */
+    private static class JournalReplay {
+        private final int recordCount;
+        private final boolean isAppendable;
+        /** Checksum of the snapshot as recorded in the journal header, or null if there is no valid header. */
+        private final Long snapshotChecksum;
+
+        JournalReplay(int recordCount, boolean isAppendable, Long snapshotChecksum) {
+            this.recordCount = recordCount;
+            this.isAppendable = isAppendable;
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package casetrack.app.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change recorded in the address book journal.
+ * Persons to replace and remove are referred to by their ID.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+
+    /**
+     * The kinds of change that can be recorded in the journal.
+     */
+    enum Operation {
+        ADD, SET, DELETE
+    }
+
+    private final Operation op;
+    private final Integer id;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") Operation op, @JsonProperty("id") Integer id,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.id = id;
+        this.person = person;
+    }
+
+    /**
+     * Returns a record that appends {@code person} to the end of the person list.
+     */
+    public static JsonAdaptedJournalRecord add(Person person) {
+        return new JsonAdaptedJournalRecord(Operation.ADD, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record that replaces the person with the ID of {@code person} with {@code person}.
+     */
+    public static JsonAdaptedJournalRecord set(Person person) {
+        return new JsonAdaptedJournalRecord(Operation.SET, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record that removes the person with the given {@code id}.
+     */
+    public static JsonAdaptedJournalRecord delete(int id) {
+        return new JsonAdaptedJournalRecord(Operation.DELETE, id, null);
+    }
+
+    /**
+     * Applies the change described by this record to {@code persons}.
+     * Persons are not checked for duplicates, as the records of one save can pass through states with duplicates
+     * on the way to one without, such as when a person is edited to take the name of a person deleted after it.
+     *
+     * @throws IllegalValueException if the record is incomplete or refers to a person that does not exist.
+     */
+    public void applyTo(ReplayedPersons persons) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing operation"));
+        }
+
+        switch (op) {
+        case ADD:
+            Person added = toPerson();
+            if (persons.contains(added.getId())) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "id " + added.getId()));
+            }
+            persons.add(added);
+            break;
+        case SET:
+            Person edited = toPerson();
+            checkFound(persons.contains(edited.getId()), "id " + edited.getId());
+            persons.set(edited);
+            break;
+        case DELETE:
+            checkFound(id != null && persons.contains(id), "id " + id);
+            persons.remove(id);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op));
+        }
+    }
+
+    private Person toPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing person"));
+        }
+        return person.toModelType();
+    }
+
+    private static void checkFound(boolean isFound, String target) throws IllegalValueException {
+        if (!isFound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, target));
+        }
+    }
+
+}
@@ -3,11 +3,14 @@ package casetrack.app.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import casetrack.app.commons.core.LogsCenter;
 import casetrack.app.commons.exceptions.IllegalValueException;
 import casetrack.app.model.person.Address;
 import casetrack.app.model.person.Email;
@@ -25,7 +28,13 @@ import casetrack.app.model.tag.Tag;
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String MESSAGE_INVALID_ID = "Person's ID should be a positive integer";
 
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedPerson.class);
+
+    /** ID of the person, or null if it has none, as in data files saved before persons had IDs. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer id;
     private final String name;
     private final String phone;
     private final String email;
@@ -39,12 +48,13 @@ class JsonAdaptedPerson {
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name,
+    public JsonAdaptedPerson(@JsonProperty("id") Integer id, @JsonProperty("name") String name,
             @JsonProperty("phone") String phone, @JsonProperty("email") String email,
             @JsonProperty("address") String address, @JsonProperty("income") String income,
             @JsonProperty("medicalInfo") String medicalInfo,
             @JsonProperty("tags") List<JsonAdaptedTag> tags,
             @JsonProperty("notes") List<String> notes) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -59,15 +69,24 @@ class JsonAdaptedPerson {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no ID.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, String income,
+            String medicalInfo, List<JsonAdaptedTag> tags, List<String> notes) {
+        this(null, name, phone, email, address, income, medicalInfo, tags, notes);
+    }
+
     /**
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId() == Person.UNASSIGNED_ID ? null : source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
         address = source.getAddress().value;
-        // Store income as raw numeric string to keep JSON parseable by Income.isValidIncome
+        // Store income as raw numeric string to keep JSON parseable by Income.isValidStoredIncome
         income = source.getIncome().toPlainString();
         medicalInfo = source.getMedicalInfo().toString();
         tags.addAll(source.getTags().stream()
@@ -84,6 +103,10 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        if (id != null && id <= Person.UNASSIGNED_ID) {
+            throw new IllegalValueException(MESSAGE_INVALID_ID);
+        }
+
         List<Tag> personTags;
         try {
             personTags = tags.stream()
@@ -122,14 +145,18 @@ class JsonAdaptedPerson {
                 Email.class.getSimpleName(), Email.MESSAGE_CONSTRAINTS);
         Address modelAddress = validateAndCreate(address, Address::isValidAddress, Address::new,
                 Address.class.getSimpleName(), Address.MESSAGE_CONSTRAINTS);
-        Income modelIncome = validateAndCreate(income, Income::isValidIncome, Income::new,
-                Income.class.getSimpleName(), Income.MESSAGE_CONSTRAINTS);
+        // data files saved by earlier versions may hold incomes with more than two decimal places
+        Income modelIncome = validateAndCreate(income, Income::isValidStoredIncome, Income::fromStoredValue,
+                Income.class.getSimpleName(), Income.MESSAGE_STORED_CONSTRAINTS);
+        if (!Income.isValidIncome(income)) {
+            logger.warning("Rounded income " + income + " of " + name + " to " + modelIncome.toPlainString());
+        }
         MedicalInfo modelMedicalInfo = validateAndCreate(medicalInfo != null ? medicalInfo : "-",
                 MedicalInfo::isValidMedicalInfo, MedicalInfo::new,
                 MedicalInfo.class.getSimpleName(), MedicalInfo.MESSAGE_CONSTRAINTS);
 
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelIncome,
-                modelMedicalInfo, new HashSet<>(personTags), personNotes);
+        return new Person(id == null ? Person.UNASSIGNED_ID : id, modelName, modelPhone, modelEmail, modelAddress,
+                modelIncome, modelMedicalInfo, new HashSet<>(personTags), personNotes);
     }
 
     private Note validateAndCreateNote(String noteValue) {
@@ -0,0 +1,71 @@
+package casetrack.app.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly first line of an address book journal.
+ * Identifies the snapshot file that the records in the journal were written against, by its size and a checksum
+ * of its contents, so that a journal left behind by an interrupted compaction is not replayed on top of a newer
+ * snapshot. A checksum still matches after the snapshot is copied or restored, which changes its modification time.
+ */
+class JsonJournalHeader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final long snapshotSize;
+    private final long snapshotChecksum;
+
+    /**
+     * Constructs a {@code JsonJournalHeader} with the given snapshot details.
+     */
+    @JsonCreator
+    public JsonJournalHeader(@JsonProperty("snapshotSize") long snapshotSize,
+            @JsonProperty("snapshotChecksum") long snapshotChecksum) {
+        this.snapshotSize = snapshotSize;
+        this.snapshotChecksum = snapshotChecksum;
+    }
+
+    /**
+     * Returns the header describing the snapshot currently stored at {@code snapshotFile}, whose CRC32 checksum
+     * {@code snapshotChecksum} was computed as it was written.
+     */
+    public static JsonJournalHeader of(Path snapshotFile, long snapshotChecksum) throws IOException {
+        return new JsonJournalHeader(Files.size(snapshotFile), snapshotChecksum);
+    }
+
+    /**
+     * Returns the CRC32 checksum of the snapshot this header describes.
+     */
+    public long getSnapshotChecksum() {
+        return snapshotChecksum;
+    }
+
+    /**
+     * Returns true if this header describes the snapshot currently stored at {@code snapshotFile}.
+     * The snapshot is only read in full to verify its checksum if its size matches.
+     */
+    public boolean matches(Path snapshotFile) throws IOException {
+        return Files.exists(snapshotFile)
+                && snapshotSize == Files.size(snapshotFile)
+                && snapshotChecksum == checksum(snapshotFile);
+    }
+
+    private static long checksum(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+}
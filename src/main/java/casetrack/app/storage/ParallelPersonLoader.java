@@ -0,0 +1,110 @@
+package casetrack.app.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.person.Person;
+
+/**
+ * Loads the persons read from a data file into an address book, converting and validating them in parallel.
+ * Persons are taken in chunks of {@link #CHUNK_SIZE}, so that only one chunk of unconverted persons is held in memory
+ * while a file is read. The persons of a chunk are converted in parallel on the common fork-join pool, and then added
+ * to the address book one at a time, in the order they were read, checking for duplicates as they are added.
+ *
+ * Errors are reported as if the persons were loaded one at a time: the error reported is that of the first person
+ * in the file that is invalid, a duplicate of an earlier person or has the ID of an earlier person, whichever comes
+ * first.
+ */
+class ParallelPersonLoader {
+
+    public static final String MESSAGE_INVALID_PERSON = "Person %d in the file is invalid: %s";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Person %d in the file is a duplicate of an earlier person.";
+    public static final String MESSAGE_DUPLICATE_ID = "Person %d in the file has the same ID as an earlier person.";
+
+    /** Number of persons converted together. */
+    static final int CHUNK_SIZE = 4096;
+    /** Number of persons in a chunk, from which they are converted in parallel. */
+    static final int PARALLEL_CONVERSION_THRESHOLD = 1_000;
+
+    private final AddressBook addressBook = new AddressBook();
+    private final List<PersonConversion> pending = new ArrayList<>();
+    /** Number of persons added to the address book so far. */
+    private int loadedCount;
+
+    /**
+     * Converts a person read from a data file into the model's {@code Person}.
+     */
+    @FunctionalInterface
+    interface PersonConversion {
+        /**
+         * Returns the converted person.
+         *
+         * @throws IllegalValueException if there were any data constraints violated in the person.
+         */
+        Person toModelType() throws IllegalValueException;
+    }
+
+    /**
+     * Adds the next person in the file, which is converted along with the rest of its chunk.
+     *
+     * @throws IllegalValueException if this completes a chunk that has an invalid or duplicate person.
+     */
+    public void add(PersonConversion conversion) throws IllegalValueException {
+        requireNonNull(conversion);
+        pending.add(conversion);
+        if (pending.size() == CHUNK_SIZE) {
+            loadPending();
+        }
+    }
+
+    /**
+     * Loads the persons not yet converted, and returns the address book holding every person added.
+     *
+     * @throws IllegalValueException if there is an invalid or duplicate person.
+     */
+    public AddressBook finish() throws IllegalValueException {
+        loadPending();
+        return addressBook;
+    }
+
+    private void loadPending() throws IllegalValueException {
+        int count = pending.size();
+        Person[] persons = new Person[count];
+        IllegalValueException[] errors = new IllegalValueException[count];
+        IntStream indices = IntStream.range(0, count);
+        if (count >= PARALLEL_CONVERSION_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            try {
+                persons[i] = pending.get(i).toModelType();
+            } catch (IllegalValueException e) {
+                errors[i] = e;
+            }
+        });
+        pending.clear();
+
+        for (int i = 0; i < count; i++) {
+            int fileIndex = loadedCount + 1;
+            if (errors[i] != null) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_PERSON, fileIndex,
+                        errors[i].getMessage()), errors[i]);
+            }
+            if (addressBook.hasPerson(persons[i])) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PERSON, fileIndex));
+            }
+            // the address book would give the person a new ID instead, which would not be stable
+            if (persons[i].getId() != Person.UNASSIGNED_ID
+                    && addressBook.getPersonById(persons[i].getId()).isPresent()) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ID, fileIndex));
+            }
+            addressBook.addPerson(persons[i]);
+            loadedCount++;
+        }
+    }
+}
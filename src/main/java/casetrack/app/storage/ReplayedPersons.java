@@ -0,0 +1,83 @@
+package casetrack.app.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import casetrack.app.model.person.Person;
+
+/**
+ * The person list of an address book as its journal is replayed onto it, with persons looked up by their ID.
+ * Persons removed leave a gap at their position until the list is returned by {@link #toList()}, so that no
+ * change moves the persons after it, and each change to a person found by ID takes constant time.
+ */
+class ReplayedPersons {
+
+    /** Persons in the list, or null at the positions of persons removed. */
+    private final List<Person> persons;
+    /** Maps the ID of each person in the list to its position in {@code persons}. */
+    private final Map<Integer, Integer> positions = new HashMap<>();
+
+    /**
+     * Creates a {@code ReplayedPersons} holding {@code persons}, which must have distinct IDs.
+     */
+    ReplayedPersons(List<Person> persons) {
+        this.persons = new ArrayList<>(persons);
+        for (int i = 0; i < persons.size(); i++) {
+            putPosition(persons.get(i), i);
+        }
+    }
+
+    /**
+     * Returns true if a person with the given {@code id} is in the list.
+     */
+    boolean contains(int id) {
+        return positions.containsKey(id);
+    }
+
+    /**
+     * Appends {@code person} to the end of the list.
+     * No person in the list may have the ID of {@code person}.
+     */
+    void add(Person person) {
+        assert !contains(person.getId());
+        putPosition(person, persons.size());
+        persons.add(person);
+    }
+
+    /**
+     * Replaces the person with the ID of {@code editedPerson} with it.
+     * A person with that ID must be in the list.
+     */
+    void set(Person editedPerson) {
+        assert contains(editedPerson.getId());
+        persons.set(positions.get(editedPerson.getId()), editedPerson);
+    }
+
+    /**
+     * Removes the person with the given {@code id}.
+     * A person with that ID must be in the list.
+     */
+    void remove(int id) {
+        assert contains(id);
+        persons.set(positions.remove(id), null);
+    }
+
+    /**
+     * Returns the persons in the list, in order.
+     */
+    List<Person> toList() {
+        return persons.stream().filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    private void putPosition(Person person, int position) {
+        // persons of data files saved before persons had IDs have none, and cannot be looked up by it
+        if (person.getId() != Person.UNASSIGNED_ID) {
+            positions.put(person.getId(), position);
+        }
+    }
+
+}
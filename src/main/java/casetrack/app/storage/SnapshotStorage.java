@@ -0,0 +1,22 @@
+package casetrack.app.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import casetrack.app.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that writes the whole address book as one snapshot file on every save, and knows
+ * the checksum of each snapshot it writes.
+ */
+public interface SnapshotStorage extends AddressBookStorage {
+
+    /**
+     * Saves {@code addressBook} to {@code filePath}, as {@link #saveAddressBook(ReadOnlyAddressBook, Path)} does.
+     *
+     * @return the CRC32 checksum of the snapshot file, computed as it was written.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    long saveSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
+
+}
@@ -0,0 +1,92 @@
+package casetrack.app.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.core.StorageFormat;
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.util.FileUtil;
+import casetrack.app.model.ReadOnlyAddressBook;
+
+/**
+ * Creates the storage of an address book in each {@code StorageFormat}, and finds the format whose data files
+ * were written last.
+ */
+public class StorageFormats {
+
+    private static final Logger logger = LogsCenter.getLogger(StorageFormats.class);
+
+    private StorageFormats() {}
+
+    /**
+     * Returns the journaled storage of the address book in {@code format}, given the address book file path in the
+     * user prefs.
+     */
+    public static AddressBookStorage createAddressBookStorage(StorageFormat format, Path addressBookFilePath) {
+        requireNonNull(format);
+        Path filePath = format.getFilePath(addressBookFilePath);
+        switch (format) {
+        case BINARY:
+            return new JournalAddressBookStorage(new BinaryAddressBookStorage(filePath));
+        case JSON:
+        default:
+            return new JournalAddressBookStorage(new JsonAddressBookStorage(filePath));
+        }
+    }
+
+    /**
+     * Returns the address book stored in a format other than {@code format}, if its data files were written after
+     * those of {@code format}, as they are when the address book was kept in the other format since it was last
+     * kept in {@code format}. Of several such formats, the one written last is used.
+     *
+     * @throws DataLoadingException if the address book in that format could not be read.
+     */
+    public static Optional<ReadOnlyAddressBook> readNewerAddressBook(StorageFormat format, Path addressBookFilePath)
+            throws DataLoadingException {
+        requireNonNull(format);
+        requireNonNull(addressBookFilePath);
+
+        StorageFormat newestFormat = format;
+        Optional<FileTime> newestTime = getLastModifiedTime(format, addressBookFilePath);
+        for (StorageFormat otherFormat : StorageFormat.values()) {
+            Optional<FileTime> otherTime = getLastModifiedTime(otherFormat, addressBookFilePath);
+            if (otherTime.isPresent()
+                    && (!newestTime.isPresent() || otherTime.get().compareTo(newestTime.get()) > 0)) {
+                newestFormat = otherFormat;
+                newestTime = otherTime;
+            }
+        }
+        if (newestFormat == format) {
+            return Optional.empty();
+        }
+
+        AddressBookStorage newerStorage = createAddressBookStorage(newestFormat, addressBookFilePath);
+        logger.info("Importing " + newestFormat + " data file " + newerStorage.getAddressBookFilePath()
+                + " as it is newer than the " + format + " data file");
+        return newerStorage.readAddressBook();
+    }
+
+    /**
+     * Returns the time at which the data of the address book in {@code format} was last written, which is that of
+     * its snapshot or journal, whichever was written last, or empty if it has no snapshot.
+     */
+    private static Optional<FileTime> getLastModifiedTime(StorageFormat format, Path addressBookFilePath) {
+        Path snapshotFilePath = format.getFilePath(addressBookFilePath);
+        if (!Files.exists(snapshotFilePath)) {
+            return Optional.empty();
+        }
+        return Arrays.asList(snapshotFilePath, JournalAddressBookStorage.getJournalFilePath(snapshotFilePath))
+                .stream()
+                .filter(Files::exists)
+                .map(FileUtil::getLastModifiedTime)
+                .max(FileTime::compareTo);
+    }
+
+}
@@ -1,12 +1,21 @@
 package casetrack.app.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import casetrack.app.commons.core.LogsCenter;
 import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.util.FileUtil;
 import casetrack.app.model.ReadOnlyAddressBook;
 import casetrack.app.model.ReadOnlyUserPrefs;
 import casetrack.app.model.UserPrefs;
@@ -16,10 +25,15 @@ import casetrack.app.model.UserPrefs;
  */
 public class StorageManager implements Storage {
 
+    public static final String UNREADABLE_FILE_SUFFIX = ".unreadable";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    /** Data files that could not be read when the address book was recovered from another file instead. */
+    private final Set<Path> unreadableFilePaths = ConcurrentHashMap.newKeySet();
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -58,10 +72,54 @@ public class StorageManager implements Storage {
         return readAddressBook(addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * Reads the address book at {@code filePath}, recovering it from the files left next to it by an
+     * interrupted or earlier save if needed.
+     * Of {@code filePath}, its temporary file and its backup file, the newest one that can be read is used.
+     * Each file is read together with its own journal, if the address book storage keeps one, so a backup file is
+     * recovered with the changes journaled after it rather than those journaled after {@code filePath}.
+     * If {@code filePath} itself cannot be read, it is moved aside before it is next saved to, so that saving does
+     * not replace the backup file it was recovered from with it.
+     *
+     * @throws DataLoadingException if none of the files that exist can be read.
+     */
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        List<Path> candidates = new ArrayList<>();
+        for (Path candidate : Arrays.asList(filePath, FileUtil.getTempFilePath(filePath),
+                FileUtil.getBackupFilePath(filePath))) {
+            if (Files.exists(candidate)) {
+                candidates.add(candidate);
+            }
+        }
+        candidates.sort(Comparator.comparing(FileUtil::getLastModifiedTime).reversed());
+
+        DataLoadingException firstException = null;
+        boolean isFileUnreadable = false;
+        for (Path candidate : candidates) {
+            logger.fine("Attempting to read data from file: " + candidate);
+            try {
+                Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook(candidate);
+                if (addressBook.isPresent()) {
+                    if (!candidate.equals(filePath)) {
+                        logger.warning("Recovered data from " + candidate + " instead of " + filePath);
+                    }
+                    if (isFileUnreadable) {
+                        unreadableFilePaths.add(filePath);
+                    }
+                    return addressBook;
+                }
+            } catch (DataLoadingException e) {
+                logger.warning("Data file " + candidate + " could not be loaded: " + e.getMessage());
+                isFileUnreadable |= candidate.equals(filePath);
+                firstException = firstException == null ? e : firstException;
+            }
+        }
+
+        if (firstException != null) {
+            throw firstException;
+        }
+        return Optional.empty();
     }
 
     @Override
@@ -72,7 +130,31 @@ public class StorageManager implements Storage {
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
+        if (unreadableFilePaths.contains(filePath)) {
+            moveAsideUnreadableFile(filePath);
+            unreadableFilePaths.remove(filePath);
+        }
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    /**
+     * Returns the path that the data file at {@code filePath} is moved to if it could not be read.
+     */
+    public static Path getUnreadableFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + UNREADABLE_FILE_SUFFIX);
+    }
+
+    /**
+     * Moves the data file at {@code filePath}, which could not be read, aside for the user to inspect.
+     * Otherwise saving to {@code filePath} would keep it as the backup file in place of the one the address book
+     * was recovered from.
+     */
+    private static void moveAsideUnreadableFile(Path filePath) throws IOException {
+        if (Files.exists(filePath)) {
+            Path unreadableFilePath = getUnreadableFilePath(filePath);
+            Files.move(filePath, unreadableFilePath, StandardCopyOption.REPLACE_EXISTING);
+            logger.warning("Moved unreadable data file " + filePath + " to " + unreadableFilePath);
+        }
+    }
+
 }
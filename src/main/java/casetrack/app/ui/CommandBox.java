@@ -1,34 +1,77 @@
 package casetrack.app.ui;
 
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
 import casetrack.app.logic.commands.CommandResult;
 import casetrack.app.logic.commands.exceptions.CommandException;
 import casetrack.app.logic.parser.exceptions.ParseException;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Search commands are previewed as they are typed, once typing pauses.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    /** How long typing must pause before the command is previewed. */
+    public static final Duration PREVIEW_DELAY = Duration.millis(150);
     private static final String FXML = "CommandBox.fxml";
 
+    /** Runs previews off the JavaFX application thread, one at a time. */
+    private static final ExecutorService previewExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-preview");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final CommandExecutor commandExecutor;
+    private final CommandPreviewer commandPreviewer;
+    private final PauseTransition previewDelay = new PauseTransition(PREVIEW_DELAY);
+    /** Incremented whenever the text changes or a command is entered, so that outdated previews are dropped. */
+    private final AtomicLong textVersion = new AtomicLong();
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandPreviewer}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandPreviewer commandPreviewer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandPreviewer = commandPreviewer;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, text) -> schedulePreview(text));
+    }
+
+    /**
+     * Previews {@code commandText} once typing pauses for {@link #PREVIEW_DELAY}, unless the text changes again.
+     */
+    private void schedulePreview(String commandText) {
+        long version = textVersion.incrementAndGet();
+        previewDelay.setOnFinished(unused -> previewExecutor.execute(() -> {
+            if (version != textVersion.get()) {
+                return;
+            }
+            Optional<Runnable> showPreview = commandPreviewer.preview(commandText);
+            showPreview.ifPresent(show -> Platform.runLater(() -> {
+                if (version == textVersion.get()) {
+                    show.run();
+                }
+            }));
+        }));
+        previewDelay.playFromStart();
     }
 
     /**
@@ -41,6 +84,10 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
+        // the command replaces any preview of it that has not been shown yet
+        previewDelay.stop();
+        textVersion.incrementAndGet();
+
         try {
             commandExecutor.execute(commandText);
             commandTextField.setText("");
@@ -82,4 +129,18 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that previews the result of commands.
+     */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Computes the preview of the command off the JavaFX application thread, and returns how to show it on
+         * that thread, or an empty {@code Optional} if the command cannot be previewed.
+         *
+         * @see casetrack.app.logic.Logic#previewSearch(String)
+         */
+        Optional<Runnable> preview(String commandText);
+    }
+
 }
@@ -1,16 +1,19 @@
 package casetrack.app.ui;
 
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import casetrack.app.commons.core.GuiSettings;
 import casetrack.app.commons.core.LogsCenter;
 import casetrack.app.logic.Logic;
+import casetrack.app.logic.Messages;
 import casetrack.app.logic.commands.CommandResult;
 import casetrack.app.logic.commands.DetailPanelInstruction;
 import casetrack.app.logic.commands.exceptions.CommandException;
 import casetrack.app.logic.parser.exceptions.ParseException;
 import casetrack.app.model.person.Person;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -141,11 +144,12 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setOnSaveFailure(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, this::previewSearch);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -203,6 +207,21 @@ public class MainWindow extends UiPart<Stage> {
         return personListPanel;
     }
 
+    /**
+     * Finds the patients matching the search being typed, and returns how to show them.
+     * Called off the JavaFX application thread.
+     *
+     * @see casetrack.app.logic.Logic#previewSearch(String)
+     */
+    private Optional<Runnable> previewSearch(String commandText) {
+        return logic.previewSearch(commandText).map(preview -> () -> {
+            if (logic.showSearchPreview(preview)) {
+                resultDisplay.setFeedbackToUser(String.format(Messages.MESSAGE_SEARCH_PREVIEW,
+                        preview.getMatches().size()));
+            }
+        });
+    }
+
     /**
      * Executes the command and returns the result.
      *
@@ -0,0 +1,116 @@
+package casetrack.app.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import casetrack.app.model.index.ColumnStore;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.tag.Tag;
+import casetrack.app.testutil.GeneratedPersons;
+
+/**
+ * Compares the time taken by summaries of many persons, when they scan the columns of a {@code ColumnStore}
+ * against when they walk the {@code Person} objects, as they would without it.
+ * Run with {@code gradlew benchmark -Pbenchmark=ColumnScanBenchmark}, optionally passing the sizes to measure as
+ * program arguments. Not run as part of the test suite.
+ */
+public class ColumnScanBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {100_000, 1_000_000};
+    private static final int WARMUP_RUNS = 10;
+    private static final int MEASURED_RUNS = 10;
+
+    private static final long[] INCOME_BOUNDS_CENTS = {100_000, 200_000, 500_000, 1_000_000};
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? DEFAULT_SIZES : Stream.of(args).mapToInt(Integer::parseInt).toArray();
+        System.out.printf("%10s %-24s %14s %14s%n", "patients", "summary", "objects (ms)", "columns (ms)");
+        for (int size : sizes) {
+            List<Person> persons = GeneratedPersons.generate(size);
+            ColumnStore columns = new ColumnStore();
+            for (int i = 0; i < persons.size(); i++) {
+                columns.add(i, persons.get(i));
+            }
+
+            measure(size, "total income", () -> totalIncome(persons), () -> columns.getTotalIncomeCents().longValue());
+            measure(size, "income distribution", () -> incomeDistribution(persons)[1], () ->
+                    columns.countIncomes(INCOME_BOUNDS_CENTS)[1]);
+            measure(size, "tag counts", () -> tagCounts(persons).hashCode(), () -> columns.countTags().hashCode());
+            measure(size, "total notes", () -> totalNotes(persons), () -> columns.getTotalNoteCount());
+            measure(size, "names containing tan", () -> persons.stream()
+                    .filter(person -> person.getName().getLowerCaseName().contains("tan")).count(), () ->
+                    columns.countNamesContaining("tan"));
+        }
+    }
+
+    private static long totalIncome(List<Person> persons) {
+        long total = 0;
+        for (Person person : persons) {
+            total += person.getIncome().getCents();
+        }
+        return total;
+    }
+
+    private static int[] incomeDistribution(List<Person> persons) {
+        int[] counts = new int[INCOME_BOUNDS_CENTS.length + 1];
+        for (Person person : persons) {
+            long cents = person.getIncome().getCents();
+            int range = 0;
+            while (range < INCOME_BOUNDS_CENTS.length && cents >= INCOME_BOUNDS_CENTS[range]) {
+                range++;
+            }
+            counts[range]++;
+        }
+        return counts;
+    }
+
+    private static Map<Tag, Integer> tagCounts(List<Person> persons) {
+        Map<Tag, Integer> counts = new HashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                counts.merge(tag, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    private static long totalNotes(List<Person> persons) {
+        long total = 0;
+        for (Person person : persons) {
+            total += person.getNotes().size();
+        }
+        return total;
+    }
+
+    private static void measure(int size, String summary, LongSupplier objects, LongSupplier columns) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            objects.getAsLong();
+            columns.getAsLong();
+        }
+
+        long[] objectsCost = measure(objects);
+        long[] columnsCost = measure(columns);
+        if (objectsCost[1] != columnsCost[1]) {
+            throw new IllegalStateException(summary + ": " + objectsCost[1] + " from objects, " + columnsCost[1]
+                    + " from columns");
+        }
+        System.out.printf("%10d %-24s %14.3f %14.3f%n", size, summary, objectsCost[0] / 1e6, columnsCost[0] / 1e6);
+    }
+
+    /**
+     * Returns the least time {@code summary} took in nanoseconds, and its result.
+     */
+    private static long[] measure(LongSupplier summary) {
+        long bestTime = Long.MAX_VALUE;
+        long result = 0;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            result = summary.getAsLong();
+            bestTime = Math.min(bestTime, System.nanoTime() - start);
+        }
+        return new long[] {bestTime, result};
+    }
+}
@@ -0,0 +1,129 @@
+package casetrack.app.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntToLongFunction;
+import java.util.stream.Stream;
+
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.GeneratedPersons;
+
+/**
+ * Compares the memory allocated and the time taken to format, range-test and sum the incomes of many persons, when
+ * incomes are kept in cents and formatted with a formatter built once per thread against when they are kept as
+ * {@code BigDecimal}s and formatted with a new formatter each time, as they used to be.
+ * Run with {@code gradlew benchmark -Pbenchmark=IncomeBenchmark}, optionally passing the sizes to measure as
+ * program arguments. Not run as part of the test suite.
+ */
+public class IncomeBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {100_000};
+    private static final int WARMUP_RUNS = 10;
+    private static final int MEASURED_RUNS = 10;
+
+    private static final BigDecimal LOWER_BOUND = new BigDecimal("1000");
+    private static final BigDecimal UPPER_BOUND = new BigDecimal("2000");
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? DEFAULT_SIZES : Stream.of(args).mapToInt(Integer::parseInt).toArray();
+        System.out.printf("%10s %-24s %14s %14s %12s %12s%n", "patients", "operation", "before (B)", "after (B)",
+                "before (ms)", "after (ms)");
+        for (int size : sizes) {
+            List<Person> persons = GeneratedPersons.generate(size);
+            BigDecimal[] values = persons.stream().map(person -> person.getIncome().getValue())
+                    .toArray(BigDecimal[]::new);
+
+            measure(size, "format income", i -> formatWithNewFormatter(values[i]).length(), i ->
+                    persons.get(i).getIncome().toString().length());
+            measure(size, "income 1000-2000", i -> values[i].compareTo(LOWER_BOUND) >= 0
+                    && values[i].compareTo(UPPER_BOUND) <= 0 ? 1 : 0, i -> {
+                        long cents = persons.get(i).getIncome().getCents();
+                        return cents >= 100_000 && cents <= 200_000 ? 1 : 0;
+                    });
+            measure(size, "total income", IncomeBenchmark.sumOf(values), i -> persons.get(i).getIncome().getCents());
+        }
+    }
+
+    /**
+     * Returns a function whose sum over all indexes is the total of {@code values} in cents, with the total kept
+     * as a {@code BigDecimal} as it would be without incomes in cents.
+     */
+    private static IntToLongFunction sumOf(BigDecimal[] values) {
+        return i -> {
+            if (i > 0) {
+                return 0;
+            }
+            BigDecimal total = BigDecimal.ZERO;
+            for (BigDecimal value : values) {
+                total = total.add(value);
+            }
+            return total.movePointRight(2).longValueExact();
+        };
+    }
+
+    /**
+     * Formats {@code value} as {@code Income#toString()} used to, building a new formatter each time.
+     */
+    private static String formatWithNewFormatter(BigDecimal value) {
+        Currency sgd = Currency.getInstance("SGD");
+        NumberFormat format = NumberFormat.getCurrencyInstance(new Locale("en", "SG"));
+        DecimalFormat df = (DecimalFormat) format;
+        DecimalFormatSymbols symbols = df.getDecimalFormatSymbols();
+        symbols.setCurrencySymbol(sgd.getCurrencyCode() + " ");
+        df.setDecimalFormatSymbols(symbols);
+        df.setCurrency(sgd);
+        return df.format(value);
+    }
+
+    private static void measure(int size, String operation, IntToLongFunction before, IntToLongFunction after) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            sum(size, before);
+            sum(size, after);
+        }
+
+        long[] beforeCost = measure(size, before);
+        long[] afterCost = measure(size, after);
+        if (beforeCost[2] != afterCost[2]) {
+            throw new IllegalStateException(operation + ": " + beforeCost[2] + " before, " + afterCost[2]
+                    + " after");
+        }
+        System.out.printf("%10d %-24s %14d %14d %12.3f %12.3f%n", size, operation, beforeCost[0], afterCost[0],
+                beforeCost[1] / 1e6, afterCost[1] / 1e6);
+    }
+
+    /**
+     * Returns the fewest bytes allocated by summing {@code operation} over all persons, the least time it took in
+     * nanoseconds, and the sum.
+     */
+    private static long[] measure(int size, IntToLongFunction operation) {
+        long bestBytes = Long.MAX_VALUE;
+        long bestTime = Long.MAX_VALUE;
+        long result = 0;
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long startBytes = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            result = sum(size, operation);
+            bestTime = Math.min(bestTime, System.nanoTime() - start);
+            bestBytes = Math.min(bestBytes, THREAD_BEAN.getThreadAllocatedBytes(threadId) - startBytes);
+        }
+        return new long[] {bestBytes, bestTime, result};
+    }
+
+    private static long sum(int size, IntToLongFunction operation) {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += operation.applyAsLong(i);
+        }
+        return sum;
+    }
+}
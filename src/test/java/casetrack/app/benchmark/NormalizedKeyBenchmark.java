@@ -0,0 +1,124 @@
+package casetrack.app.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import casetrack.app.model.index.NoteTokenIndex;
+import casetrack.app.model.person.EmailContainsKeywordsPredicate;
+import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.NoteContainsKeywordsPredicate;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.TagContainsKeywordsPredicate;
+import casetrack.app.testutil.GeneratedPersons;
+
+/**
+ * Compares the memory allocated and the time taken by scans that test every person, when the lower-cased forms of
+ * the fields are precomputed by the persons against when they are computed on every test, as they used to be.
+ * Run with {@code gradlew benchmark -Pbenchmark=NormalizedKeyBenchmark}, optionally passing the sizes to measure
+ * as program arguments. Not run as part of the test suite.
+ */
+public class NormalizedKeyBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {100_000};
+    private static final int WARMUP_RUNS = 10;
+    private static final int MEASURED_RUNS = 10;
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? DEFAULT_SIZES : Stream.of(args).mapToInt(Integer::parseInt).toArray();
+        System.out.printf("%10s %-28s %14s %14s %12s %12s%n", "patients", "scan", "before (B)", "after (B)",
+                "before (ms)", "after (ms)");
+        for (int size : sizes) {
+            List<Person> persons = GeneratedPersons.generate(size);
+            measure(persons, "search name tan", person -> person.getName().fullName.toLowerCase().contains("tan"),
+                    new NameContainsKeywordsPredicate(List.of("tan")));
+            measure(persons, "search email example", person -> person.getEmail().value.toLowerCase()
+                    .contains("example".toLowerCase()), new EmailContainsKeywordsPredicate(List.of("example")));
+            measure(persons, "search tag hous", person -> person.getTags().stream()
+                    .anyMatch(tag -> tag.tagName.toLowerCase().contains("hous")),
+                    new TagContainsKeywordsPredicate(List.of("hous")));
+            measure(persons, "search note missed", person -> person.getNotes().stream()
+                    .anyMatch(note -> NoteTokenIndex.tokenize(note.value).contains("missed")),
+                    new NoteContainsKeywordsPredicate(List.of("missed")));
+            measure(persons, "isSamePerson with previous", new SamePersonAsPrevious(true),
+                    new SamePersonAsPrevious(false));
+        }
+    }
+
+    private static void measure(List<Person> persons, String scan, Predicate<Person> before,
+            Predicate<Person> after) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            count(persons, before);
+            count(persons, after);
+        }
+
+        long[] beforeCost = measure(persons, before);
+        long[] afterCost = measure(persons, after);
+        if (beforeCost[2] != afterCost[2]) {
+            throw new IllegalStateException(scan + ": " + beforeCost[2] + " matches before, " + afterCost[2]
+                    + " after");
+        }
+        System.out.printf("%10d %-28s %14d %14d %12.3f %12.3f%n", persons.size(), scan, beforeCost[0],
+                afterCost[0], beforeCost[1] / 1e6, afterCost[1] / 1e6);
+    }
+
+    /**
+     * Returns the fewest bytes allocated by a scan with {@code predicate}, the least time it took in nanoseconds,
+     * and the number of persons it matched.
+     */
+    private static long[] measure(List<Person> persons, Predicate<Person> predicate) {
+        long bestBytes = Long.MAX_VALUE;
+        long bestTime = Long.MAX_VALUE;
+        int matches = 0;
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long startBytes = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            matches = count(persons, predicate);
+            bestTime = Math.min(bestTime, System.nanoTime() - start);
+            bestBytes = Math.min(bestBytes, THREAD_BEAN.getThreadAllocatedBytes(threadId) - startBytes);
+        }
+        return new long[] {bestBytes, bestTime, matches};
+    }
+
+    private static int count(List<Person> persons, Predicate<Person> predicate) {
+        int matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Compares each person with the one tested before it, as {@code UniquePersonList} does through
+     * {@code Person#isSamePerson(Person)} when persons are added or edited.
+     */
+    private static class SamePersonAsPrevious implements Predicate<Person> {
+        private final boolean isNormalizedOnEachComparison;
+        private Person previous;
+
+        SamePersonAsPrevious(boolean isNormalizedOnEachComparison) {
+            this.isNormalizedOnEachComparison = isNormalizedOnEachComparison;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            boolean isSame = previous != null && (isNormalizedOnEachComparison
+                    ? normalize(previous.getName().fullName).equals(normalize(person.getName().fullName))
+                            && previous.getPhone().equals(person.getPhone())
+                    : previous.isSamePerson(person));
+            previous = person;
+            return isSame;
+        }
+
+        private static String normalize(String name) {
+            return name.toLowerCase().replaceAll("\\s+", " ").trim();
+        }
+    }
+}
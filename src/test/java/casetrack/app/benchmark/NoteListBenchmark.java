@@ -0,0 +1,92 @@
+package casetrack.app.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.PersonBuilder;
+
+/**
+ * Compares the memory allocated and the time taken to add and edit a note of a person with many notes, when the
+ * notes are shared with the previous version of the person against when they are copied, as they used to be.
+ * Run with {@code gradlew benchmark -Pbenchmark=NoteListBenchmark}, optionally passing the numbers of notes to
+ * measure as program arguments. Not run as part of the test suite.
+ */
+public class NoteListBenchmark {
+
+    private static final int[] DEFAULT_NOTE_COUNTS = {100, 1_000, 10_000};
+    private static final int WARMUP_RUNS = 10_000;
+    private static final int MEASURED_RUNS = 1_000;
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        int[] noteCounts = args.length == 0
+                ? DEFAULT_NOTE_COUNTS
+                : Stream.of(args).mapToInt(Integer::parseInt).toArray();
+        System.out.printf("%8s %-10s %14s %14s %12s %12s%n", "notes", "change", "copied (B)", "shared (B)",
+                "copied (us)", "shared (us)");
+        for (int noteCount : noteCounts) {
+            Person person = new PersonBuilder().build();
+            for (int i = 0; i < noteCount; i++) {
+                person = person.addNote(new Note("Case note " + i));
+            }
+            Note note = new Note("Follow up on housing application");
+            int middle = noteCount / 2;
+
+            measure(noteCount, "add", person, copied -> withNotes(copied, notes -> notes.add(note)),
+                    shared -> shared.addNote(note));
+            measure(noteCount, "edit", person, copied -> withNotes(copied, notes -> notes.set(middle, note)),
+                    shared -> shared.editNote(middle, note));
+        }
+    }
+
+    /**
+     * Returns a copy of {@code person} with its notes copied and then changed by {@code change}, as notes used to be
+     * changed.
+     */
+    private static Person withNotes(Person person, Consumer<List<Note>> change) {
+        List<Note> notes = new ArrayList<>(person.getNotes());
+        change.accept(notes);
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getIncome(), person.getMedicalInfo(), new HashSet<>(person.getTags()), notes);
+    }
+
+    private static void measure(int noteCount, String change, Person person, UnaryOperator<Person> copied,
+            UnaryOperator<Person> shared) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            copied.apply(person);
+            shared.apply(person);
+        }
+
+        long[] copiedCost = measure(person, copied);
+        long[] sharedCost = measure(person, shared);
+        System.out.printf("%8d %-10s %14d %14d %12.3f %12.3f%n", noteCount, change, copiedCost[0], sharedCost[0],
+                copiedCost[1] / 1e3, sharedCost[1] / 1e3);
+    }
+
+    /**
+     * Returns the fewest bytes allocated by applying {@code change} to {@code person}, and the least time it took in
+     * nanoseconds.
+     */
+    private static long[] measure(Person person, UnaryOperator<Person> change) {
+        long bestBytes = Long.MAX_VALUE;
+        long bestTime = Long.MAX_VALUE;
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long startBytes = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            change.apply(person);
+            bestTime = Math.min(bestTime, System.nanoTime() - start);
+            bestBytes = Math.min(bestBytes, THREAD_BEAN.getThreadAllocatedBytes(threadId) - startBytes);
+        }
+        return new long[] {bestBytes, bestTime};
+    }
+}
@@ -0,0 +1,163 @@
+package casetrack.app.benchmark;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.index.BkTree;
+import casetrack.app.model.index.IndexedPredicate;
+import casetrack.app.model.person.AndPredicate;
+import casetrack.app.model.person.EmailContainsKeywordsPredicate;
+import casetrack.app.model.person.FuzzyNameMatchesPredicate;
+import casetrack.app.model.person.IncomeInRangePredicate;
+import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.NoteContainsKeywordsPredicate;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.PhoneContainsKeywordsPredicate;
+import casetrack.app.model.person.PhoneMatchesPredicate;
+import casetrack.app.model.person.TagContainsKeywordsPredicate;
+import casetrack.app.testutil.GeneratedPersons;
+
+/**
+ * Compares how long searches take with the search index against a scan of every person, on generated address books,
+ * and how long a repeated search takes with its matches cached. Searches that cannot use the index are measured
+ * with the parallel scan of {@code AddressBook#findPersons(Predicate)} in place of the index.
+ * Run with {@code gradlew benchmark -Pbenchmark=SearchBenchmark}, optionally passing the sizes to measure
+ * as program arguments. Not run as part of the test suite.
+ */
+public class SearchBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {100_000, 1_000_000};
+    private static final int WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 20;
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? DEFAULT_SIZES : Stream.of(args).mapToInt(Integer::parseInt).toArray();
+        System.out.printf("%10s %-50s %10s %12s %12s %12s%n", "patients", "query", "matches", "index (ms)", "scan (ms)",
+                "cached (ms)");
+        for (int size : sizes) {
+            AddressBook addressBook = GeneratedPersons.generateAddressBook(size);
+            measure(addressBook, "search name rahman 12345", new NameContainsKeywordsPredicate(
+                    List.of("rahman 12345")));
+            measure(addressBook, "search name ming 9999", new NameContainsKeywordsPredicate(List.of("ming 9999")));
+            measure(addressBook, "search name balakrishnan", new NameContainsKeywordsPredicate(
+                    List.of("balakrishnan")));
+            measure(addressBook, "search fuzzy balakrishnen", new FuzzyNameMatchesPredicate(
+                    List.of("balakrishnen"), OptionalInt.empty()));
+            measure(addressBook, "search fuzzy mohamad tann d/2", new FuzzyNameMatchesPredicate(
+                    List.of("mohamad", "tann"), OptionalInt.of(2)));
+            measure(addressBook, "search note missed", new NoteContainsKeywordsPredicate(List.of("missed")));
+            measure(addressBook, "search tag urgent housing", new TagContainsKeywordsPredicate(
+                    List.of("urgent", "housing")));
+            measure(addressBook, "search tag +urgent +youth !elderly", new TagContainsKeywordsPredicate(
+                    List.of("+urgent", "+youth", "!elderly")));
+            measure(addressBook, "search income 1000-1010", new IncomeInRangePredicate(new BigDecimal("1000"), true,
+                    new BigDecimal("1010"), true));
+            measure(addressBook, "search tag housing AND name tan AND income <2000", new AndPredicate(List.of(
+                    new TagContainsKeywordsPredicate(List.of("housing")),
+                    new NameContainsKeywordsPredicate(List.of("tan")),
+                    new IncomeInRangePredicate(null, false, new BigDecimal("2000"), false))));
+            measure(addressBook, "search number 80054321", new PhoneMatchesPredicate(List.of("80054321")));
+            measure(addressBook, "search email patient54321@example.com", new EmailContainsKeywordsPredicate(
+                    List.of("patient54321@example.com")));
+            measure(addressBook, "search number 5432", new PhoneContainsKeywordsPredicate(List.of("5432")));
+            measure(addressBook, "search email 4321@", new EmailContainsKeywordsPredicate(List.of("4321@")));
+        }
+
+        // generated names share a few words, so the BK-tree is also measured on as many distinct words as patients
+        System.out.printf("%n%10s %10s %12s%n", "words", "distance", "search (ms)");
+        for (int size : sizes) {
+            measureBkTree(size);
+        }
+    }
+
+    private static void measureBkTree(int size) {
+        Random random = new Random(size);
+        BkTree tree = new BkTree();
+        while (tree.size() < size) {
+            tree.add(randomName(random));
+        }
+
+        for (int maxDistance = 1; maxDistance <= FuzzyNameMatchesPredicate.MAX_EDIT_DISTANCE; maxDistance++) {
+            long total = 0;
+            for (int i = 0; i < WARMUP_RUNS + MEASURED_RUNS; i++) {
+                String query = randomName(random);
+                long start = System.nanoTime();
+                tree.search(query, maxDistance);
+                if (i >= WARMUP_RUNS) {
+                    total += System.nanoTime() - start;
+                }
+            }
+            System.out.printf("%10d %10d %12.3f%n", tree.size(), maxDistance, total / 1e6 / MEASURED_RUNS);
+        }
+    }
+
+    /**
+     * Returns a random word of alternating consonants and vowels, like a romanised name.
+     */
+    private static String randomName(Random random) {
+        String consonants = "bdghjklmnprstwyz";
+        String vowels = "aeiou";
+        StringBuilder name = new StringBuilder();
+        int length = 4 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            String letters = i % 2 == 0 ? consonants : vowels;
+            name.append(letters.charAt(random.nextInt(letters.length())));
+        }
+        return name.toString();
+    }
+
+    private static void measure(AddressBook addressBook, String query, Predicate<Person> predicate) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            searchWithIndex(addressBook, predicate);
+            scan(addressBook, predicate);
+        }
+
+        long bestIndexed = Long.MAX_VALUE;
+        long bestScan = Long.MAX_VALUE;
+        long bestCached = Long.MAX_VALUE;
+        int matches = 0;
+        addressBook.findPersons(predicate);
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            matches = searchWithIndex(addressBook, predicate);
+            bestIndexed = Math.min(bestIndexed, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            int scanned = scan(addressBook, predicate);
+            bestScan = Math.min(bestScan, System.nanoTime() - start);
+            if (scanned != matches) {
+                throw new IllegalStateException(query + ": index found " + matches + ", scan found " + scanned);
+            }
+
+            start = System.nanoTime();
+            addressBook.findPersons(predicate);
+            bestCached = Math.min(bestCached, System.nanoTime() - start);
+        }
+        System.out.printf("%10d %-50s %10d %12.3f %12.3f %12.3f%n", addressBook.getPersonList().size(), query,
+                matches, bestIndexed / 1e6, bestScan / 1e6, bestCached / 1e6);
+    }
+
+    private static int searchWithIndex(AddressBook addressBook, Predicate<Person> predicate) {
+        if (!(predicate instanceof IndexedPredicate)) {
+            // a new predicate each time, so that its matches are found instead of cached
+            Predicate<Person> uncachedPredicate = predicate::test;
+            return addressBook.findPersons(uncachedPredicate).size();
+        }
+        return addressBook.filterByIndex(predicate).orElseThrow().size();
+    }
+
+    private static int scan(AddressBook addressBook, Predicate<Person> predicate) {
+        int matches = 0;
+        for (Person person : addressBook.getPersonList()) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,68 @@
+package casetrack.app.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import casetrack.app.model.AddressBook;
+import casetrack.app.storage.AddressBookStorage;
+import casetrack.app.storage.BinaryAddressBookStorage;
+import casetrack.app.storage.JsonAddressBookStorage;
+import casetrack.app.testutil.GeneratedPersons;
+
+/**
+ * Compares how long the JSON and binary address book storages take to load generated address books.
+ * Run with {@code gradlew benchmark -Pbenchmark=StorageLoadBenchmark}, optionally passing the sizes to measure
+ * as program arguments. Not run as part of the test suite.
+ */
+public class StorageLoadBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {10_000, 100_000, 1_000_000};
+    private static final int WARMUP_RUNS = 2;
+    private static final int MEASURED_RUNS = 3;
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = args.length == 0 ? DEFAULT_SIZES : Stream.of(args).mapToInt(Integer::parseInt).toArray();
+        Path folder = Files.createTempDirectory("casetrack-benchmark");
+        try {
+            System.out.printf("%10s %8s %12s %12s%n", "patients", "format", "file (KB)", "load (ms)");
+            for (int size : sizes) {
+                AddressBook addressBook = GeneratedPersons.generateAddressBook(size);
+                measure(size, "json", new JsonAddressBookStorage(folder.resolve(size + ".json")), addressBook);
+                measure(size, "binary", new BinaryAddressBookStorage(folder.resolve(size + ".bin")), addressBook);
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(folder)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static void measure(int size, String format, AddressBookStorage storage, AddressBook addressBook)
+            throws Exception {
+        storage.saveAddressBook(addressBook);
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            load(storage, size);
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            System.gc();
+            long start = System.nanoTime();
+            load(storage, size);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%10d %8s %12d %12.1f%n", size, format,
+                Files.size(storage.getAddressBookFilePath()) / 1024, best / 1e6);
+    }
+
+    private static void load(AddressBookStorage storage, int expectedSize) throws Exception {
+        int loadedSize = storage.readAddressBook().orElseThrow(IOException::new).getPersonList().size();
+        if (loadedSize != expectedSize) {
+            throw new IllegalStateException("Loaded " + loadedSize + " persons, expected " + expectedSize);
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+package casetrack.app.benchmark;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import casetrack.app.commons.util.ArraySet;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.tag.Tag;
+import casetrack.app.testutil.GeneratedPersons;
+
+/**
+ * Compares the heap retained by the tags of many persons when each person keeps its own {@code Tag} objects in a
+ * {@code HashSet}, as tags read from the data file used to be kept, against when the tags are interned and kept in
+ * an {@code ArraySet}.
+ * Run with {@code gradlew benchmark -Pbenchmark=TagFootprintBenchmark}, optionally passing the numbers of persons to
+ * measure as program arguments. Not run as part of the test suite.
+ */
+public class TagFootprintBenchmark {
+
+    private static final int[] DEFAULT_PERSON_COUNTS = {10_000, 100_000};
+    private static final int MEASURED_RUNS = 5;
+
+    public static void main(String[] args) {
+        int[] personCounts = args.length == 0
+                ? DEFAULT_PERSON_COUNTS
+                : Stream.of(args).mapToInt(Integer::parseInt).toArray();
+        System.out.printf("%8s %8s %14s %14s%n", "persons", "tags", "copied (B)", "interned (B)");
+        for (int personCount : personCounts) {
+            List<List<String>> tagNames = new ArrayList<>();
+            int tagCount = 0;
+            for (Person person : GeneratedPersons.generate(personCount)) {
+                List<String> names = new ArrayList<>();
+                person.getTags().forEach(tag -> names.add(tag.tagName));
+                tagNames.add(names);
+                tagCount += names.size();
+            }
+
+            // a fresh copy of the name, as a parser gives for every tag it reads
+            long copied = measure(tagNames, names -> {
+                Set<Tag> tags = new HashSet<>();
+                names.forEach(name -> tags.add(new Tag(new String(name))));
+                return tags;
+            });
+            long interned = measure(tagNames, names -> {
+                List<Tag> tags = new ArrayList<>(names.size());
+                names.forEach(name -> tags.add(Tag.of(new String(name))));
+                return ArraySet.copyOf(tags);
+            });
+            System.out.printf("%8d %8d %14d %14d%n", personCount, tagCount, copied, interned);
+        }
+    }
+
+    /**
+     * Returns the median bytes of heap retained by the tag sets that {@code toTags} makes from {@code tagNames}.
+     * The used heap is sometimes not yet updated after a collection, so the fewest bytes could be too few.
+     */
+    private static long measure(List<List<String>> tagNames, Function<List<String>, Set<Tag>> toTags) {
+        long[] retained = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long before = usedHeap();
+            List<Set<Tag>> tagSets = new ArrayList<>(tagNames.size());
+            tagNames.forEach(names -> tagSets.add(toTags.apply(names)));
+            long after = usedHeap();
+            Reference.reachabilityFence(tagSets);
+            retained[i] = after - before;
+        }
+        Arrays.sort(retained);
+        return retained[MEASURED_RUNS / 2];
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,86 @@
+package casetrack.app.benchmark;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import casetrack.app.model.person.Address;
+import casetrack.app.model.person.Email;
+import casetrack.app.model.person.MedicalInfo;
+import casetrack.app.model.person.Name;
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.Phone;
+import casetrack.app.model.tag.Tag;
+import casetrack.app.testutil.GeneratedPersons;
+
+/**
+ * Compares how long the field validators take against matching their regexes, on the fields of generated persons,
+ * as when an address book is loaded.
+ * Run with {@code gradlew benchmark -Pbenchmark=ValidationBenchmark}, optionally passing the sizes to measure
+ * as program arguments. Not run as part of the test suite.
+ */
+public class ValidationBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {100_000};
+    private static final int WARMUP_RUNS = 10;
+    private static final int MEASURED_RUNS = 10;
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? DEFAULT_SIZES : Stream.of(args).mapToInt(Integer::parseInt).toArray();
+        System.out.printf("%10s %-12s %12s %14s%n", "patients", "field", "regex (ms)", "validator (ms)");
+        for (int size : sizes) {
+            List<Person> persons = GeneratedPersons.generate(size);
+            measure(size, "name", fields(persons, person -> Stream.of(person.getName().fullName)),
+                    test -> test.matches(Name.VALIDATION_REGEX) && test.matches(Name.AT_LEAST_ONE_ALPHABET),
+                    Name::isValidName);
+            measure(size, "phone", fields(persons, person -> Stream.of(person.getPhone().value)),
+                    test -> test.matches(Phone.VALIDATION_REGEX), Phone::isValidPhone);
+            measure(size, "email", fields(persons, person -> Stream.of(person.getEmail().value)),
+                    test -> test.matches(Email.VALIDATION_REGEX), Email::isValidEmail);
+            measure(size, "address", fields(persons, person -> Stream.of(person.getAddress().value)),
+                    test -> test.matches(Address.VALIDATION_REGEX), Address::isValidAddress);
+            measure(size, "medical info", fields(persons, person -> Stream.of(person.getMedicalInfo().medicalInfo)),
+                    test -> test.matches(MedicalInfo.VALIDATION_REGEX), MedicalInfo::isValidMedicalInfo);
+            measure(size, "tags", fields(persons, person -> person.getTags().stream().map(tag -> tag.tagName)),
+                    test -> test.matches(Tag.VALIDATION_REGEX), Tag::isValidTagName);
+            measure(size, "notes", fields(persons, person -> person.getNotes().stream().map(note -> note.value)),
+                    test -> test.matches(Note.VALIDATION_REGEX), Note::isValidNote);
+        }
+    }
+
+    private static List<String> fields(List<Person> persons, Function<Person, Stream<String>> getFields) {
+        return persons.stream().flatMap(getFields).collect(Collectors.toList());
+    }
+
+    private static void measure(int size, String field, List<String> values, Predicate<String> regex,
+            Predicate<String> validator) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            validateAll(values, regex);
+            validateAll(values, validator);
+        }
+
+        long bestRegex = Long.MAX_VALUE;
+        long bestValidator = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            validateAll(values, regex);
+            bestRegex = Math.min(bestRegex, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            validateAll(values, validator);
+            bestValidator = Math.min(bestValidator, System.nanoTime() - start);
+        }
+        System.out.printf("%10d %-12s %12.3f %14.3f%n", size, field, bestRegex / 1e6, bestValidator / 1e6);
+    }
+
+    private static void validateAll(List<String> values, Predicate<String> isValid) {
+        for (String value : values) {
+            if (!isValid.test(value)) {
+                throw new IllegalStateException("Generated value is invalid: " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package casetrack.app.commons.core;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+public class StorageFormatTest {
+
+    @Test
+    public void getFilePath_nullPath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StorageFormat.BINARY.getFilePath(null));
+    }
+
+    @Test
+    public void getFilePath() {
+        // json keeps the configured path
+        assertEquals(Paths.get("data", "casetrack.json"), StorageFormat.JSON.getFilePath(Paths.get("data",
+                "casetrack.json")));
+
+        // binary replaces the extension
+        assertEquals(Paths.get("data", "casetrack.bin"), StorageFormat.BINARY.getFilePath(Paths.get("data",
+                "casetrack.json")));
+        assertEquals(Paths.get("data", "casetrack.bin"), StorageFormat.BINARY.getFilePath(Paths.get("data",
+                "casetrack")));
+        assertEquals(Paths.get(".casetrack.bin"), StorageFormat.BINARY.getFilePath(Paths.get(".casetrack")));
+    }
+
+}
@@ -0,0 +1,79 @@
+package casetrack.app.commons.util;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class ArraySetTest {
+
+    @Test
+    public void copyOf_emptyCollections_returnsSameEmptySet() {
+        assertSame(ArraySet.empty(), ArraySet.copyOf(List.of()));
+        assertSame(ArraySet.empty(), ArraySet.copyOf(new HashSet<>()));
+        assertTrue(ArraySet.empty().isEmpty());
+    }
+
+    @Test
+    public void copyOf_arraySet_returnsSameSet() {
+        ArraySet<String> set = ArraySet.copyOf(List.of("a", "b"));
+        assertSame(set, ArraySet.copyOf(set));
+    }
+
+    @Test
+    public void copyOf_duplicates_keepsFirstOfEach() {
+        assertEquals(List.of("b", "a", "c"), new ArrayList<>(ArraySet.copyOf(Arrays.asList("b", "a", "b", "c", "a"))));
+
+        // larger collections are deduplicated through a hash set
+        List<Integer> many = IntStream.range(0, 40).map(i -> i % 20).boxed().collect(Collectors.toList());
+        assertEquals(IntStream.range(0, 20).boxed().collect(Collectors.toList()),
+                new ArrayList<>(ArraySet.copyOf(many)));
+    }
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ArraySet.copyOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void contains() {
+        ArraySet<String> set = ArraySet.copyOf(List.of("a", "b"));
+        assertTrue(set.contains("a"));
+        assertTrue(set.contains("b"));
+        assertFalse(set.contains("c"));
+        assertFalse(set.contains(null));
+    }
+
+    @Test
+    public void equals_sameElementsAsOtherSet_returnsTrue() {
+        Set<String> hashSet = new HashSet<>(List.of("a", "b", "c"));
+        ArraySet<String> set = ArraySet.copyOf(List.of("c", "a", "b"));
+
+        assertEquals(hashSet, set);
+        assertEquals(set, hashSet);
+        assertEquals(hashSet.hashCode(), set.hashCode());
+        assertNotEquals(set, ArraySet.copyOf(List.of("a", "b")));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        ArraySet<String> set = ArraySet.copyOf(List.of("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> set.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("c"));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeIf(element -> false));
+        assertThrows(UnsupportedOperationException.class, () -> set.iterator().remove());
+        assertThrows(UnsupportedOperationException.class, () -> ArraySet.empty().clear());
+    }
+}
@@ -1,13 +1,25 @@
 package casetrack.app.commons.util;
 
 import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.zip.CRC32;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +32,61 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void getLastModifiedTime() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        assertEquals(FileTime.fromMillis(0), FileUtil.getLastModifiedTime(file)); // missing file
+
+        FileUtil.writeToFile(file, "content");
+        FileTime time = FileTime.fromMillis(1_000_000_000_000L);
+        Files.setLastModifiedTime(file, time);
+        assertEquals(time, FileUtil.getLastModifiedTime(file));
+    }
+
+    @Test
+    public void writeAtomically_existingFile_replacedWithBackup() throws Exception {
+        Path file = testFolder.resolve("data").resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        FileUtil.writeAtomically(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)), true);
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals("old", FileUtil.readFromFile(FileUtil.getBackupFilePath(file)));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+    }
+
+    @Test
+    public void writeAtomically_existingFile_backupKeepsOldModifiedTime() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        FileTime oldTime = FileTime.fromMillis(1_000_000_000_000L);
+        Files.setLastModifiedTime(file, oldTime);
+        FileUtil.writeAtomically(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)), true);
+
+        assertEquals(oldTime, Files.getLastModifiedTime(FileUtil.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void writeAtomically_returnsChecksumOfContent() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        long checksum = FileUtil.writeAtomically(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)), true);
+
+        CRC32 expected = new CRC32();
+        expected.update(Files.readAllBytes(file));
+        assertEquals(expected.getValue(), checksum);
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }, true));
+
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file)));
+    }
+
 }
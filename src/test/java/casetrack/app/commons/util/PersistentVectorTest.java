@@ -0,0 +1,153 @@
+package casetrack.app.commons.util;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentVectorTest {
+
+    // enough elements for the tree to grow to three levels below the root
+    private static final int LARGE_SIZE = 32 * 32 * 32 + 100;
+
+    @Test
+    public void empty_isEmpty() {
+        assertTrue(PersistentVector.empty().isEmpty());
+        assertEquals(List.of(), PersistentVector.empty());
+    }
+
+    @Test
+    public void plus_manyElements_sameAsList() {
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            expected.add(i);
+            vector = vector.plus(i);
+        }
+
+        assertEquals(expected, vector);
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            assertEquals(i, vector.get(i));
+        }
+    }
+
+    @Test
+    public void plus_previousVersion_unchanged() {
+        PersistentVector<Integer> vector = PersistentVector.copyOf(range(100));
+        PersistentVector<Integer> longer = vector.plus(100);
+
+        assertEquals(range(100), vector);
+        assertEquals(range(101), longer);
+    }
+
+    @Test
+    public void copyOf_sizesAroundChunks_sameAsList() {
+        for (int size : new int[] {0, 1, 31, 32, 33, 64, 1024, 1056, 1057, LARGE_SIZE}) {
+            List<Integer> expected = range(size);
+            assertEquals(expected, PersistentVector.copyOf(expected));
+            assertEquals(expected, PersistentVector.copyOf(expected).plus(size).minus(size));
+        }
+    }
+
+    @Test
+    public void copyOf_persistentVector_returnsSameVector() {
+        PersistentVector<Integer> vector = PersistentVector.copyOf(range(10));
+        assertSame(vector, PersistentVector.copyOf(vector));
+    }
+
+    @Test
+    public void with_everyIndex_replacesOnlyThatElement() {
+        List<Integer> expected = range(LARGE_SIZE);
+        PersistentVector<Integer> vector = PersistentVector.copyOf(expected);
+        for (int i = 0; i < LARGE_SIZE; i += 37) {
+            PersistentVector<Integer> edited = vector.with(i, -i);
+            expected.set(i, -i);
+            assertEquals(expected, edited);
+            expected.set(i, i);
+        }
+        assertEquals(range(LARGE_SIZE), vector);
+    }
+
+    @Test
+    public void minus_firstMiddleAndLast_sameAsList() {
+        PersistentVector<Integer> vector = PersistentVector.copyOf(range(100));
+        for (int index : new int[] {0, 50, 99}) {
+            List<Integer> expected = range(100);
+            expected.remove(index);
+            assertEquals(expected, vector.minus(index));
+        }
+        assertEquals(List.of(), PersistentVector.copyOf(List.of(1)).minus(0));
+    }
+
+    @Test
+    public void randomOperations_sameAsList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 7 || expected.isEmpty()) {
+                expected.add(i);
+                vector = vector.plus(i);
+            } else if (operation < 9) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                vector = vector.with(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                vector = vector.minus(index);
+            }
+        }
+
+        assertEquals(expected, vector);
+        assertEquals(expected.hashCode(), vector.hashCode());
+        assertEquals(expected, vector.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentVector<Integer> vector = PersistentVector.copyOf(range(40));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(40));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.with(40, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.minus(40));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        PersistentVector<Integer> vector = PersistentVector.copyOf(range(40));
+        assertThrows(UnsupportedOperationException.class, () -> vector.add(40));
+        assertThrows(UnsupportedOperationException.class, () -> vector.set(0, 1));
+        assertThrows(UnsupportedOperationException.class, () -> vector.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> vector.iterator().remove());
+        assertThrows(UnsupportedOperationException.class, () -> vector.remove(Integer.valueOf(-1)));
+        assertThrows(UnsupportedOperationException.class, () -> PersistentVector.empty().clear());
+    }
+
+    @Test
+    public void equals() {
+        PersistentVector<Integer> vector = PersistentVector.copyOf(range(40));
+
+        assertTrue(vector.equals(vector.with(3, 3)));
+        assertTrue(vector.equals(range(40)));
+        assertTrue(range(40).equals(vector));
+
+        assertNotEquals(vector, vector.with(3, -3));
+        assertNotEquals(vector, vector.plus(40));
+        assertNotEquals(vector, null);
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+}
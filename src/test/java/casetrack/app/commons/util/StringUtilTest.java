@@ -1,6 +1,7 @@
 package casetrack.app.commons.util;
 
 import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -10,6 +11,30 @@ import org.junit.jupiter.api.Test;
 
 public class StringUtilTest {
 
+    //---------------- Tests for character classes ---------------------------------------------
+
+    @Test
+    public void characterClasses_everyCharacter_sameAsRegex() {
+        for (char c = 0; c < Character.MAX_VALUE; c++) {
+            String s = String.valueOf(c);
+            assertEquals(s.matches("\\p{Alnum}"), StringUtil.isAsciiAlphanumeric(c), "\\p{Alnum} on " + (int) c);
+            assertEquals(s.matches("[a-zA-Z]"), StringUtil.isAsciiLetter(c), "[a-zA-Z] on " + (int) c);
+            assertEquals(s.matches("\\d"), StringUtil.isAsciiDigit(c), "\\d on " + (int) c);
+            assertEquals(s.matches("\\s"), StringUtil.isRegexWhitespace(c), "\\s on " + (int) c);
+            if (!Character.isSurrogate(c)) {
+                assertEquals(!s.matches("."), StringUtil.isLineTerminator(c), ". on " + (int) c);
+            }
+        }
+    }
+
+    @Test
+    public void isSingleLine() {
+        assertTrue(StringUtil.isSingleLine("", 0));
+        assertTrue(StringUtil.isSingleLine("\na b", 1));
+        assertFalse(StringUtil.isSingleLine("a\r\nb", 0));
+        assertFalse(StringUtil.isSingleLine("a\u2028", 0));
+    }
+
     //---------------- Tests for isNonZeroUnsignedInteger --------------------------------------
 
     @Test
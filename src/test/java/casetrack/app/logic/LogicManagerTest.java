@@ -9,6 +9,7 @@ import static casetrack.app.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static casetrack.app.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static casetrack.app.testutil.Assert.assertThrows;
 import static casetrack.app.testutil.TypicalPersons.AMY;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.IOException;
@@ -21,9 +22,12 @@ import org.junit.jupiter.api.io.TempDir;
 
 import casetrack.app.logic.commands.AddCommand;
 import casetrack.app.logic.commands.CommandResult;
+import casetrack.app.logic.commands.FindCommand;
 import casetrack.app.logic.commands.ListCommand;
+import casetrack.app.logic.commands.SaveCommand;
 import casetrack.app.logic.commands.exceptions.CommandException;
 import casetrack.app.logic.parser.exceptions.ParseException;
+import casetrack.app.model.AddressBook;
 import casetrack.app.model.Model;
 import casetrack.app.model.ModelManager;
 import casetrack.app.model.ReadOnlyAddressBook;
@@ -83,6 +87,36 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommands_nothingSaved() throws Exception {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("x.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                throw new AssertionError("The address book should not be saved.");
+            }
+        }, new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(FindCommand.COMMAND_WORD + " name Amy");
+        assertCommandSuccess(SaveCommand.COMMAND_WORD, SaveCommand.MESSAGE_SUCCESS, model);
+
+        // a failed command changes nothing either
+        assertCommandException("delete patient 9", MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        assertCommandSuccess(SaveCommand.COMMAND_WORD, SaveCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_saveCommand_changesWrittenToFile() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + INCOME_DESC_AMY);
+        assertCommandSuccess(SaveCommand.COMMAND_WORD, SaveCommand.MESSAGE_SUCCESS, model);
+
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(temporaryFolder.resolve("casetrack.json"))
+                .readAddressBook().get();
+        assertEquals(model.getAddressBook(), new AddressBook(saved));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -165,12 +199,15 @@ public class LogicManagerTest {
 
         logic = new LogicManager(model, storage);
 
-        // Triggers the saveAddressBook method by executing an add command
+        // Requests a save in the background by executing an add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
                 + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + INCOME_DESC_AMY;
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertDoesNotThrow(() -> logic.execute(addCommand));
+
+        // Waits for the save, which fails, by executing a save command
+        assertCommandFailure(SaveCommand.COMMAND_WORD, CommandException.class, expectedMessage, expectedModel);
     }
 }
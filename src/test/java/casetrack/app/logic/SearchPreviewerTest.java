@@ -0,0 +1,105 @@
+package casetrack.app.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.logic.SearchPreviewer.SearchPreview;
+import casetrack.app.model.ModelManager;
+import casetrack.app.model.UserPrefs;
+import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.GeneratedPersons;
+import casetrack.app.testutil.PersonBuilder;
+
+public class SearchPreviewerTest {
+
+    private final CountingModelManager model = new CountingModelManager();
+    private final SearchPreviewer searchPreviewer = new SearchPreviewer(model);
+
+    @Test
+    public void preview_notSearch_empty() {
+        assertEquals(Optional.empty(), searchPreviewer.preview("list"));
+        assertEquals(Optional.empty(), searchPreviewer.preview(""));
+        assertEquals(Optional.empty(), searchPreviewer.preview("search name"));
+        assertEquals(Optional.empty(), searchPreviewer.preview("search unknown alice"));
+    }
+
+    @Test
+    public void preview_search_findsMatches() {
+        SearchPreview preview = searchPreviewer.preview("search name tan").get();
+        assertEquals(new NameContainsKeywordsPredicate(List.of("tan")), preview.getPredicate());
+        assertEquals(model.findPersons(preview.getPredicate()), preview.getMatches());
+    }
+
+    @Test
+    public void preview_narrowerSearch_refinesPreviousMatches() {
+        searchPreviewer.preview("search name ta");
+        assertEquals(1, model.searchCount);
+
+        // typing the keyword further only tests the previous matches
+        SearchPreview preview = searchPreviewer.preview("search name tan").get();
+        assertEquals(1, model.searchCount);
+        assertEquals(scan(preview.getPredicate()), preview.getMatches());
+
+        // another keyword broadens the search, which is searched for again
+        preview = searchPreviewer.preview("search name tan ro").get();
+        assertEquals(2, model.searchCount);
+        assertEquals(scan(preview.getPredicate()), preview.getMatches());
+
+        // a different field is searched for again
+        searchPreviewer.preview("search number 8000");
+        assertEquals(3, model.searchCount);
+    }
+
+    @Test
+    public void preview_addressBookChanged_searchesAgain() {
+        searchPreviewer.preview("search name ta");
+        Person tang = new PersonBuilder().withName("Ah Tang").build();
+        model.addPerson(tang);
+
+        SearchPreview preview = searchPreviewer.preview("search name tang").get();
+        assertEquals(2, model.searchCount);
+        assertTrue(preview.getMatches().contains(tang));
+    }
+
+    @Test
+    public void show() {
+        SearchPreview preview = searchPreviewer.preview("search name tan").get();
+        assertTrue(searchPreviewer.show(preview));
+        assertEquals(scan(preview.getPredicate()), model.getFilteredPersonList());
+
+        // outdated previews are not shown
+        SearchPreview outdatedPreview = searchPreviewer.preview("search name lim").get();
+        model.addPerson(new PersonBuilder().withName("Ah Lim").build());
+        assertFalse(searchPreviewer.show(outdatedPreview));
+        assertFalse(model.getFilteredPersonList().equals(outdatedPreview.getMatches()));
+    }
+
+    private List<Person> scan(Predicate<Person> predicate) {
+        return model.getAddressBook().getPersonList().filtered(predicate);
+    }
+
+    /**
+     * A {@code ModelManager} that counts the searches of the whole address book.
+     */
+    private static class CountingModelManager extends ModelManager {
+        private int searchCount;
+
+        CountingModelManager() {
+            super(GeneratedPersons.generateAddressBook(300), new UserPrefs());
+        }
+
+        @Override
+        public List<Person> findPersons(Predicate<Person> predicate, boolean isCached) {
+            searchCount++;
+            return super.findPersons(predicate, isCached);
+        }
+    }
+}
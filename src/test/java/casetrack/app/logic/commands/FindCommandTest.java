@@ -2,7 +2,9 @@ package casetrack.app.logic.commands;
 
 import static casetrack.app.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static casetrack.app.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static casetrack.app.testutil.TypicalPersons.BENSON;
 import static casetrack.app.testutil.TypicalPersons.CARL;
+import static casetrack.app.testutil.TypicalPersons.DANIEL;
 import static casetrack.app.testutil.TypicalPersons.ELLE;
 import static casetrack.app.testutil.TypicalPersons.FIONA;
 import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
@@ -12,13 +14,16 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import casetrack.app.model.Model;
 import casetrack.app.model.ModelManager;
 import casetrack.app.model.UserPrefs;
+import casetrack.app.model.person.AndPredicate;
 import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.TagContainsKeywordsPredicate;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -52,6 +57,9 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // explained -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, true)));
     }
 
     @Test
@@ -80,11 +88,26 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_explain_planShown() {
+        AndPredicate predicate = new AndPredicate(List.of(new TagContainsKeywordsPredicate(List.of("friends")),
+                new NameContainsKeywordsPredicate(List.of("meier"))));
+        FindCommand command = new FindCommand(predicate, true);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2) + "\n"
+                + String.format(FindCommand.MESSAGE_SEARCH_PLAN, expectedModel.explainSearch(predicate));
+        expectedModel.updateFilteredPersonList(predicate);
+
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage, new DetailPanelInstruction(null));
+        assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+        assertTrue(expectedMessage.contains("AND"));
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + ", isExplain=false}";
         assertEquals(expected, findCommand.toString());
     }
 
@@ -0,0 +1,27 @@
+package casetrack.app.logic.commands;
+
+import static casetrack.app.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.Model;
+import casetrack.app.model.ModelManager;
+import casetrack.app.model.UserPrefs;
+
+public class SaveCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_save_modelUnchanged() {
+        assertCommandSuccess(new SaveCommand(), model, SaveCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void isFlushRequired_save_returnsTrue() {
+        assertTrue(new SaveCommand().isFlushRequired());
+        assertTrue(new SaveCommand().isReadOnly());
+    }
+}
@@ -0,0 +1,48 @@
+package casetrack.app.logic.commands;
+
+import static casetrack.app.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.Model;
+import casetrack.app.model.ModelManager;
+import casetrack.app.model.UserPrefs;
+import casetrack.app.model.person.Income;
+import casetrack.app.model.person.Note;
+import casetrack.app.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for SummaryCommand.
+ */
+public class SummaryCommandTest {
+
+    @Test
+    public void execute_patients_summarised() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Alice Tan").withPhone("91111111").withIncome("500")
+                .withTags("urgent", "housing").withNotes(new Note("Called"), new Note("Visited")).build());
+        addressBook.addPerson(new PersonBuilder().withName("Bob Lim").withPhone("92222222").withIncome("1500.50")
+                .withTags("housing").build());
+        addressBook.addPerson(new PersonBuilder().withName("Carl Tan").withPhone("93333333").withIncome("3000")
+                .withNotes(new Note("Called")).build());
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Model expectedModel = new ModelManager(addressBook, new UserPrefs());
+
+        String expectedMessage = String.format(SummaryCommand.MESSAGE_SUCCESS, 3, new Income("5000.50"),
+                "< " + new Income("1000") + ": 1, < " + new Income("2000") + ": 1, < " + new Income("3000")
+                        + ": 0, >= " + new Income("3000") + ": 1",
+                3, "housing (2), urgent (1)");
+        assertCommandSuccess(new SummaryCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_emptyAddressBook_summarisedAsZero() {
+        Model model = new ModelManager();
+        String expectedMessage = String.format(SummaryCommand.MESSAGE_SUCCESS, 0, new Income("0"),
+                "< " + new Income("1000") + ": 0, < " + new Income("2000") + ": 0, < " + new Income("3000")
+                        + ": 0, >= " + new Income("3000") + ": 0",
+                0, SummaryCommand.MESSAGE_NO_TAGS);
+        assertCommandSuccess(new SummaryCommand(), model, expectedMessage, new ModelManager());
+    }
+}
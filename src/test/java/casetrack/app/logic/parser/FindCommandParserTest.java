@@ -4,14 +4,24 @@ import static casetrack.app.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static casetrack.app.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static casetrack.app.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
 
 import org.junit.jupiter.api.Test;
 
 import casetrack.app.logic.commands.FindCommand;
+import casetrack.app.model.person.AndPredicate;
 import casetrack.app.model.person.EmailContainsKeywordsPredicate;
+import casetrack.app.model.person.FuzzyNameMatchesPredicate;
+import casetrack.app.model.person.IncomeInRangePredicate;
 import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.NotPredicate;
+import casetrack.app.model.person.NoteContainsKeywordsPredicate;
+import casetrack.app.model.person.OrPredicate;
 import casetrack.app.model.person.PhoneContainsKeywordsPredicate;
+import casetrack.app.model.person.PhoneMatchesPredicate;
 import casetrack.app.model.person.TagContainsKeywordsPredicate;
 
 public class FindCommandParserTest {
@@ -83,6 +93,108 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, "Number 123 456", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fullNumbers_returnsExactMatch() {
+        assertParseSuccess(parser, "number 91234567 +6598765432",
+                new FindCommand(new PhoneMatchesPredicate(Arrays.asList("91234567", "+6598765432"))));
+
+        // a partial number among full numbers -> substring match
+        assertParseSuccess(parser, "number 91234567 9876",
+                new FindCommand(new PhoneContainsKeywordsPredicate(Arrays.asList("91234567", "9876"))));
+    }
+
+    @Test
+    public void parse_fullEmail_returnsSubstringMatch() {
+        // a full email still finds the emails that contain it, e.g. alice@example.com for alice@example.co
+        assertParseSuccess(parser, "email alice@example.co",
+                new FindCommand(new EmailContainsKeywordsPredicate(Arrays.asList("alice@example.co"))));
+    }
+
+    @Test
+    public void parse_fuzzyArgs_returnsFindCommand() {
+        assertParseSuccess(parser, "fuzzy mohamad tan", new FindCommand(
+                new FuzzyNameMatchesPredicate(Arrays.asList("mohamad", "tan"), OptionalInt.empty())));
+        assertParseSuccess(parser, "fuzzy mohamad tan d/1", new FindCommand(
+                new FuzzyNameMatchesPredicate(List.of("mohamad", "tan"), OptionalInt.of(1))));
+
+        // d/ followed by anything other than digits is a keyword, as names may contain d/o
+        assertParseSuccess(parser, "fuzzy raj d/o", new FindCommand(
+                new FuzzyNameMatchesPredicate(List.of("raj", "d/o"), OptionalInt.empty())));
+        assertParseSuccess(parser, "fuzzy raj d/o d/2", new FindCommand(
+                new FuzzyNameMatchesPredicate(List.of("raj", "d/o"), OptionalInt.of(2))));
+
+        assertParseFailure(parser, "fuzzy mohamad d/4", ParserUtil.MESSAGE_INVALID_EDIT_DISTANCE);
+        assertParseFailure(parser, "fuzzy d/1",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_compoundQuery_returnsFindCommand() {
+        TagContainsKeywordsPredicate tag = new TagContainsKeywordsPredicate(List.of("housing"));
+        NameContainsKeywordsPredicate name = new NameContainsKeywordsPredicate(List.of("tan", "lim"));
+        IncomeInRangePredicate income = new IncomeInRangePredicate(null, false, new BigDecimal("2000"), false);
+
+        assertParseSuccess(parser, "tag housing AND name tan lim AND income < 2000",
+                new FindCommand(new AndPredicate(List.of(tag, name, income))));
+
+        // AND binds tighter than OR, NOT binds tightest
+        assertParseSuccess(parser, "tag housing OR name tan lim AND NOT income <2000",
+                new FindCommand(new OrPredicate(List.of(tag,
+                        new AndPredicate(List.of(name, new NotPredicate(income)))))));
+
+        // parentheses
+        assertParseSuccess(parser, "( tag housing OR name tan lim ) AND NOT ( income <2000 )",
+                new FindCommand(new AndPredicate(List.of(new OrPredicate(List.of(tag, name)),
+                        new NotPredicate(income)))));
+
+        // explain
+        assertParseSuccess(parser, "EXPLAIN tag housing AND income <2000",
+                new FindCommand(new AndPredicate(List.of(tag, income)), true));
+        assertParseSuccess(parser, "explain tag housing", new FindCommand(tag, true));
+    }
+
+    @Test
+    public void parse_keywordsWithParentheses_returnsFindCommand() {
+        assertParseSuccess(parser, "name Tan(Jr)",
+                new FindCommand(new NameContainsKeywordsPredicate(List.of("Tan(Jr)"))));
+        assertParseSuccess(parser, "name (jr) AND tag housing", new FindCommand(new AndPredicate(List.of(
+                new NameContainsKeywordsPredicate(List.of("(jr)")),
+                new TagContainsKeywordsPredicate(List.of("housing"))))));
+        assertParseSuccess(parser, "( name tan (jr) )",
+                new FindCommand(new NameContainsKeywordsPredicate(List.of("tan", "(jr)"))));
+    }
+
+    @Test
+    public void parse_quotedOperator_returnsFindCommand() {
+        assertParseSuccess(parser, "name \"OR\"",
+                new FindCommand(new NameContainsKeywordsPredicate(List.of("OR"))));
+        assertParseSuccess(parser, "name tan \"OR\" lim OR tag housing", new FindCommand(new OrPredicate(List.of(
+                new NameContainsKeywordsPredicate(List.of("tan", "OR", "lim")),
+                new TagContainsKeywordsPredicate(List.of("housing"))))));
+        assertParseSuccess(parser, "name \"(\"",
+                new FindCommand(new NameContainsKeywordsPredicate(List.of("("))));
+
+        // unquoted, OR is still an operator
+        assertParseFailure(parser, "name OR", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidCompoundQuery_throwsParseException() {
+        assertParseFailure(parser, "tag housing AND", String.format(FindCommandParser.MESSAGE_INVALID_QUERY,
+                "missing search at the end", FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "( tag housing", String.format(FindCommandParser.MESSAGE_INVALID_QUERY,
+                "missing ')'", FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "tag housing ) AND name tan", String.format(FindCommandParser.MESSAGE_INVALID_QUERY,
+                "unexpected ')'", FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "OR tag housing", String.format(FindCommandParser.MESSAGE_INVALID_QUERY,
+                "unexpected 'OR'", FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "tag AND name tan",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "explain",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_validEmailArgs_returnsFindCommand() {
         FindCommand expectedFindCommand =
@@ -115,4 +227,25 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, "Tag friend colleague", expectedFindCommand);
     }
 
+    @Test
+    public void parse_validIncomeArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new IncomeInRangePredicate(null, false,
+                new BigDecimal("1500"), false));
+        assertParseSuccess(parser, "income <1500", expectedFindCommand);
+        assertParseSuccess(parser, "INCOME < 1500", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidIncomeArgs_throwsParseException() {
+        assertParseFailure(parser, "income 2000-1000", ParserUtil.MESSAGE_INVALID_INCOME_RANGE);
+    }
+
+    @Test
+    public void parse_validNoteArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NoteContainsKeywordsPredicate(Arrays.asList("housing", "grant")));
+        assertParseSuccess(parser, "note housing grant", expectedFindCommand);
+        assertParseSuccess(parser, " \n NOTE \n housing \t grant  \t", expectedFindCommand);
+    }
+
 }
@@ -1,11 +1,13 @@
 package casetrack.app.logic.parser;
 
+import static casetrack.app.logic.parser.ParserUtil.MESSAGE_INVALID_INCOME_RANGE;
 import static casetrack.app.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static casetrack.app.testutil.Assert.assertThrows;
 import static casetrack.app.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -17,6 +19,7 @@ import casetrack.app.logic.parser.exceptions.ParseException;
 import casetrack.app.model.person.Address;
 import casetrack.app.model.person.Email;
 import casetrack.app.model.person.Income;
+import casetrack.app.model.person.IncomeInRangePredicate;
 import casetrack.app.model.person.MedicalInfo;
 import casetrack.app.model.person.Name;
 import casetrack.app.model.person.Phone;
@@ -210,6 +213,12 @@ public class ParserUtilTest {
         assertThrows(ParseException.class, () -> ParserUtil.parseIncome(INVALID_INCOME));
     }
 
+    @Test
+    public void parseIncome_moreThanTwoDecimalPlaces_throwsParseException() {
+        assertThrows(ParseException.class, Income.MESSAGE_CONSTRAINTS, () -> ParserUtil.parseIncome("2.3456"));
+        assertThrows(ParseException.class, Income.MESSAGE_CONSTRAINTS, () -> ParserUtil.parseIncome("1E-3"));
+    }
+
     @Test
     public void parseIncome_validValueWithoutWhitespace_returnsIncome() throws Exception {
         Income expectedIncome = new Income(VALID_INCOME);
@@ -223,6 +232,57 @@ public class ParserUtilTest {
         assertEquals(expectedIncome, ParserUtil.parseIncome(incomeWithWhitespace));
     }
 
+    @Test
+    public void parseIncomeRange_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseIncomeRange(null));
+    }
+
+    @Test
+    public void parseIncomeRange_invalidValue_throwsParseException() {
+        for (String range : new String[] {"", "-", "abc", "2000-1000", "<", ">=-5", "1-2-3", "<1000-2000", "1,500",
+            "1000.005-2000", "<0.001", "1e-3"}) {
+            assertThrows(ParseException.class, MESSAGE_INVALID_INCOME_RANGE, () -> ParserUtil.parseIncomeRange(range));
+        }
+    }
+
+    @Test
+    public void parseIncomeRange_validValue_returnsPredicate() throws Exception {
+        BigDecimal thousand = new BigDecimal("1000");
+        BigDecimal twoThousand = new BigDecimal("2000");
+        assertEquals(new IncomeInRangePredicate(thousand, true, twoThousand, true),
+                ParserUtil.parseIncomeRange(WHITESPACE + "1000 - 2000.00" + WHITESPACE));
+        assertEquals(new IncomeInRangePredicate(thousand, true, null, false), ParserUtil.parseIncomeRange("1000-"));
+        assertEquals(new IncomeInRangePredicate(null, false, twoThousand, true), ParserUtil.parseIncomeRange("-2000"));
+        assertEquals(new IncomeInRangePredicate(thousand, true, thousand, true), ParserUtil.parseIncomeRange("1000"));
+        assertEquals(new IncomeInRangePredicate(null, false, thousand, false), ParserUtil.parseIncomeRange("< 1000"));
+        assertEquals(new IncomeInRangePredicate(null, false, thousand, true), ParserUtil.parseIncomeRange("<=1000"));
+        assertEquals(new IncomeInRangePredicate(thousand, false, null, false), ParserUtil.parseIncomeRange(">1000"));
+        assertEquals(new IncomeInRangePredicate(thousand, true, null, false), ParserUtil.parseIncomeRange(">=1000"));
+    }
+
+    @Test
+    public void parseIncomeRange_negativeExponent_notRange() throws Exception {
+        BigDecimal cent = new BigDecimal("0.01");
+        assertEquals(new IncomeInRangePredicate(cent, true, cent, true), ParserUtil.parseIncomeRange("1e-2"));
+        assertEquals(new IncomeInRangePredicate(cent, true, new BigDecimal("50"), true),
+                ParserUtil.parseIncomeRange("1E-2-5e1"));
+        assertEquals(new IncomeInRangePredicate(null, false, cent, true), ParserUtil.parseIncomeRange("-1e-2"));
+    }
+
+    @Test
+    public void parseEditDistance_invalidValue_throwsParseException() {
+        for (String distance : new String[] {"", "-1", "4", "10", "a", "1.5"}) {
+            assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_EDIT_DISTANCE, () ->
+                    ParserUtil.parseEditDistance(distance));
+        }
+    }
+
+    @Test
+    public void parseEditDistance_validValue_returnsDistance() throws Exception {
+        assertEquals(0, ParserUtil.parseEditDistance("0"));
+        assertEquals(3, ParserUtil.parseEditDistance(WHITESPACE + "3" + WHITESPACE));
+    }
+
     @Test
     public void parseMedicalInfo_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseMedicalInfo(null));
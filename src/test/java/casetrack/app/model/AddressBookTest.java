@@ -5,19 +5,27 @@ import static casetrack.app.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static casetrack.app.testutil.Assert.assertThrows;
 import static casetrack.app.testutil.TypicalPersons.ALICE;
 import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import casetrack.app.model.index.ReadOnlyColumnStore;
+import casetrack.app.model.person.Note;
 import casetrack.app.model.person.Person;
 import casetrack.app.model.person.exceptions.DuplicatePersonException;
+import casetrack.app.model.tag.Tag;
+import casetrack.app.testutil.GeneratedPersons;
 import casetrack.app.testutil.PersonBuilder;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -83,6 +91,45 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getColumnStore_afterChanges_sameAsPersonList() {
+        AddressBook generated = GeneratedPersons.generateAddressBook(300);
+        List<Person> persons = generated.getPersonList();
+        for (int i = 0; i < 50; i++) {
+            generated.removePerson(persons.get(i));
+        }
+        for (int i = 0; i < 50; i++) {
+            Person person = persons.get(i);
+            generated.setPerson(person, new PersonBuilder(person).withIncome(String.valueOf(i * 97))
+                    .withTags("edited").build().addNote(new Note("Edited")));
+        }
+        generated.addPerson(ALICE);
+
+        ReadOnlyColumnStore columns = generated.getColumnStore().get();
+        long totalIncome = 0;
+        long totalNotes = 0;
+        int[] incomeCounts = new int[2];
+        Map<Tag, Integer> tagCounts = new HashMap<>();
+        for (Person person : generated.getPersonList()) {
+            totalIncome += person.getIncome().getCents();
+            totalNotes += person.getNotes().size();
+            incomeCounts[person.getIncome().getCents() < 200_000 ? 0 : 1]++;
+            person.getTags().forEach(tag -> tagCounts.merge(tag, 1, Integer::sum));
+        }
+
+        assertEquals(generated.getPersonList().size(), columns.size());
+        assertEquals(BigInteger.valueOf(totalIncome), columns.getTotalIncomeCents());
+        assertEquals(totalNotes, columns.getTotalNoteCount());
+        assertArrayEquals(incomeCounts, columns.countIncomes(200_000));
+        assertEquals(tagCounts, columns.countTags());
+        assertEquals(generated.getPersonList().stream()
+                .filter(person -> person.getName().getLowerCaseName().contains("tan")).count(),
+                columns.countNamesContaining("Tan"));
+
+        generated.setPersons(List.of());
+        assertEquals(0, columns.size());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -4,6 +4,7 @@ import static casetrack.app.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static casetrack.app.testutil.Assert.assertThrows;
 import static casetrack.app.testutil.TypicalPersons.ALICE;
 import static casetrack.app.testutil.TypicalPersons.BENSON;
+import static casetrack.app.testutil.TypicalPersons.DANIEL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -16,7 +17,11 @@ import org.junit.jupiter.api.Test;
 
 import casetrack.app.commons.core.GuiSettings;
 import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.NoteContainsKeywordsPredicate;
+import casetrack.app.model.person.Person;
 import casetrack.app.testutil.AddressBookBuilder;
+import casetrack.app.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +98,77 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_indexedPredicate_followsLaterChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("pauline", "meier")));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        // edited and added persons are tested against the predicate
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.addPerson(DANIEL);
+        assertEquals(Arrays.asList(editedAlice, BENSON, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_rankedPredicate_mostRelevantFirst() {
+        Person onceMentioned = new PersonBuilder(ALICE).withNotes(new Note("Housing visit"), new Note("Lunch"))
+                .build();
+        Person twiceMentioned = new PersonBuilder(BENSON).withNotes(new Note("Housing grant"),
+                new Note("Housing appeal")).build();
+        modelManager.addPerson(onceMentioned);
+        modelManager.addPerson(DANIEL);
+        modelManager.addPerson(twiceMentioned);
+
+        modelManager.updateFilteredPersonList(new NoteContainsKeywordsPredicate(Arrays.asList("housing")));
+        assertEquals(Arrays.asList(twiceMentioned, onceMentioned), modelManager.getFilteredPersonList());
+
+        // back to address book order
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(onceMentioned, DANIEL, twiceMentioned), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPerson_rankedMatchEdited_keepsRank() {
+        Person onceMentioned = new PersonBuilder(ALICE).withNotes(new Note("Housing visit")).build();
+        Person twiceMentioned = new PersonBuilder(BENSON).withNotes(new Note("Housing grant"),
+                new Note("Housing appeal")).build();
+        modelManager.addPerson(onceMentioned);
+        modelManager.addPerson(twiceMentioned);
+        modelManager.updateFilteredPersonList(new NoteContainsKeywordsPredicate(Arrays.asList("housing")));
+
+        Person editedTwiceMentioned = new PersonBuilder(twiceMentioned).withPhone("91234567").build();
+        modelManager.setPerson(twiceMentioned, editedTwiceMentioned);
+        assertEquals(Arrays.asList(editedTwiceMentioned, onceMentioned), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersons_filteredListUnchanged() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(BENSON), modelManager.findPersons(new NameContainsKeywordsPredicate(
+                Arrays.asList("benson"))));
+        assertEquals(Arrays.asList(ALICE), modelManager.findPersons(person -> person.equals(ALICE)));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_matchesGiven_showsMatches() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("alice"));
+        // the matches are persons from the list, which have been given IDs, as found by the model
+        modelManager.updateFilteredPersonList(predicate, modelManager.findPersons(predicate));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        // persons added later are tested with the predicate
+        Person alicia = new PersonBuilder().withName("Alice Ng").build();
+        modelManager.addPerson(alicia);
+        assertEquals(Arrays.asList(ALICE, alicia), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,74 @@
+package casetrack.app.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    @Test
+    public void distance() {
+        assertEquals(0, BkTree.distance("tan", "tan"));
+        assertEquals(3, BkTree.distance("", "tan"));
+        assertEquals(1, BkTree.distance("tan", "tang"));
+        assertEquals(1, BkTree.distance("tan", "tin"));
+        assertEquals(2, BkTree.distance("mohamad", "muhammad"));
+        assertEquals(3, BkTree.distance("kitten", "sitting"));
+    }
+
+    @Test
+    public void add_duplicateWord_addedOnce() {
+        BkTree tree = new BkTree();
+        tree.add("tan");
+        tree.add("tang");
+        tree.add("tan");
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void search_sameAsComparingEveryWord() {
+        Random random = new Random(2103);
+        Set<String> words = new HashSet<>();
+        BkTree tree = new BkTree();
+        for (int i = 0; i < 2000; i++) {
+            String word = randomWord(random);
+            words.add(word);
+            tree.add(word);
+        }
+        assertEquals(words.size(), tree.size());
+
+        for (int i = 0; i < 50; i++) {
+            String query = randomWord(random);
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                Map<String, Integer> expected = new HashMap<>();
+                for (String word : words) {
+                    int distance = BkTree.distance(query, word);
+                    if (distance <= maxDistance) {
+                        expected.put(word, distance);
+                    }
+                }
+                assertEquals(expected, tree.search(query, maxDistance), query + " within " + maxDistance);
+            }
+        }
+    }
+
+    @Test
+    public void search_emptyTree_noMatches() {
+        assertEquals(Map.of(), new BkTree().search("tan", 2));
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 3 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            word.append("aehimnorst".charAt(random.nextInt(10)));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,143 @@
+package casetrack.app.model.index;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.tag.Tag;
+import casetrack.app.testutil.PersonBuilder;
+
+public class ColumnStoreTest {
+
+    private static final Person LOW = new PersonBuilder().withName("Alice Tan").withIncome("500")
+            .withTags("urgent", "housing").withNotes(new Note("Called"), new Note("Visited")).build();
+    private static final Person MIDDLE = new PersonBuilder().withName("Bob Lim").withIncome("1500.50")
+            .withTags("housing").build();
+    private static final Person HIGH = new PersonBuilder().withName("Carl Tan").withIncome("3000")
+            .withNotes(new Note("Called")).build();
+
+    private final ColumnStore columns = new ColumnStore();
+
+    @BeforeEach
+    public void setUp() {
+        columns.add(0, LOW);
+        columns.add(1, MIDDLE);
+        columns.add(2, HIGH);
+    }
+
+    @Test
+    public void scans_allPersons() {
+        assertEquals(3, columns.size());
+        assertEquals(BigInteger.valueOf(50_000 + 150_050 + 300_000), columns.getTotalIncomeCents());
+        assertArrayEquals(new int[] {1, 1, 1}, columns.countIncomes(100_000, 200_000));
+        assertArrayEquals(new int[] {3}, columns.countIncomes());
+        assertEquals(Map.of(Tag.of("urgent"), 1, Tag.of("housing"), 2), columns.countTags());
+        assertEquals(3, columns.getTotalNoteCount());
+        assertEquals(2, columns.countNamesContaining("TAN"));
+        assertEquals(0, columns.countNamesContaining("Dan"));
+    }
+
+    @Test
+    public void countIncomes_boundEqualToIncome_countedAbove() {
+        assertArrayEquals(new int[] {0, 3}, columns.countIncomes(50_000));
+        assertArrayEquals(new int[] {1, 0, 2}, columns.countIncomes(150_050, 150_050));
+    }
+
+    @Test
+    public void countIncomes_unsortedBounds_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, ColumnStore.MESSAGE_UNSORTED_BOUNDS, () ->
+                columns.countIncomes(200_000, 100_000));
+    }
+
+    @Test
+    public void remove_rowCleared() {
+        columns.remove(0, LOW);
+
+        assertEquals(2, columns.size());
+        assertEquals(BigInteger.valueOf(150_050 + 300_000), columns.getTotalIncomeCents());
+        assertArrayEquals(new int[] {0, 1, 1}, columns.countIncomes(100_000, 200_000));
+        assertEquals(Map.of(Tag.of("housing"), 1), columns.countTags());
+        assertEquals(1, columns.getTotalNoteCount());
+        assertEquals(1, columns.countNamesContaining("tan"));
+    }
+
+    @Test
+    public void update_rowOverwritten() {
+        Person editedHigh = new PersonBuilder(HIGH).withIncome("100").withTags("urgent").build().addNote(
+                new Note("Moved"));
+        columns.update(2, HIGH, editedHigh);
+
+        assertEquals(3, columns.size());
+        assertEquals(BigInteger.valueOf(50_000 + 150_050 + 10_000), columns.getTotalIncomeCents());
+        assertEquals(Map.of(Tag.of("urgent"), 2, Tag.of("housing"), 2), columns.countTags());
+        assertEquals(4, columns.getTotalNoteCount());
+    }
+
+    @Test
+    public void remove_lastPersonWithTag_tagDroppedAndCodeReused() {
+        columns.remove(0, LOW);
+        assertEquals(Map.of(Tag.of("housing"), 1), columns.countTags());
+
+        columns.add(0, new PersonBuilder(LOW).withTags("employment").build());
+        assertEquals(Map.of(Tag.of("employment"), 1, Tag.of("housing"), 1), columns.countTags());
+    }
+
+    @Test
+    public void update_tagKept_stillCounted() {
+        columns.update(1, MIDDLE, new PersonBuilder(MIDDLE).withIncome("1600").build());
+        assertEquals(Map.of(Tag.of("urgent"), 1, Tag.of("housing"), 2), columns.countTags());
+    }
+
+    @Test
+    public void getTotalIncomeCents_beyondLong_exact() {
+        Person richest = new PersonBuilder().withName("Dan Ng").withIncome(Long.toString(Long.MAX_VALUE / 100))
+                .build();
+        columns.add(3, richest);
+        columns.add(4, richest);
+
+        BigInteger expected = BigInteger.valueOf(50_000 + 150_050 + 300_000)
+                .add(BigInteger.valueOf(richest.getIncome().getCents()).multiply(BigInteger.TWO));
+        assertEquals(expected, columns.getTotalIncomeCents());
+    }
+
+    @Test
+    public void of_persons_rowsAtPositions() {
+        ColumnStore listed = ColumnStore.of(List.of(LOW, MIDDLE, HIGH));
+        assertEquals(columns.size(), listed.size());
+        assertEquals(columns.getTotalIncomeCents(), listed.getTotalIncomeCents());
+        assertEquals(columns.countTags(), listed.countTags());
+    }
+
+    @Test
+    public void add_manyPersonsAndReusedOrdinal_grows() {
+        for (int ordinal = 3; ordinal < 100; ordinal++) {
+            columns.add(ordinal, MIDDLE);
+        }
+        columns.remove(1, MIDDLE);
+        columns.add(1, HIGH);
+
+        assertEquals(100, columns.size());
+        assertEquals(BigInteger.valueOf(50_000 + 2 * 300_000 + 97 * 150_050L), columns.getTotalIncomeCents());
+        assertArrayEquals(new int[] {1, 97, 2}, columns.countIncomes(100_000, 200_000));
+    }
+
+    @Test
+    public void clear_noPersons() {
+        columns.clear();
+
+        assertEquals(0, columns.size());
+        assertEquals(BigInteger.ZERO, columns.getTotalIncomeCents());
+        assertArrayEquals(new int[] {0}, columns.countIncomes());
+        assertEquals(Map.of(), columns.countTags());
+        assertEquals(0, columns.countNamesContaining(""));
+    }
+}
@@ -0,0 +1,62 @@
+package casetrack.app.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.PersonBuilder;
+
+public class EmailIndexTest {
+
+    private static final Person ALICE = new PersonBuilder().withName("Alice").withEmail("Alice@Example.com").build();
+    private static final Person BOB = new PersonBuilder().withName("Bob").withEmail("bob@example.com").build();
+
+    private final EmailIndex index = new EmailIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(0, ALICE);
+        index.add(1, BOB);
+    }
+
+    @Test
+    public void getCandidates_fullEmail_ignoresCase() {
+        assertEquals(bitSetOf(0), index.getCandidates("ALICE@example.COM").get());
+        assertEquals(bitSetOf(1), index.getCandidates("bob@example.com").get());
+    }
+
+    @Test
+    public void getCandidates_partOfEmail_found() {
+        assertEquals(bitSetOf(0), index.getCandidates("alice@example.co").get());
+        assertEquals(bitSetOf(0, 1), index.getCandidates("example").get());
+        assertEquals(new BitSet(), index.getCandidates("carol").get());
+        assertFalse(index.getCandidates("@e").isPresent());
+    }
+
+    @Test
+    public void update_changedEmail_moved() {
+        index.update(0, ALICE, new PersonBuilder(ALICE).withEmail("alice@nus.edu.sg").build());
+        assertEquals(bitSetOf(0), index.getCandidates("alice@nus").get());
+        assertEquals(new BitSet(), index.getCandidates("alice@example").get());
+    }
+
+    @Test
+    public void remove_removesEmptyTrigrams() {
+        index.remove(0, ALICE);
+        index.remove(1, BOB);
+        assertEquals(0, index.size());
+    }
+
+    private static BitSet bitSetOf(int... ordinals) {
+        BitSet bitSet = new BitSet();
+        for (int ordinal : ordinals) {
+            bitSet.set(ordinal);
+        }
+        return bitSet;
+    }
+}
@@ -0,0 +1,67 @@
+package casetrack.app.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.PersonBuilder;
+
+public class IncomeIndexTest {
+
+    private static final Person LOW = new PersonBuilder().withName("Low").withIncome("500").build();
+    private static final Person MIDDLE = new PersonBuilder().withName("Middle").withIncome("1500.00").build();
+    private static final Person ALSO_MIDDLE = new PersonBuilder().withName("Also Middle").withIncome("1500").build();
+    private static final Person HIGH = new PersonBuilder().withName("High").withIncome("3000").build();
+
+    private final IncomeIndex index = new IncomeIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(0, LOW);
+        index.add(1, MIDDLE);
+        index.add(2, ALSO_MIDDLE);
+        index.add(3, HIGH);
+    }
+
+    @Test
+    public void getPersonsInRange() {
+        assertEquals(bitSetOf(0, 1, 2), index.getPersonsInRange(Long.MIN_VALUE, 150_000));
+        assertEquals(bitSetOf(0), index.getPersonsInRange(Long.MIN_VALUE, 149_999));
+        assertEquals(bitSetOf(1, 2, 3), index.getPersonsInRange(150_000, Long.MAX_VALUE));
+        assertEquals(bitSetOf(3), index.getPersonsInRange(150_001, Long.MAX_VALUE));
+        assertEquals(bitSetOf(1, 2), index.getPersonsInRange(150_000, 150_000));
+        assertEquals(bitSetOf(0, 1, 2, 3), index.getPersonsInRange(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(new BitSet(), index.getPersonsInRange(60_000, 140_000));
+        assertEquals(new BitSet(), index.getPersonsInRange(150_001, 150_000));
+    }
+
+    @Test
+    public void update_changedIncome_moved() {
+        index.update(0, LOW, new PersonBuilder(LOW).withIncome("5000").build());
+        assertEquals(bitSetOf(0, 3), index.getPersonsInRange(200_000, Long.MAX_VALUE));
+        assertEquals(new BitSet(), index.getPersonsInRange(Long.MIN_VALUE, 100_000));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void remove_sharedIncome_keptForOthers() {
+        index.remove(1, MIDDLE);
+        assertEquals(bitSetOf(2), index.getPersonsInRange(150_000, 150_000));
+        assertEquals(3, index.size());
+
+        index.clear();
+        assertEquals(0, index.size());
+    }
+
+    private static BitSet bitSetOf(int... ordinals) {
+        BitSet bitSet = new BitSet();
+        for (int ordinal : ordinals) {
+            bitSet.set(ordinal);
+        }
+        return bitSet;
+    }
+}
@@ -0,0 +1,82 @@
+package casetrack.app.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private static final Person MUHAMMAD = new PersonBuilder().withName("Muhammad Tan").build();
+    private static final Person MOHAMED = new PersonBuilder().withName("Mohamed Lim 2").build();
+    private static final Person TANG = new PersonBuilder().withName("Alice Tang").build();
+
+    private final NameTokenIndex index = new NameTokenIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(0, MUHAMMAD);
+        index.add(1, MOHAMED);
+        index.add(2, TANG);
+    }
+
+    @Test
+    public void tokenize() {
+        assertEquals(Set.of("o", "brien", "s", "d", "ali"), NameTokenIndex.tokenize("O'Brien s/o Ali d/o 2"));
+    }
+
+    @Test
+    public void getSimilarWords() {
+        assertEquals(Map.of("muhammad", 2, "mohamed", 1), index.getSimilarWords("mohamad", 2));
+        assertEquals(Map.of("tan", 0, "tang", 1), index.getSimilarWords("tan", 1));
+        assertEquals(Map.of(), index.getSimilarWords("2", 1));
+        assertEquals(6, index.size());
+    }
+
+    @Test
+    public void getPersonsWithAnyOf() {
+        assertEquals(bitSetOf(0, 2), index.getPersonsWithAnyOf(List.of("tan", "tang", "unknown")));
+    }
+
+    @Test
+    public void remove_wordOfNoOneElse_notFound() {
+        index.remove(0, MUHAMMAD);
+        assertEquals(Map.of("mohamed", 1), index.getSimilarWords("mohamad", 2));
+        assertEquals(Map.of("tang", 1), index.getSimilarWords("tan", 1));
+
+        // the words of a removed person can be indexed again
+        index.add(0, MUHAMMAD);
+        assertEquals(Map.of("tan", 0, "tang", 1), index.getSimilarWords("tan", 1));
+    }
+
+    @Test
+    public void update_renamed_moved() {
+        index.update(2, TANG, new PersonBuilder(TANG).withName("Alice Tan").build());
+        assertEquals(Map.of("tan", 0), index.getSimilarWords("tan", 1));
+        assertEquals(bitSetOf(0, 2), index.getPersonsWithAnyOf(List.of("tan")));
+
+        // removing most of the words rebuilds the tree without them
+        index.remove(0, MUHAMMAD);
+        index.remove(1, MOHAMED);
+        assertEquals(Map.of("alice", 0), index.getSimilarWords("alice", 3));
+
+        index.clear();
+        assertEquals(0, index.size());
+    }
+
+    private static BitSet bitSetOf(int... ordinals) {
+        BitSet bitSet = new BitSet();
+        for (int ordinal : ordinals) {
+            bitSet.set(ordinal);
+        }
+        return bitSet;
+    }
+}
@@ -0,0 +1,96 @@
+package casetrack.app.model.index;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.BENSON;
+import static casetrack.app.testutil.TypicalPersons.DANIEL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.GeneratedPersons;
+
+public class NameTrigramIndexTest {
+
+    private final NameTrigramIndex index = new NameTrigramIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(0, ALICE); // Alice Pauline
+        index.add(1, BENSON); // Benson Meier
+        index.add(2, DANIEL); // Daniel Meier
+    }
+
+    @Test
+    public void getCandidates_nullKeyword_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.getCandidates(null));
+    }
+
+    @Test
+    public void getCandidates_shortKeyword_emptyResult() {
+        assertFalse(index.getCandidates("me").isPresent());
+    }
+
+    @Test
+    public void getCandidates_substring_caseInsensitive() {
+        assertEquals(bitSetOf(1, 2), index.getCandidates("mEIer").get());
+        assertEquals(bitSetOf(2), index.getCandidates("IEL").get());
+        assertEquals(bitSetOf(0), index.getCandidates("ce pa").get());
+    }
+
+    @Test
+    public void getCandidates_unknownTrigram_noCandidates() {
+        assertEquals(new BitSet(), index.getCandidates("xyz").get());
+    }
+
+    @Test
+    public void remove_person_noLongerCandidate() {
+        index.remove(1, BENSON);
+        assertEquals(bitSetOf(2), index.getCandidates("meier").get());
+
+        index.remove(2, DANIEL);
+        assertEquals(new BitSet(), index.getCandidates("meier").get());
+    }
+
+    @Test
+    public void clear() {
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(new BitSet(), index.getCandidates("alice").get());
+    }
+
+    @Test
+    public void getCandidates_generatedPersons_includesEveryMatch() {
+        NameTrigramIndex generatedIndex = new NameTrigramIndex();
+        List<Person> persons = GeneratedPersons.generate(2000);
+        for (int i = 0; i < persons.size(); i++) {
+            generatedIndex.add(i, persons.get(i));
+        }
+
+        for (String keyword : new String[] {"tan", "ming 1", "rahman 19", "ei m", "abc", "123"}) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of(keyword));
+            BitSet candidates = generatedIndex.getCandidates(keyword).get();
+            for (int i = 0; i < persons.size(); i++) {
+                if (predicate.test(persons.get(i))) {
+                    assertTrue(candidates.get(i), keyword + " " + persons.get(i));
+                }
+            }
+        }
+    }
+
+    private static BitSet bitSetOf(int... ordinals) {
+        BitSet bitSet = new BitSet();
+        for (int ordinal : ordinals) {
+            bitSet.set(ordinal);
+        }
+        return bitSet;
+    }
+}
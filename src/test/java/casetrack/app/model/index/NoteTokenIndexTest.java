@@ -0,0 +1,116 @@
+package casetrack.app.model.index;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.PersonBuilder;
+
+public class NoteTokenIndexTest {
+
+    private static final Person HOUSING = withNotes("Applied for housing grant", "Housing visit on Monday");
+    private static final Person GRANT = withNotes("Grant approved");
+    private static final Person LONG_NOTES = withNotes("Housing mentioned once in a very long note about many other "
+            + "topics such as meals, transport, medication and appointments");
+    private static final Person NO_NOTES = new PersonBuilder().withName("No Notes").build();
+
+    private final NoteTokenIndex index = new NoteTokenIndex();
+
+    @Test
+    public void tokenize() {
+        assertEquals(List.of("follow", "up", "on", "3", "visits"), NoteTokenIndex.tokenize("Follow-up on 3 visits!"));
+        assertEquals(List.of(), NoteTokenIndex.tokenize("  -- "));
+        assertThrows(NullPointerException.class, () -> NoteTokenIndex.tokenize(null));
+    }
+
+    @Test
+    public void getCandidates_anyToken_union() {
+        addAll(HOUSING, GRANT, NO_NOTES);
+        assertEquals(bitSetOf(0), index.getCandidates(Set.of("housing")));
+        assertEquals(bitSetOf(0, 1), index.getCandidates(Set.of("housing", "grant")));
+        assertEquals(new BitSet(), index.getCandidates(Set.of("hous")));
+    }
+
+    @Test
+    public void getScore_moreFrequentAndDenserMatches_scoreHigher() {
+        addAll(HOUSING, LONG_NOTES, GRANT, NO_NOTES);
+        Set<String> tokens = Set.of("housing");
+
+        assertTrue(index.getScore(tokens, 0) > index.getScore(tokens, 1));
+        assertEquals(0, index.getScore(tokens, 2));
+        assertEquals(0, index.getScore(tokens, 3));
+    }
+
+    @Test
+    public void getScore_rarerToken_scoresHigher() {
+        addAll(withNotes("visit"), withNotes("visit"), withNotes("visit"), withNotes("eviction"));
+        assertTrue(index.getScore(Set.of("eviction"), 3) > index.getScore(Set.of("visit"), 0));
+    }
+
+    @Test
+    public void update_changedNotes_onlyChangedTokensMove() {
+        addAll(HOUSING, GRANT);
+        Person edited = HOUSING.editNote(0, new Note("Applied for eviction appeal"));
+        index.update(0, HOUSING, edited);
+
+        // "housing" is still in the second note
+        assertEquals(bitSetOf(0), index.getCandidates(Set.of("housing")));
+        assertEquals(bitSetOf(1), index.getCandidates(Set.of("grant")));
+        assertEquals(bitSetOf(0), index.getCandidates(Set.of("eviction")));
+
+        NoteTokenIndex rebuilt = new NoteTokenIndex();
+        rebuilt.add(0, edited);
+        rebuilt.add(1, GRANT);
+        assertEquals(rebuilt.getScore(Set.of("housing", "eviction"), 0), index.getScore(Set.of("housing",
+                "eviction"), 0));
+        assertEquals(rebuilt.size(), index.size());
+    }
+
+    @Test
+    public void remove_person_tokensDropped() {
+        addAll(HOUSING, GRANT);
+        index.remove(0, HOUSING);
+
+        assertEquals(new BitSet(), index.getCandidates(Set.of("housing")));
+        assertEquals(bitSetOf(1), index.getCandidates(Set.of("grant")));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void clear() {
+        addAll(HOUSING, GRANT);
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(0, index.getScore(Set.of("grant"), 1));
+    }
+
+    private void addAll(Person... persons) {
+        for (int i = 0; i < persons.length; i++) {
+            index.add(i, persons[i]);
+        }
+    }
+
+    private static Person withNotes(String... notes) {
+        Person person = new PersonBuilder().withName("Person " + notes[0].length()).build();
+        for (String note : notes) {
+            person = person.addNote(new Note(note));
+        }
+        return person;
+    }
+
+    private static BitSet bitSetOf(int... ordinals) {
+        BitSet bitSet = new BitSet();
+        for (int ordinal : ordinals) {
+            bitSet.set(ordinal);
+        }
+        return bitSet;
+    }
+}
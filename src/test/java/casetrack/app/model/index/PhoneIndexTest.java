@@ -0,0 +1,78 @@
+package casetrack.app.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.PersonBuilder;
+
+public class PhoneIndexTest {
+
+    private static final Person LOCAL = new PersonBuilder().withName("Local").withPhone("91234567").build();
+    private static final Person WITH_COUNTRY_CODE = new PersonBuilder().withName("Country Code")
+            .withPhone("+65 91234567").build();
+    private static final Person OTHER = new PersonBuilder().withName("Other").withPhone("98765432").build();
+
+    private final PhoneIndex index = new PhoneIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(0, LOCAL);
+        index.add(1, WITH_COUNTRY_CODE);
+        index.add(2, OTHER);
+    }
+
+    @Test
+    public void isFullNumber() {
+        assertTrue(PhoneIndex.isFullNumber("91234567"));
+        assertTrue(PhoneIndex.isFullNumber("+65 91234567"));
+        assertFalse(PhoneIndex.isFullNumber("9123456"));
+        assertFalse(PhoneIndex.isFullNumber("+65"));
+        assertFalse(PhoneIndex.isFullNumber("9123-4567"));
+    }
+
+    @Test
+    public void get_ignoresCountryCode() {
+        assertEquals(bitSetOf(0, 1), index.get("91234567"));
+        assertEquals(bitSetOf(1), index.get("6591234567"));
+        assertEquals(bitSetOf(2), index.get("98765432"));
+        assertEquals(new BitSet(), index.get("1234567"));
+    }
+
+    @Test
+    public void get_digitsInsideNumber_found() {
+        assertEquals(bitSetOf(1), index.get("65912345"));
+        assertEquals(bitSetOf(1), index.get("659123456"));
+        assertEquals(bitSetOf(2), index.get("98765432"));
+    }
+
+    @Test
+    public void update_changedPhone_moved() {
+        index.update(2, OTHER, new PersonBuilder(OTHER).withPhone("91234567").build());
+        assertEquals(bitSetOf(0, 1, 2), index.get("91234567"));
+        assertEquals(new BitSet(), index.get("98765432"));
+    }
+
+    @Test
+    public void remove_sharedNumber_keptForOthers() {
+        index.remove(0, LOCAL);
+        assertEquals(bitSetOf(1), index.get("91234567"));
+
+        index.clear();
+        assertEquals(0, index.size());
+    }
+
+    private static BitSet bitSetOf(int... ordinals) {
+        BitSet bitSet = new BitSet();
+        for (int ordinal : ordinals) {
+            bitSet.set(ordinal);
+        }
+        return bitSet;
+    }
+}
@@ -0,0 +1,57 @@
+package casetrack.app.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class PostingListTest {
+
+    private final PostingList postingList = new PostingList();
+
+    @Test
+    public void add_outOfOrder_keptInAscendingOrder() {
+        for (int ordinal : new int[] {5, 1, 9, 3, 7, 0}) {
+            postingList.add(ordinal);
+        }
+        assertEquals("[0, 1, 3, 5, 7, 9]", postingList.toString());
+    }
+
+    @Test
+    public void add_duplicate_addedOnce() {
+        postingList.add(3);
+        postingList.add(1);
+        postingList.add(3);
+        postingList.add(1);
+        assertEquals(2, postingList.size());
+    }
+
+    @Test
+    public void add_manyOrdinals_grows() {
+        for (int ordinal = 0; ordinal < 1000; ordinal++) {
+            postingList.add(ordinal);
+        }
+        assertEquals(1000, postingList.size());
+        assertEquals(999, postingList.get(999));
+    }
+
+    @Test
+    public void remove() {
+        postingList.add(1);
+        postingList.add(2);
+        postingList.add(3);
+
+        postingList.remove(2);
+        assertFalse(postingList.contains(2));
+        assertEquals("[1, 3]", postingList.toString());
+
+        // absent ordinal -> ignored
+        postingList.remove(4);
+        assertEquals(2, postingList.size());
+
+        postingList.remove(1);
+        postingList.remove(3);
+        assertTrue(postingList.isEmpty());
+    }
+}
@@ -0,0 +1,129 @@
+package casetrack.app.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.person.AndPredicate;
+import casetrack.app.model.person.IncomeInRangePredicate;
+import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.NotPredicate;
+import casetrack.app.model.person.OrPredicate;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.PhoneContainsKeywordsPredicate;
+import casetrack.app.model.person.TagContainsKeywordsPredicate;
+import casetrack.app.testutil.GeneratedPersons;
+
+public class QueryPlannerTest {
+
+    private static final List<Person> PERSONS = GeneratedPersons.generate(1000);
+
+    private static final Predicate<Person> TAG_HOUSING = new TagContainsKeywordsPredicate(List.of("housing"));
+    private static final Predicate<Person> TAG_URGENT = new TagContainsKeywordsPredicate(List.of("urgent"));
+    private static final Predicate<Person> NAME_TAN = new NameContainsKeywordsPredicate(List.of("tan"));
+    private static final Predicate<Person> NAME_ROY_TAN_1 = new NameContainsKeywordsPredicate(List.of("roy tan 1"));
+    private static final Predicate<Person> LOW_INCOME = new IncomeInRangePredicate(null, false,
+            new BigDecimal("2000"), false);
+    private static final Predicate<Person> PHONE_123 = new PhoneContainsKeywordsPredicate(List.of("123"));
+
+    private final SearchIndex searchIndex = createSearchIndex();
+
+    @Test
+    public void plan_compoundPredicates_sameAsTest() {
+        for (Predicate<Person> predicate : List.of(
+                new AndPredicate(List.of(TAG_HOUSING, NAME_TAN, LOW_INCOME)),
+                new AndPredicate(List.of(TAG_HOUSING, PHONE_123)),
+                new AndPredicate(List.of(PHONE_123, new NotPredicate(TAG_URGENT))),
+                new OrPredicate(List.of(TAG_HOUSING, NAME_TAN)),
+                new OrPredicate(List.of(TAG_HOUSING, PHONE_123)),
+                new NotPredicate(new OrPredicate(List.of(TAG_HOUSING, LOW_INCOME))),
+                new NotPredicate(NAME_TAN),
+                new AndPredicate(List.of(TAG_URGENT,
+                        new OrPredicate(List.of(NAME_TAN, new NotPredicate(LOW_INCOME))))))) {
+            assertEquals(scan(predicate), evaluate(QueryPlanner.plan(predicate, searchIndex)), predicate.toString());
+        }
+    }
+
+    @Test
+    public void plan_andOfExactClauses_exact() {
+        QueryPlan plan = QueryPlanner.plan(new AndPredicate(List.of(TAG_HOUSING, new NotPredicate(TAG_URGENT),
+                LOW_INCOME)), searchIndex);
+        assertTrue(plan.isExact());
+        assertEquals(scan(new AndPredicate(List.of(TAG_HOUSING, new NotPredicate(TAG_URGENT), LOW_INCOME))),
+                plan.getCandidates().get());
+    }
+
+    @Test
+    public void plan_and_mostSelectiveFirst() {
+        QueryPlan plan = QueryPlanner.plan(new AndPredicate(List.of(PHONE_123, TAG_HOUSING, NAME_ROY_TAN_1)),
+                searchIndex);
+        List<QueryPlan> steps = plan.getSteps();
+        assertEquals(3, steps.size());
+        assertTrue(steps.get(0).getEstimatedCardinality() <= steps.get(1).getEstimatedCardinality());
+        assertTrue(steps.get(1).getCandidates().isPresent());
+        // the unindexed clause is tested last
+        assertTrue(steps.get(2).getCandidates().isEmpty());
+        assertFalse(plan.isExact());
+        assertTrue(plan.getEstimatedCardinality() <= steps.get(0).getEstimatedCardinality());
+    }
+
+    @Test
+    public void plan_unindexedClauseInOr_scan() {
+        QueryPlan plan = QueryPlanner.plan(new OrPredicate(List.of(TAG_HOUSING, PHONE_123)), searchIndex);
+        assertTrue(plan.getCandidates().isEmpty());
+        assertEquals(PERSONS.size(), plan.getEstimatedCardinality());
+    }
+
+    @Test
+    public void plan_notOfInexactClause_scan() {
+        QueryPlan plan = QueryPlanner.plan(new NotPredicate(NAME_TAN), searchIndex);
+        assertTrue(plan.getCandidates().isEmpty());
+        assertTrue(plan.getResidual().isPresent());
+    }
+
+    @Test
+    public void explain() {
+        QueryPlan plan = QueryPlanner.plan(new AndPredicate(List.of(PHONE_123, TAG_HOUSING)), searchIndex);
+        int housing = scan(TAG_HOUSING).cardinality();
+        String expected = "AND (est. " + plan.getEstimatedCardinality() + " candidates)\n"
+                + "  index " + TAG_HOUSING.toString().replace("casetrack.app.model.person.", "")
+                + " (est. " + housing + " candidates, exact)\n"
+                + "  scan " + PHONE_123.toString().replace("casetrack.app.model.person.", "")
+                + " (est. " + PERSONS.size() + " tested)";
+        assertEquals(expected, plan.explain());
+    }
+
+    private static SearchIndex createSearchIndex() {
+        SearchIndex searchIndex = new SearchIndex();
+        PERSONS.forEach(searchIndex::add);
+        return searchIndex;
+    }
+
+    private static BitSet scan(Predicate<Person> predicate) {
+        BitSet matches = new BitSet();
+        for (int i = 0; i < PERSONS.size(); i++) {
+            matches.set(i, predicate.test(PERSONS.get(i)));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the ordinals of the persons found by following {@code plan}.
+     */
+    private BitSet evaluate(QueryPlan plan) {
+        BitSet matches = plan.getCandidates().orElseGet(searchIndex::getOrdinals);
+        Predicate<Person> residual = plan.getResidual().orElse(person -> true);
+        BitSet result = new BitSet();
+        for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+            result.set(ordinal, residual.test(searchIndex.getPerson(ordinal)));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,64 @@
+package casetrack.app.model.index;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.BENSON;
+import static casetrack.app.testutil.TypicalPersons.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+public class SearchIndexTest {
+
+    private final SearchIndex searchIndex = new SearchIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> searchIndex.add(null));
+    }
+
+    @Test
+    public void add_persons_consecutiveOrdinals() {
+        assertEquals(0, searchIndex.add(ALICE));
+        assertEquals(1, searchIndex.add(BENSON));
+        assertEquals(ALICE, searchIndex.getPerson(0));
+        assertEquals(BENSON, searchIndex.getPerson(1));
+        assertNull(searchIndex.getPerson(2));
+    }
+
+    @Test
+    public void set_editedPerson_keepsOrdinalAndUpdatesIndexes() {
+        int ordinal = searchIndex.add(ALICE);
+        searchIndex.set(ordinal, CARL);
+
+        assertEquals(CARL, searchIndex.getPerson(ordinal));
+        assertEquals(new BitSet(), searchIndex.getNameIndex().getCandidates("alice").get());
+        assertEquals(BitSet.valueOf(new long[] {1L << ordinal}),
+                searchIndex.getNameIndex().getCandidates("carl").get());
+    }
+
+    @Test
+    public void remove_person_ordinalReused() {
+        searchIndex.add(ALICE);
+        int ordinal = searchIndex.add(BENSON);
+        searchIndex.remove(ordinal);
+
+        assertNull(searchIndex.getPerson(ordinal));
+        assertEquals(BitSet.valueOf(new long[] {1}), searchIndex.getOrdinals());
+        assertEquals(new BitSet(), searchIndex.getNameIndex().getCandidates("benson").get());
+        assertEquals(ordinal, searchIndex.add(CARL));
+    }
+
+    @Test
+    public void clear() {
+        searchIndex.add(ALICE);
+        searchIndex.clear();
+
+        assertNull(searchIndex.getPerson(0));
+        assertEquals(new BitSet(), searchIndex.getNameIndex().getCandidates("alice").get());
+        assertEquals(0, searchIndex.add(BENSON));
+    }
+}
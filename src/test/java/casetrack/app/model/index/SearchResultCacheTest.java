@@ -0,0 +1,99 @@
+package casetrack.app.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.NoteContainsKeywordsPredicate;
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.PersonBuilder;
+
+public class SearchResultCacheTest {
+
+    private static final Person ALICE = new PersonBuilder().withName("Alice Tan").build();
+    private static final Person BOB = new PersonBuilder().withName("Bob Lim").build();
+
+    private static final Predicate<Person> TAN = new NameContainsKeywordsPredicate(List.of("tan"));
+    private static final Predicate<Person> MISSED = new NoteContainsKeywordsPredicate(List.of("missed"));
+
+    private final SearchResultCache cache = new SearchResultCache(2);
+
+    @Test
+    public void get_equalPredicate_returnsCachedMatches() {
+        cache.put(TAN, List.of(3, 1), cache.getVersion());
+        assertArrayEquals(new int[] {1, 3}, cache.get(new NameContainsKeywordsPredicate(List.of("TAN"))).get());
+        assertFalse(cache.get(new NameContainsKeywordsPredicate(List.of("lim"))).isPresent());
+    }
+
+    @Test
+    public void get_rankedPredicate_keepsOrder() {
+        cache.put(MISSED, List.of(3, 1), cache.getVersion());
+        assertArrayEquals(new int[] {3, 1}, cache.get(MISSED).get());
+    }
+
+    @Test
+    public void put_personsChangedSinceVersion_notCached() {
+        long version = cache.getVersion();
+        cache.add(0, ALICE);
+        cache.put(TAN, List.of(), version);
+        assertFalse(cache.get(TAN).isPresent());
+    }
+
+    @Test
+    public void put_overCapacity_evictsLeastRecentlyUsed() {
+        Predicate<Person> lim = new NameContainsKeywordsPredicate(List.of("lim"));
+        cache.put(TAN, List.of(0), cache.getVersion());
+        cache.put(lim, List.of(1), cache.getVersion());
+        cache.get(TAN);
+        cache.put(MISSED, List.of(), cache.getVersion());
+
+        assertEquals(2, cache.size());
+        assertFalse(cache.get(lim).isPresent());
+        assertArrayEquals(new int[] {0}, cache.get(TAN).get());
+    }
+
+    @Test
+    public void add_updatesMatchesOfCachedSearches() {
+        cache.put(TAN, List.of(), cache.getVersion());
+        cache.add(0, ALICE);
+        cache.add(1, BOB);
+        assertArrayEquals(new int[] {0}, cache.get(TAN).get());
+    }
+
+    @Test
+    public void update_updatesMatchesOfCachedSearches() {
+        cache.put(TAN, List.of(0), cache.getVersion());
+        cache.update(0, ALICE, new PersonBuilder(ALICE).withName("Alice Lim").build());
+        cache.update(1, BOB, new PersonBuilder(BOB).withName("Bob Tan").build());
+        assertArrayEquals(new int[] {1}, cache.get(TAN).get());
+    }
+
+    @Test
+    public void remove_updatesMatchesOfCachedSearches() {
+        cache.put(TAN, List.of(0, 2), cache.getVersion());
+        cache.remove(0, ALICE);
+        assertArrayEquals(new int[] {2}, cache.get(TAN).get());
+    }
+
+    @Test
+    public void add_rankedSearch_dropped() {
+        cache.put(MISSED, List.of(0), cache.getVersion());
+        cache.put(TAN, List.of(), cache.getVersion());
+        cache.add(1, BOB);
+        assertFalse(cache.get(MISSED).isPresent());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void clear_dropsAllSearches() {
+        cache.put(TAN, List.of(0), cache.getVersion());
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,70 @@
+package casetrack.app.model.index;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private static final Person URGENT_HOUSING = new PersonBuilder().withName("A").withTags("urgent", "housing")
+            .build();
+    private static final Person HOUSING = new PersonBuilder().withName("B").withTags("Housing").build();
+    private static final Person NO_TAGS = new PersonBuilder().withName("C").build();
+
+    private final TagIndex index = new TagIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(0, URGENT_HOUSING);
+        index.add(1, HOUSING);
+        index.add(2, NO_TAGS);
+    }
+
+    @Test
+    public void getPersonsWithTagContaining_nullKeyword_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.getPersonsWithTagContaining(null));
+    }
+
+    @Test
+    public void getPersonsWithTagContaining() {
+        assertEquals(bitSetOf(0, 1), index.getPersonsWithTagContaining("housing"));
+        assertEquals(bitSetOf(0, 1), index.getPersonsWithTagContaining("OUS"));
+        assertEquals(bitSetOf(0), index.getPersonsWithTagContaining("urgent"));
+        assertEquals(new BitSet(), index.getPersonsWithTagContaining("elderly"));
+    }
+
+    @Test
+    public void update_changedTags_bitmapsUpdated() {
+        index.update(0, URGENT_HOUSING, new PersonBuilder(URGENT_HOUSING).withTags("housing", "elderly").build());
+
+        assertEquals(new BitSet(), index.getPersonsWithTagContaining("urgent"));
+        assertEquals(bitSetOf(0), index.getPersonsWithTagContaining("elderly"));
+        assertEquals(bitSetOf(0, 1), index.getPersonsWithTagContaining("housing"));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void remove_lastPersonWithTag_tagDropped() {
+        index.remove(0, URGENT_HOUSING);
+        assertEquals(new BitSet(), index.getPersonsWithTagContaining("urgent"));
+        assertEquals(1, index.size());
+
+        index.clear();
+        assertEquals(0, index.size());
+    }
+
+    private static BitSet bitSetOf(int... ordinals) {
+        BitSet bitSet = new BitSet();
+        for (int ordinal : ordinals) {
+            bitSet.set(ordinal);
+        }
+        return bitSet;
+    }
+}
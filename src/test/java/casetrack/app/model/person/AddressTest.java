@@ -4,8 +4,12 @@ import static casetrack.app.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import casetrack.app.testutil.RegexEquivalence;
+
 public class AddressTest {
 
     @Test
@@ -34,6 +38,12 @@ public class AddressTest {
         assertTrue(Address.isValidAddress("Leng Inc; 1234 Market St; San Francisco CA 2349879; USA")); // long address
     }
 
+    @Test
+    public void isValidAddress_randomStrings_sameAsRegex() {
+        RegexEquivalence.assertEquivalent(Address.VALIDATION_REGEX, Address::isValidAddress, List.of("a", "#01-355",
+                " ", "\t", "\u000B", "\f", "\u00a0", "\n", "\r", "\u0085", "\u2028", "\u2029"));
+    }
+
     @Test
     public void equals() {
         Address address = new Address("Valid Address");
@@ -0,0 +1,68 @@
+package casetrack.app.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.testutil.PersonBuilder;
+
+public class AndPredicateTest {
+
+    private static final Predicate<Person> NAME_ALICE = new NameContainsKeywordsPredicate(List.of("alice"));
+    private static final Predicate<Person> TAG_FRIENDS = new TagContainsKeywordsPredicate(List.of("friends"));
+
+    @Test
+    public void equals() {
+        AndPredicate firstPredicate = new AndPredicate(List.of(NAME_ALICE, TAG_FRIENDS));
+        AndPredicate secondPredicate = new AndPredicate(List.of(TAG_FRIENDS, NAME_ALICE));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new AndPredicate(List.of(NAME_ALICE, TAG_FRIENDS))));
+        assertEquals(firstPredicate.hashCode(), new AndPredicate(List.of(NAME_ALICE, TAG_FRIENDS)).hashCode());
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different order -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+
+        // different operator -> returns false
+        assertFalse(firstPredicate.equals(new OrPredicate(List.of(NAME_ALICE, TAG_FRIENDS))));
+    }
+
+    @Test
+    public void test() {
+        AndPredicate predicate = new AndPredicate(List.of(NAME_ALICE, TAG_FRIENDS));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Tan").withTags("friends").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Tan").withTags("colleagues").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Bob Tan").withTags("friends").build()));
+    }
+
+    @Test
+    public void hasExactCandidates() {
+        Predicate<Person> income = new IncomeInRangePredicate(null, false, null, false);
+        assertTrue(new AndPredicate(List.of(TAG_FRIENDS, income)).hasExactCandidates());
+        assertFalse(new AndPredicate(List.of(TAG_FRIENDS, NAME_ALICE)).hasExactCandidates());
+        assertFalse(new AndPredicate(List.of(TAG_FRIENDS, person -> true)).hasExactCandidates());
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<Predicate<Person>> predicates = List.of(NAME_ALICE, TAG_FRIENDS);
+        AndPredicate predicate = new AndPredicate(predicates);
+
+        String expected = AndPredicate.class.getCanonicalName() + "{predicates=" + predicates + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
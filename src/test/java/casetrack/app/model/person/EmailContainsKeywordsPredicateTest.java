@@ -5,11 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import casetrack.app.model.index.SearchIndex;
 import casetrack.app.testutil.PersonBuilder;
 
 public class EmailContainsKeywordsPredicateTest {
@@ -37,6 +39,15 @@ public class EmailContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(thirdPredicate));
     }
 
+    @Test
+    public void equals_sameKeywordsInOtherOrderOrCase_returnsTrue() {
+        EmailContainsKeywordsPredicate predicate = new EmailContainsKeywordsPredicate(List.of("Alice", "example"));
+        EmailContainsKeywordsPredicate otherPredicate = new EmailContainsKeywordsPredicate(
+                List.of("EXAMPLE", "alice"));
+        assertTrue(predicate.equals(otherPredicate));
+        assertEquals(predicate.hashCode(), otherPredicate.hashCode());
+    }
+
     @Test
     public void test_emailContainsKeywords_returnsTrue() {
         EmailContainsKeywordsPredicate predicate =
@@ -83,6 +94,43 @@ public class EmailContainsKeywordsPredicateTest {
         assertTrue(predicate.test(new PersonBuilder().withEmail("alice@example.com").build()));
     }
 
+    @Test
+    public void test_fullEmailInsideLongerEmail_returnsTrue() {
+        EmailContainsKeywordsPredicate predicate = new EmailContainsKeywordsPredicate(List.of("john@gmail.co"));
+        assertTrue(predicate.test(new PersonBuilder().withEmail("john@gmail.com").build()));
+    }
+
+    @Test
+    public void getCandidates() {
+        SearchIndex searchIndex = new SearchIndex();
+        searchIndex.add(new PersonBuilder().withName("John").withEmail("john@gmail.com").build());
+        searchIndex.add(new PersonBuilder().withName("Carol").withEmail("carol@nus.edu.sg").build());
+
+        // a full email also finds the emails containing it
+        BitSet expected = new BitSet();
+        expected.set(0);
+        assertEquals(expected, new EmailContainsKeywordsPredicate(List.of("john@gmail.co")).getCandidates(
+                searchIndex).get());
+
+        // union of the candidates of every keyword
+        expected.set(1);
+        assertEquals(expected, new EmailContainsKeywordsPredicate(List.of("JOHN", "nus.edu")).getCandidates(
+                searchIndex).get());
+
+        // keyword too short for the index -> no candidates
+        assertFalse(new EmailContainsKeywordsPredicate(List.of("john", "sg")).getCandidates(searchIndex)
+                .isPresent());
+    }
+
+    @Test
+    public void refines() {
+        EmailContainsKeywordsPredicate predicate = new EmailContainsKeywordsPredicate(Arrays.asList("Alice@ex"));
+        assertTrue(predicate.refines(new EmailContainsKeywordsPredicate(Arrays.asList("alice@"))));
+        assertTrue(predicate.refines(new EmailContainsKeywordsPredicate(Arrays.asList("bob", "EX"))));
+        assertFalse(predicate.refines(new EmailContainsKeywordsPredicate(Arrays.asList("alice@exa"))));
+        assertFalse(predicate.refines(new NameContainsKeywordsPredicate(Arrays.asList("alice"))));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = Arrays.asList("alice", "example");
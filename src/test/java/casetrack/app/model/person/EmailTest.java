@@ -1,11 +1,16 @@
 package casetrack.app.model.person;
 
 import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import casetrack.app.testutil.RegexEquivalence;
+
 public class EmailTest {
 
     @Test
@@ -67,6 +72,12 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("user+mailbox/department=shipping@example.com")); // more special chars
     }
 
+    @Test
+    public void isValidEmail_randomStrings_sameAsRegex() {
+        RegexEquivalence.assertEquivalent(Email.VALIDATION_REGEX, Email::isValidEmail, List.of("a", "Z", "9", "ab",
+                "example", "@", "@", ".", "-", "_", "+", "/", "=", " ", "\u00e9"));
+    }
+
     @Test
     public void equals() {
         Email email = new Email("valid@email");
@@ -86,4 +97,9 @@ public class EmailTest {
         // different values -> returns false
         assertFalse(email.equals(new Email("other.valid@email")));
     }
+
+    @Test
+    public void getLowerCaseValue() {
+        assertEquals("alice@example.com", new Email("Alice@Example.com").getLowerCaseValue());
+    }
 }
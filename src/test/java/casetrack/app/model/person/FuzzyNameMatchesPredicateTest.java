@@ -0,0 +1,114 @@
+package casetrack.app.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.index.SearchIndex;
+import casetrack.app.testutil.GeneratedPersons;
+import casetrack.app.testutil.PersonBuilder;
+
+public class FuzzyNameMatchesPredicateTest {
+
+    @Test
+    public void equals() {
+        FuzzyNameMatchesPredicate firstPredicate = new FuzzyNameMatchesPredicate(List.of("mohamad"),
+                OptionalInt.empty());
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new FuzzyNameMatchesPredicate(List.of("mohamad"), OptionalInt.empty())));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(new FuzzyNameMatchesPredicate(List.of("ahmad"), OptionalInt.empty())));
+
+        // different distance -> returns false
+        assertFalse(firstPredicate.equals(new FuzzyNameMatchesPredicate(List.of("mohamad"), OptionalInt.of(2))));
+    }
+
+    @Test
+    public void getDefaultDistance() {
+        assertEquals(0, FuzzyNameMatchesPredicate.getDefaultDistance("li"));
+        assertEquals(1, FuzzyNameMatchesPredicate.getDefaultDistance("tan"));
+        assertEquals(1, FuzzyNameMatchesPredicate.getDefaultDistance("ahmad"));
+        assertEquals(2, FuzzyNameMatchesPredicate.getDefaultDistance("mohamad"));
+    }
+
+    @Test
+    public void test_nameWithinDistance_returnsTrue() {
+        FuzzyNameMatchesPredicate predicate = new FuzzyNameMatchesPredicate(List.of("Mohamad"), OptionalInt.empty());
+        assertTrue(predicate.test(new PersonBuilder().withName("Muhammad Ali").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Siti binte Mohamed").build()));
+
+        // explicit distance
+        predicate = new FuzzyNameMatchesPredicate(List.of("tn"), OptionalInt.of(1));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Tan").build()));
+    }
+
+    @Test
+    public void test_nameNotWithinDistance_returnsFalse() {
+        FuzzyNameMatchesPredicate predicate = new FuzzyNameMatchesPredicate(List.of("Mohamad"), OptionalInt.of(1));
+        assertFalse(predicate.test(new PersonBuilder().withName("Muhammad Ali").build()));
+
+        // short keywords must match exactly by default
+        predicate = new FuzzyNameMatchesPredicate(List.of("li"), OptionalInt.empty());
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Lim").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Li").build()));
+    }
+
+    @Test
+    public void getCandidates_sameAsTest() {
+        List<Person> persons = GeneratedPersons.generate(500);
+        SearchIndex searchIndex = new SearchIndex();
+        persons.forEach(searchIndex::add);
+
+        for (FuzzyNameMatchesPredicate predicate : List.of(
+                new FuzzyNameMatchesPredicate(List.of("balakrishnen"), OptionalInt.empty()),
+                new FuzzyNameMatchesPredicate(List.of("wai", "ibrahm"), OptionalInt.empty()),
+                new FuzzyNameMatchesPredicate(List.of("lee"), OptionalInt.of(2)),
+                new FuzzyNameMatchesPredicate(List.of("123"), OptionalInt.of(1)))) {
+            BitSet expected = new BitSet();
+            for (int i = 0; i < persons.size(); i++) {
+                expected.set(i, predicate.test(persons.get(i)));
+            }
+            assertEquals(expected, predicate.getCandidates(searchIndex).get(), predicate.toString());
+        }
+    }
+
+    @Test
+    public void getScore_closerNamesScoreHigher() {
+        SearchIndex searchIndex = new SearchIndex();
+        int exact = searchIndex.add(new PersonBuilder().withName("Mohamad Tan").build());
+        int oneEdit = searchIndex.add(new PersonBuilder().withName("Mohamed Lim").build());
+        int twoEdits = searchIndex.add(new PersonBuilder().withName("Muhammad Lim").build());
+        FuzzyNameMatchesPredicate predicate = new FuzzyNameMatchesPredicate(List.of("mohamad"), OptionalInt.empty());
+
+        assertTrue(predicate.getScore(searchIndex, exact) > predicate.getScore(searchIndex, oneEdit));
+        assertTrue(predicate.getScore(searchIndex, oneEdit) > predicate.getScore(searchIndex, twoEdits));
+        assertTrue(predicate.getScore(searchIndex, twoEdits) > 0);
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("mohamad");
+        FuzzyNameMatchesPredicate predicate = new FuzzyNameMatchesPredicate(keywords, OptionalInt.of(1));
+
+        String expected = FuzzyNameMatchesPredicate.class.getCanonicalName() + "{keywords=" + keywords
+                + ", maxDistance=" + OptionalInt.of(1) + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,122 @@
+package casetrack.app.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.index.SearchIndex;
+import casetrack.app.testutil.GeneratedPersons;
+import casetrack.app.testutil.PersonBuilder;
+
+public class IncomeInRangePredicateTest {
+
+    private static final BigDecimal THOUSAND = new BigDecimal("1000");
+    private static final BigDecimal TWO_THOUSAND = new BigDecimal("2000");
+
+    @Test
+    public void equals() {
+        IncomeInRangePredicate firstPredicate = new IncomeInRangePredicate(THOUSAND, true, TWO_THOUSAND, true);
+        IncomeInRangePredicate secondPredicate = new IncomeInRangePredicate(THOUSAND, false, TWO_THOUSAND, true);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values, different scale -> returns true
+        IncomeInRangePredicate firstPredicateCopy = new IncomeInRangePredicate(new BigDecimal("1000.00"), true,
+                TWO_THOUSAND, true);
+        assertTrue(firstPredicate.equals(firstPredicateCopy));
+        assertEquals(firstPredicate.hashCode(), firstPredicateCopy.hashCode());
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different inclusiveness -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+
+        // open bound -> returns false
+        assertFalse(firstPredicate.equals(new IncomeInRangePredicate(null, true, TWO_THOUSAND, true)));
+    }
+
+    @Test
+    public void test_incomeInRange_returnsTrue() {
+        IncomeInRangePredicate predicate = new IncomeInRangePredicate(THOUSAND, true, TWO_THOUSAND, true);
+        assertTrue(predicate.test(new PersonBuilder().withIncome("1000").build()));
+        assertTrue(predicate.test(new PersonBuilder().withIncome("1500.50").build()));
+        assertTrue(predicate.test(new PersonBuilder().withIncome("2000.00").build()));
+
+        // open bounds
+        assertTrue(new IncomeInRangePredicate(null, false, THOUSAND, false).test(new PersonBuilder()
+                .withIncome("0").build()));
+        assertTrue(new IncomeInRangePredicate(THOUSAND, false, null, false).test(new PersonBuilder()
+                .withIncome("1000000").build()));
+    }
+
+    @Test
+    public void test_incomeNotInRange_returnsFalse() {
+        IncomeInRangePredicate predicate = new IncomeInRangePredicate(THOUSAND, false, TWO_THOUSAND, false);
+        assertFalse(predicate.test(new PersonBuilder().withIncome("1000").build()));
+        assertFalse(predicate.test(new PersonBuilder().withIncome("2000").build()));
+        assertFalse(predicate.test(new PersonBuilder().withIncome("999.99").build()));
+        assertFalse(predicate.test(new PersonBuilder().withIncome("2000.01").build()));
+    }
+
+    @Test
+    public void test_boundsBetweenCents_matchesWholeCentsInRange() {
+        IncomeInRangePredicate predicate = new IncomeInRangePredicate(new BigDecimal("999.995"), false,
+                new BigDecimal("1000.015"), true);
+        assertFalse(predicate.test(new PersonBuilder().withIncome("999.99").build()));
+        assertTrue(predicate.test(new PersonBuilder().withIncome("1000").build()));
+        assertTrue(predicate.test(new PersonBuilder().withIncome("1000.01").build()));
+        assertFalse(predicate.test(new PersonBuilder().withIncome("1000.02").build()));
+
+        // no whole cent in range
+        assertFalse(new IncomeInRangePredicate(new BigDecimal("0.001"), true, new BigDecimal("0.009"), true)
+                .test(new PersonBuilder().withIncome("0").build()));
+    }
+
+    @Test
+    public void test_boundsBeyondLong_notOverflowed() {
+        BigDecimal huge = new BigDecimal("1E+30");
+        Person person = new PersonBuilder().withIncome("1000").build();
+        assertTrue(new IncomeInRangePredicate(huge.negate(), true, huge, true).test(person));
+        assertFalse(new IncomeInRangePredicate(huge, true, null, false).test(person));
+    }
+
+    @Test
+    public void getCandidates_sameAsTest() {
+        List<Person> persons = GeneratedPersons.generate(500);
+        SearchIndex searchIndex = new SearchIndex();
+        persons.forEach(searchIndex::add);
+
+        for (IncomeInRangePredicate predicate : List.of(
+                new IncomeInRangePredicate(THOUSAND, true, TWO_THOUSAND, false),
+                new IncomeInRangePredicate(null, false, new BigDecimal("1500"), true),
+                new IncomeInRangePredicate(new BigDecimal("7000"), false, null, false),
+                new IncomeInRangePredicate(new BigDecimal("2500.005"), false, new BigDecimal("2499.999"), true),
+                new IncomeInRangePredicate(null, false, null, false))) {
+            BitSet expected = new BitSet();
+            for (int i = 0; i < persons.size(); i++) {
+                expected.set(i, predicate.test(persons.get(i)));
+            }
+            assertEquals(expected, predicate.getCandidates(searchIndex).get(), predicate.toString());
+        }
+    }
+
+    @Test
+    public void toStringMethod() {
+        IncomeInRangePredicate predicate = new IncomeInRangePredicate(THOUSAND, true, null, false);
+
+        String expected = IncomeInRangePredicate.class.getCanonicalName() + "{lowerBound=1000, isLowerInclusive=true, "
+                + "upperBound=null, isUpperInclusive=false}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -44,7 +44,7 @@ public class IncomeTest {
         assertTrue(Income.isValidIncome("5")); // small integer
         assertTrue(Income.isValidIncome("1234567890")); // long integer
         assertTrue(Income.isValidIncome("1.0")); // decimals allowed
-        assertTrue(Income.isValidIncome("3.1415")); // decimals allowed
+        assertTrue(Income.isValidIncome("3.14")); // decimals allowed
         assertTrue(Income.isValidIncome("+2.5")); // plus sign allowed
     }
 
@@ -136,13 +136,93 @@ public class IncomeTest {
 
     @Test
     public void toString_capsDecimalsToTwo() {
-        assertEquals("SGD 2.35", new Income("2.345623984723984723894").toString());
+        assertEquals("SGD 2.35", Income.fromStoredValue("2.345623984723984723894").toString());
         assertEquals("SGD 2.30", new Income("2.3").toString());
     }
 
     @Test
-    public void toPlainString_showsAllDecimals_withoutRounding() {
-        assertEquals("2.3456", new Income("2.3456").toPlainString());
+    public void toPlainString_roundsToCents_withoutTrailingZeros() {
+        assertEquals("2.35", Income.fromStoredValue("2.3456").toPlainString());
         assertEquals("1000.5", new Income("1000.50000000").toPlainString());
+        assertEquals("1000", new Income("1E+3").toPlainString());
+        assertEquals("0.05", new Income("0.05").toPlainString());
+    }
+
+    @Test
+    public void isValidIncome_moreThanTwoDecimalPlaces_returnsFalse() {
+        assertFalse(Income.isValidIncome("2.345623984723984723894"));
+        assertFalse(Income.isValidIncome("2.3456"));
+        assertFalse(Income.isValidIncome("0.005"));
+        assertFalse(Income.isValidIncome("0.00000000000001"));
+        assertFalse(Income.isValidIncome("1E-3"));
+        assertThrows(IllegalArgumentException.class, Income.MESSAGE_CONSTRAINTS, () -> new Income("2.345"));
+
+        // trailing zeros do not change the amount
+        assertTrue(Income.isValidIncome(" 1200 "));
+        assertTrue(Income.isValidIncome("2.3400"));
+        assertTrue(Income.isValidIncome("5.00E+1"));
+    }
+
+    @Test
+    public void isValidStoredIncome() {
+        assertThrows(NullPointerException.class, () -> Income.isValidStoredIncome(null));
+
+        // invalid incomes
+        assertFalse(Income.isValidStoredIncome(""));
+        assertFalse(Income.isValidStoredIncome("-1"));
+        assertFalse(Income.isValidStoredIncome("abc"));
+        assertThrows(IllegalArgumentException.class, Income.MESSAGE_STORED_CONSTRAINTS, () ->
+                Income.fromStoredValue("-1"));
+
+        // more than two decimal places are rounded
+        assertTrue(Income.isValidStoredIncome("2.3456"));
+        assertTrue(Income.isValidStoredIncome("1E-3"));
+        assertTrue(Income.isValidStoredIncome("2.34"));
+    }
+
+    @Test
+    public void getCents() {
+        assertEquals(0, new Income("0").getCents());
+        assertEquals(120000, new Income("1200").getCents());
+        assertEquals(250050, new Income("2500.50").getCents());
+        assertEquals(500, new Income("5.").getCents());
+        assertEquals(50, new Income(".5").getCents());
+        assertEquals(234, new Income("2.3400").getCents());
+
+        // amounts in exponent form
+        assertEquals(100000, new Income("1E+3").getCents());
+        assertEquals(50, new Income("5E-1").getCents());
+    }
+
+    @Test
+    public void fromStoredValue_roundsHalfToEven() {
+        assertEquals(234, Income.fromStoredValue("2.34").getCents());
+        assertEquals(0, Income.fromStoredValue("0.005").getCents());
+        assertEquals(2, Income.fromStoredValue("0.015").getCents());
+        assertEquals(1, Income.fromStoredValue("0.0051").getCents());
+        assertEquals(0, Income.fromStoredValue("0.00000000000001").getCents());
+    }
+
+    @Test
+    public void isValidIncome_beyondLongCents_returnsFalse() {
+        assertTrue(Income.isValidIncome("92233720368547758.07"));
+        assertEquals(Long.MAX_VALUE, new Income("92233720368547758.07").getCents());
+        assertFalse(Income.isValidIncome("92233720368547758.08"));
+        assertFalse(Income.isValidIncome("1E+30"));
+        assertFalse(Income.isValidIncome("+"));
+        assertFalse(Income.isValidIncome("1.2.3"));
+        assertFalse(Income.isValidIncome("-0.001"));
+    }
+
+    @Test
+    public void toString_otherThread_sameString() throws Exception {
+        Income income = new Income("1234567.8");
+        String[] formatted = new String[1];
+        Thread thread = new Thread(() -> formatted[0] = income.toString());
+        thread.start();
+        thread.join();
+
+        assertEquals("SGD 1,234,567.80", income.toString());
+        assertEquals(income.toString(), formatted[0]);
     }
 }
@@ -6,8 +6,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import casetrack.app.testutil.RegexEquivalence;
+
 public class MedicalInfoTest {
 
     @Test
@@ -37,6 +41,12 @@ public class MedicalInfoTest {
         assertTrue(MedicalInfo.isValidMedicalInfo("some info"));
     }
 
+    @Test
+    public void isValidMedicalInfo_randomStrings_sameAsRegex() {
+        RegexEquivalence.assertEquivalent(MedicalInfo.VALIDATION_REGEX, MedicalInfo::isValidMedicalInfo, List.of("a",
+                "-", " ", "\t", "\u000B", "\f", "\u00a0", "\n", "\r", "\u0085", "\u2028", "\u2029"));
+    }
+
     @Test
     public void equals() {
         MedicalInfo info = new MedicalInfo("Asthma");
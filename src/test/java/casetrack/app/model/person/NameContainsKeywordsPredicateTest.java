@@ -5,11 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import casetrack.app.model.index.SearchIndex;
 import casetrack.app.testutil.PersonBuilder;
 
 public class NameContainsKeywordsPredicateTest {
@@ -39,6 +41,15 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void equals_sameKeywordsInOtherOrderOrCase_returnsTrue() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Alice", "bob"));
+        NameContainsKeywordsPredicate otherPredicate = new NameContainsKeywordsPredicate(
+                List.of("BOB", "alice", "bob"));
+        assertTrue(predicate.equals(otherPredicate));
+        assertEquals(predicate.hashCode(), otherPredicate.hashCode());
+    }
+
     @Test
     public void test_nameContainsKeywords_returnsTrue() {
         // One keyword
@@ -101,6 +112,33 @@ public class NameContainsKeywordsPredicateTest {
         assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
     }
 
+    @Test
+    public void getCandidates() {
+        SearchIndex searchIndex = new SearchIndex();
+        searchIndex.add(new PersonBuilder().withName("Alice Bob").build());
+        searchIndex.add(new PersonBuilder().withName("Carol Dan").build());
+
+        // union of the candidates of every keyword
+        BitSet expected = new BitSet();
+        expected.set(0, 2);
+        assertEquals(expected, new NameContainsKeywordsPredicate(Arrays.asList("alice", "DAN")).getCandidates(
+                searchIndex).get());
+
+        // keyword too short for the index -> no candidates
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("alice", "Bo")).getCandidates(searchIndex)
+                .isPresent());
+    }
+
+    @Test
+    public void refines() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Alice", "bob"));
+        assertTrue(predicate.refines(new NameContainsKeywordsPredicate(List.of("alice", "Bo"))));
+        assertTrue(predicate.refines(new NameContainsKeywordsPredicate(List.of("li", "o"))));
+        assertFalse(predicate.refines(new NameContainsKeywordsPredicate(List.of("alice"))));
+        assertFalse(predicate.refines(new NameContainsKeywordsPredicate(List.of("alicee", "bob"))));
+        assertFalse(predicate.refines(new PhoneContainsKeywordsPredicate(List.of("li", "o"))));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -1,11 +1,16 @@
 package casetrack.app.model.person;
 
 import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import casetrack.app.testutil.RegexEquivalence;
+
 public class NameTest {
 
     @Test
@@ -51,6 +56,13 @@ public class NameTest {
         assertFalse(Name.isValidName("12345")); // numbers only
     }
 
+    @Test
+    public void isValidName_randomStrings_sameAsRegex() {
+        RegexEquivalence.assertEquivalent(test -> test.matches(Name.VALIDATION_REGEX)
+                && test.matches(Name.AT_LEAST_ONE_ALPHABET), Name::isValidName, List.of("a", "Z", "0", "9", " ",
+                ".", "'", "(", ")", "@", "-", "/", "s/o ", "D/O ", "s", "o", "_", "\t", "\u00e9"));
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -90,4 +102,18 @@ public class NameTest {
         assertTrue(name.equals(new Name("Alice   Bob   Charlie")));
         assertTrue(name.equals(new Name("Alice Bob  Charlie")));
     }
+
+    @Test
+    public void hashCode_equalNames_sameHashCode() {
+        Name name = new Name("Alice Bob");
+        assertEquals(name.hashCode(), new Name("alice  BOB").hashCode());
+        assertEquals(name.hashCode(), new Name("Alice Bob ").hashCode());
+        assertTrue(name.equals(new Name("Alice Bob  ")));
+        assertFalse(name.equals(new Name("AliceBob")));
+    }
+
+    @Test
+    public void getLowerCaseName() {
+        assertEquals("alice  bob", new Name("Alice  BOB").getLowerCaseName());
+    }
 }
@@ -0,0 +1,58 @@
+package casetrack.app.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.testutil.PersonBuilder;
+
+public class NotPredicateTest {
+
+    private static final TagContainsKeywordsPredicate TAG_FRIENDS =
+            new TagContainsKeywordsPredicate(List.of("friends"));
+
+    @Test
+    public void equals() {
+        NotPredicate firstPredicate = new NotPredicate(TAG_FRIENDS);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NotPredicate(new TagContainsKeywordsPredicate(List.of("friends")))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(firstPredicate.equals(new NotPredicate(new TagContainsKeywordsPredicate(List.of("family")))));
+    }
+
+    @Test
+    public void test() {
+        NotPredicate predicate = new NotPredicate(TAG_FRIENDS);
+        assertTrue(predicate.test(new PersonBuilder().withTags("colleagues").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends").build()));
+    }
+
+    @Test
+    public void hasExactCandidates() {
+        assertTrue(new NotPredicate(TAG_FRIENDS).hasExactCandidates());
+        assertFalse(new NotPredicate(new NameContainsKeywordsPredicate(List.of("alice"))).hasExactCandidates());
+    }
+
+    @Test
+    public void toStringMethod() {
+        NotPredicate predicate = new NotPredicate(TAG_FRIENDS);
+
+        String expected = NotPredicate.class.getCanonicalName() + "{predicate=" + TAG_FRIENDS + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,95 @@
+package casetrack.app.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.index.SearchIndex;
+import casetrack.app.testutil.PersonBuilder;
+
+public class NoteContainsKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        NoteContainsKeywordsPredicate firstPredicate = new NoteContainsKeywordsPredicate(firstPredicateKeywordList);
+        NoteContainsKeywordsPredicate secondPredicate = new NoteContainsKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NoteContainsKeywordsPredicate(firstPredicateKeywordList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_noteContainsKeywords_returnsTrue() {
+        Person person = new PersonBuilder().withNotes(new Note("Applied for housing grant")).build();
+
+        // one keyword, any case
+        assertTrue(new NoteContainsKeywordsPredicate(List.of("HOUSING")).test(person));
+
+        // only one matching keyword
+        assertTrue(new NoteContainsKeywordsPredicate(Arrays.asList("eviction", "grant")).test(person));
+
+        // keyword with punctuation
+        assertTrue(new NoteContainsKeywordsPredicate(List.of("grant!")).test(person));
+    }
+
+    @Test
+    public void test_noteDoesNotContainKeywords_returnsFalse() {
+        Person person = new PersonBuilder().withName("Housing Grant").withNotes(new Note("Applied for housing grant"))
+                .build();
+
+        // partial word
+        assertFalse(new NoteContainsKeywordsPredicate(List.of("hous")).test(person));
+
+        // no notes
+        assertFalse(new NoteContainsKeywordsPredicate(List.of("housing")).test(new PersonBuilder().build()));
+
+        // keywords match name but not notes
+        assertFalse(new NoteContainsKeywordsPredicate(List.of("eviction")).test(person));
+    }
+
+    @Test
+    public void getCandidatesAndScore() {
+        SearchIndex searchIndex = new SearchIndex();
+        searchIndex.add(new PersonBuilder().withName("Alice").withNotes(new Note("Housing visit")).build());
+        searchIndex.add(new PersonBuilder().withName("Bob").withNotes(new Note("Housing grant"),
+                new Note("Housing appeal")).build());
+        searchIndex.add(new PersonBuilder().withName("Carl").withNotes(new Note("Medication")).build());
+
+        NoteContainsKeywordsPredicate predicate = new NoteContainsKeywordsPredicate(List.of("housing"));
+        BitSet expected = new BitSet();
+        expected.set(0, 2);
+        assertEquals(expected, predicate.getCandidates(searchIndex).get());
+        assertTrue(predicate.getScore(searchIndex, 1) > predicate.getScore(searchIndex, 0));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        NoteContainsKeywordsPredicate predicate = new NoteContainsKeywordsPredicate(keywords);
+
+        String expected = NoteContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
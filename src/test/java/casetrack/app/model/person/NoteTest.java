@@ -0,0 +1,46 @@
+package casetrack.app.model.person;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.testutil.RegexEquivalence;
+
+public class NoteTest {
+
+    @Test
+    public void constructor_invalidNote_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Note(" "));
+    }
+
+    @Test
+    public void isValidNote() {
+        // null note
+        assertThrows(NullPointerException.class, () -> Note.isValidNote(null));
+
+        // invalid notes
+        assertFalse(Note.isValidNote("")); // empty string
+        assertFalse(Note.isValidNote(" \t")); // whitespace only
+        assertFalse(Note.isValidNote("Home visit\nnext week")); // more than one line
+
+        // valid notes
+        assertTrue(Note.isValidNote("Home visit"));
+        assertTrue(Note.isValidNote("  Home visit  "));
+    }
+
+    @Test
+    public void isValidNote_randomStrings_sameAsRegex() {
+        RegexEquivalence.assertEquivalent(Note.VALIDATION_REGEX, Note::isValidNote, List.of("a", "b c", " ", "\t",
+                "\u000B", "\f", "\u00a0", "\n", "\r", "\u0085", "\u2028", "\u2029"));
+    }
+
+    @Test
+    public void getTokens() {
+        assertEquals(List.of("home", "visit", "2"), new Note(" Home visit #2 ").getTokens());
+    }
+}
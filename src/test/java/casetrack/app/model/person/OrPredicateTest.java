@@ -0,0 +1,55 @@
+package casetrack.app.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.testutil.PersonBuilder;
+
+public class OrPredicateTest {
+
+    private static final Predicate<Person> NAME_ALICE = new NameContainsKeywordsPredicate(List.of("alice"));
+    private static final Predicate<Person> TAG_FRIENDS = new TagContainsKeywordsPredicate(List.of("friends"));
+
+    @Test
+    public void equals() {
+        OrPredicate firstPredicate = new OrPredicate(List.of(NAME_ALICE, TAG_FRIENDS));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new OrPredicate(List.of(NAME_ALICE, TAG_FRIENDS))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different predicates -> returns false
+        assertFalse(firstPredicate.equals(new OrPredicate(List.of(NAME_ALICE))));
+    }
+
+    @Test
+    public void test() {
+        OrPredicate predicate = new OrPredicate(List.of(NAME_ALICE, TAG_FRIENDS));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Tan").withTags("colleagues").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob Tan").withTags("friends").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Bob Tan").withTags("colleagues").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<Predicate<Person>> predicates = List.of(NAME_ALICE, TAG_FRIENDS);
+        OrPredicate predicate = new OrPredicate(predicates);
+
+        String expected = OrPredicate.class.getCanonicalName() + "{predicates=" + predicates + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
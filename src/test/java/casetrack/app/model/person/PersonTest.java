@@ -136,6 +136,24 @@ public class PersonTest {
         assertEquals(note, personWithNote.getNotes().get(0));
     }
 
+    @Test
+    public void withId() {
+        Person person = new PersonBuilder().build();
+        assertEquals(Person.UNASSIGNED_ID, person.getId());
+
+        Person personWithId = person.withId(5);
+        assertEquals(5, personWithId.getId());
+
+        // the ID is not part of the identity or data of the person
+        assertTrue(person.isSamePerson(personWithId));
+        assertEquals(person, personWithId);
+        assertEquals(person.hashCode(), personWithId.hashCode());
+
+        // notes are changed on the same person
+        assertEquals(5, personWithId.addNote(new Note("Test note")).getId());
+        assertEquals(5, personWithId.addNote(new Note("Test note")).removeNote(0).getId());
+    }
+
     @Test
     public void removeNote() {
         Note note1 = new Note("First note");
@@ -37,6 +37,14 @@ public class PhoneContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(thirdPredicate));
     }
 
+    @Test
+    public void equals_sameKeywordsInOtherOrder_returnsTrue() {
+        PhoneContainsKeywordsPredicate predicate = new PhoneContainsKeywordsPredicate(List.of("9123", "8765"));
+        PhoneContainsKeywordsPredicate otherPredicate = new PhoneContainsKeywordsPredicate(List.of("8765", "9123"));
+        assertTrue(predicate.equals(otherPredicate));
+        assertEquals(predicate.hashCode(), otherPredicate.hashCode());
+    }
+
     @Test
     public void test_phoneContainsKeywords_returnsTrue() {
         PhoneContainsKeywordsPredicate predicate =
@@ -90,6 +98,15 @@ public class PhoneContainsKeywordsPredicateTest {
         assertTrue(predicate.test(new PersonBuilder().withPhone("65123456").build()));
     }
 
+    @Test
+    public void refines() {
+        PhoneContainsKeywordsPredicate predicate = new PhoneContainsKeywordsPredicate(Arrays.asList("9123", "8765"));
+        assertTrue(predicate.refines(new PhoneContainsKeywordsPredicate(Arrays.asList("912", "876"))));
+        assertTrue(predicate.refines(new PhoneContainsKeywordsPredicate(Arrays.asList("1", "7"))));
+        assertFalse(predicate.refines(new PhoneContainsKeywordsPredicate(Arrays.asList("912"))));
+        assertFalse(predicate.refines(new EmailContainsKeywordsPredicate(Arrays.asList("912", "876"))));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = Arrays.asList("123", "456");
@@ -0,0 +1,114 @@
+package casetrack.app.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.index.SearchIndex;
+import casetrack.app.testutil.GeneratedPersons;
+import casetrack.app.testutil.PersonBuilder;
+
+public class PhoneMatchesPredicateTest {
+
+    @Test
+    public void equals() {
+        PhoneMatchesPredicate firstPredicate = new PhoneMatchesPredicate(List.of("91234567"));
+        PhoneMatchesPredicate secondPredicate = new PhoneMatchesPredicate(List.of("91234567", "98765432"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new PhoneMatchesPredicate(List.of("91234567"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different numbers -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void equals_sameNumbersWrittenDifferently_returnsTrue() {
+        PhoneMatchesPredicate predicate = new PhoneMatchesPredicate(List.of("91234567", "87654321"));
+        PhoneMatchesPredicate otherPredicate = new PhoneMatchesPredicate(List.of("876 54321", "912 34567"));
+        assertTrue(predicate.equals(otherPredicate));
+        assertEquals(predicate.hashCode(), otherPredicate.hashCode());
+    }
+
+    @Test
+    public void test_phoneMatches_returnsTrue() {
+        PhoneMatchesPredicate predicate = new PhoneMatchesPredicate(List.of("91234567"));
+        assertTrue(predicate.test(new PersonBuilder().withPhone("91234567").build()));
+        assertTrue(predicate.test(new PersonBuilder().withPhone("+65 91234567").build()));
+
+        // country code given
+        predicate = new PhoneMatchesPredicate(List.of("+6591234567"));
+        assertTrue(predicate.test(new PersonBuilder().withPhone("+65 91234567").build()));
+    }
+
+    @Test
+    public void test_numberInsideLongerPhone_returnsTrue() {
+        // like a substring search, a full number is found anywhere in a longer number
+        PhoneMatchesPredicate predicate = new PhoneMatchesPredicate(List.of("12345678"));
+        assertTrue(predicate.test(new PersonBuilder().withPhone("9123456789").build()));
+        assertTrue(predicate.test(new PersonBuilder().withPhone("912345678").build()));
+    }
+
+    @Test
+    public void test_phoneDoesNotMatch_returnsFalse() {
+        PhoneMatchesPredicate predicate = new PhoneMatchesPredicate(List.of("91234567"));
+        assertFalse(predicate.test(new PersonBuilder().withPhone("91234568").build()));
+        assertFalse(predicate.test(new PersonBuilder().withPhone("98765432").build()));
+
+        // different country code
+        predicate = new PhoneMatchesPredicate(List.of("+6091234567"));
+        assertFalse(predicate.test(new PersonBuilder().withPhone("+65 91234567").build()));
+        assertFalse(predicate.test(new PersonBuilder().withPhone("91234567").build()));
+    }
+
+    @Test
+    public void getCandidates_includeEveryMatch() {
+        List<Person> persons = GeneratedPersons.generate(500);
+        SearchIndex searchIndex = new SearchIndex();
+        persons.forEach(searchIndex::add);
+
+        PhoneMatchesPredicate predicate = new PhoneMatchesPredicate(List.of(
+                persons.get(3).getPhone().value, persons.get(42).getPhone().value, "99999999"));
+        BitSet expected = new BitSet();
+        for (int i = 0; i < persons.size(); i++) {
+            expected.set(i, predicate.test(persons.get(i)));
+        }
+        assertEquals(expected, predicate.getCandidates(searchIndex).get());
+        assertEquals(2, expected.cardinality());
+    }
+
+    @Test
+    public void getCandidates_numberInsideLongerPhone_found() {
+        SearchIndex searchIndex = new SearchIndex();
+        searchIndex.add(new PersonBuilder().withName("Long").withPhone("9123456789").build());
+        searchIndex.add(new PersonBuilder().withName("Other").withPhone("98765432").build());
+
+        PhoneMatchesPredicate predicate = new PhoneMatchesPredicate(List.of("12345678"));
+        BitSet expected = new BitSet();
+        expected.set(0);
+        assertEquals(expected, predicate.getCandidates(searchIndex).get());
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> numbers = List.of("91234567");
+        PhoneMatchesPredicate predicate = new PhoneMatchesPredicate(numbers);
+
+        String expected = PhoneMatchesPredicate.class.getCanonicalName() + "{numbers=" + numbers + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
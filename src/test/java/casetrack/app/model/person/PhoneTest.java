@@ -4,8 +4,12 @@ import static casetrack.app.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import casetrack.app.testutil.RegexEquivalence;
+
 public class PhoneTest {
 
     @Test
@@ -45,6 +49,12 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("+999 12345678901234567")); // country code with 17 digit number
     }
 
+    @Test
+    public void isValidPhone_randomStrings_sameAsRegex() {
+        RegexEquivalence.assertEquivalent(Phone.VALIDATION_REGEX, Phone::isValidPhone, List.of("+", "1", "23", "456",
+                "7890", "12345678", " ", "\t", "\u00a0", "a", "-"));
+    }
+
     @Test
     public void equals() {
         Phone phone = new Phone("999");
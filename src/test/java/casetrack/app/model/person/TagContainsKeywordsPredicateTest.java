@@ -5,11 +5,14 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import casetrack.app.model.index.SearchIndex;
+import casetrack.app.testutil.GeneratedPersons;
 import casetrack.app.testutil.PersonBuilder;
 
 public class TagContainsKeywordsPredicateTest {
@@ -34,6 +37,19 @@ public class TagContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void equals_sameKeywordsInOtherOrderOrCase_returnsTrue() {
+        TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(
+                List.of("housing", "+Urgent", "!elderly"));
+        TagContainsKeywordsPredicate otherPredicate = new TagContainsKeywordsPredicate(
+                List.of("!elderly", "+urgent", "HOUSING"));
+        assertTrue(predicate.equals(otherPredicate));
+        assertEquals(predicate.hashCode(), otherPredicate.hashCode());
+
+        // same keywords with different prefixes -> returns false
+        assertFalse(predicate.equals(new TagContainsKeywordsPredicate(List.of("+housing", "urgent", "!elderly"))));
+    }
+
     @Test
     public void test_tagContainsKeywords_returnsTrue() {
         TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(Collections.singletonList("friend"));
@@ -76,6 +92,52 @@ public class TagContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new PersonBuilder().build()));
     }
 
+    @Test
+    public void test_allOfAndNoneOfKeywords() {
+        Person friendColleague = new PersonBuilder().withTags("friend", "colleague").build();
+        Person friend = new PersonBuilder().withTags("friend").build();
+        Person noTags = new PersonBuilder().build();
+
+        // all of
+        TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(Arrays.asList("+friend", "+COLL"));
+        assertTrue(predicate.test(friendColleague));
+        assertFalse(predicate.test(friend));
+
+        // none of
+        predicate = new TagContainsKeywordsPredicate(Arrays.asList("!colleague"));
+        assertFalse(predicate.test(friendColleague));
+        assertTrue(predicate.test(friend));
+        assertTrue(predicate.test(noTags));
+
+        // any of, combined with none of
+        predicate = new TagContainsKeywordsPredicate(Arrays.asList("friend", "family", "!colleague"));
+        assertFalse(predicate.test(friendColleague));
+        assertTrue(predicate.test(friend));
+        assertFalse(predicate.test(noTags));
+
+        // prefix on its own -> plain keyword
+        predicate = new TagContainsKeywordsPredicate(Arrays.asList("+"));
+        assertFalse(predicate.test(friend));
+    }
+
+    @Test
+    public void getCandidates_sameAsTest() {
+        List<Person> persons = GeneratedPersons.generate(500);
+        SearchIndex searchIndex = new SearchIndex();
+        persons.forEach(searchIndex::add);
+
+        for (List<String> keywords : List.of(List.of("urgent"), List.of("urgent", "housing"), List.of("+urgent",
+                "+housing"), List.of("!urgent"), List.of("elderly", "!urgent", "+ing"), List.of("nothing"),
+                List.<String>of())) {
+            TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(keywords);
+            BitSet expected = new BitSet();
+            for (int i = 0; i < persons.size(); i++) {
+                expected.set(i, predicate.test(persons.get(i)));
+            }
+            assertEquals(expected, predicate.getCandidates(searchIndex).get(), keywords.toString());
+        }
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = Arrays.asList("friend", "colleague");
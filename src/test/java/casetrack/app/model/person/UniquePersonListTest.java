@@ -5,18 +5,28 @@ import static casetrack.app.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static casetrack.app.testutil.Assert.assertThrows;
 import static casetrack.app.testutil.TypicalPersons.ALICE;
 import static casetrack.app.testutil.TypicalPersons.BOB;
+import static casetrack.app.testutil.TypicalPersons.CARL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import casetrack.app.model.person.exceptions.DuplicatePersonException;
 import casetrack.app.model.person.exceptions.PersonNotFoundException;
+import casetrack.app.testutil.GeneratedPersons;
 import casetrack.app.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -178,6 +188,108 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personBeforeOthers_laterPersonsStillFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.remove(BOB);
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedCarl);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_samePersonDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityReleased() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void add_personsWithoutIds_givesNewIds() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(uniquePersonList.asUnmodifiableObservableList().get(1));
+        uniquePersonList.add(CARL);
+
+        // the ID of a removed person is not given to another
+        assertEquals(List.of(1, 3), getIds());
+        assertEquals(ALICE, uniquePersonList.getPersonById(1).get());
+        assertEquals(CARL, uniquePersonList.getPersonById(3).get());
+        assertFalse(uniquePersonList.getPersonById(2).isPresent());
+    }
+
+    @Test
+    public void add_personWithUnusedId_keepsId() {
+        uniquePersonList.add(ALICE.withId(7));
+        uniquePersonList.add(BOB);
+        assertEquals(List.of(7, 8), getIds());
+    }
+
+    @Test
+    public void add_personWithUsedId_givesNewId() {
+        uniquePersonList.add(ALICE.withId(7));
+        uniquePersonList.add(BOB.withId(7));
+        assertEquals(List.of(7, 8), getIds());
+    }
+
+    @Test
+    public void setPerson_editedPerson_keepsId() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person bob = uniquePersonList.getPersonById(2).get();
+
+        uniquePersonList.setPerson(bob, CARL);
+        assertEquals(CARL, uniquePersonList.getPersonById(2).get());
+        uniquePersonList.setPerson(uniquePersonList.getPersonById(2).get(), CARL.addNote(new Note("Test note")));
+        assertEquals(List.of(1, 2), getIds());
+    }
+
+    @Test
+    public void setPersons_personsWithAndWithoutIds_keepsIds() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB.withId(4), CARL.withId(2)));
+        assertEquals(List.of(5, 4, 2), getIds());
+
+        // IDs are not reused after the persons with them are replaced
+        uniquePersonList.setPersons(Collections.singletonList(ALICE));
+        assertEquals(List.of(6), getIds());
+    }
+
+    @Test
+    public void remove_earlierPersons_laterPersonsStillFound() {
+        List<Person> persons = GeneratedPersons.generate(10);
+        uniquePersonList.setPersons(persons);
+        List<Person> remaining = new ArrayList<>(uniquePersonList.asUnmodifiableObservableList());
+        uniquePersonList.remove(remaining.remove(5));
+        uniquePersonList.remove(remaining.remove(0));
+        uniquePersonList.remove(remaining.remove(2));
+
+        for (Person person : remaining) {
+            assertEquals(Optional.of(person), uniquePersonList.getPersonById(person.getId()));
+        }
+        Person last = remaining.get(remaining.size() - 1);
+        Person editedLast = new PersonBuilder(last).withPhone("99999999").build();
+        uniquePersonList.setPerson(last, editedLast);
+        uniquePersonList.remove(remaining.get(0));
+        assertEquals(editedLast, uniquePersonList.asUnmodifiableObservableList().get(remaining.size() - 2));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -213,6 +325,131 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void filterByIndex_indexedPredicate_returnsMatches() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        Person editedCarl = new PersonBuilder(CARL).withName("Carla Kurz").build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.remove(BOB);
+        uniquePersonList.add(BOB);
+
+        assertEquals(List.of(editedCarl), uniquePersonList.filterByIndex(
+                new NameContainsKeywordsPredicate(List.of("carla"))).get());
+        assertEquals(List.of(BOB), uniquePersonList.filterByIndex(
+                new NameContainsKeywordsPredicate(List.of(BOB.getName().fullName))).get());
+        assertEquals(List.of(), uniquePersonList.filterByIndex(
+                new NameContainsKeywordsPredicate(List.of("carl kurz"))).get());
+    }
+
+    @Test
+    public void filterByIndex_unindexedPredicate_emptyResult() {
+        uniquePersonList.add(ALICE);
+        assertFalse(uniquePersonList.filterByIndex(person -> true).isPresent());
+        assertFalse(uniquePersonList.filterByIndex(new NameContainsKeywordsPredicate(List.of("al"))).isPresent());
+    }
+
+    @Test
+    public void find_unindexedPredicate_returnsMatches() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        assertEquals(List.of(BOB), uniquePersonList.find(new NameContainsKeywordsPredicate(List.of("b"))));
+        assertEquals(List.of(ALICE, CARL), uniquePersonList.find(person -> !person.equals(BOB)));
+    }
+
+    @Test
+    public void find_notCached_testsPersonsAgain() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        AtomicInteger testCount = new AtomicInteger();
+        Predicate<Person> predicate = person -> testCount.incrementAndGet() > 0 && person.equals(BOB);
+
+        assertEquals(List.of(BOB), uniquePersonList.find(predicate, false));
+        assertEquals(List.of(BOB), uniquePersonList.find(predicate, false));
+        assertEquals(6, testCount.get());
+
+        // cached searches are not tested again
+        assertEquals(List.of(BOB), uniquePersonList.find(predicate));
+        assertEquals(List.of(BOB), uniquePersonList.find(predicate, false));
+        assertEquals(9, testCount.get());
+    }
+
+    @Test
+    public void find_manyPersons_returnsMatchesInOrder() {
+        List<Person> persons = GeneratedPersons.generate(UniquePersonList.PARALLEL_FILTER_THRESHOLD * 2);
+        uniquePersonList.setPersons(persons);
+        Predicate<Person> predicate = new PhoneContainsKeywordsPredicate(List.of("12"));
+        assertEquals(persons.stream().filter(predicate).collect(Collectors.toList()),
+                uniquePersonList.find(predicate));
+    }
+
+    @Test
+    public void find_listChangedAfterSearch_returnsCurrentMatches() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("carl"));
+        assertEquals(List.of(), uniquePersonList.find(predicate));
+
+        uniquePersonList.add(CARL);
+        assertEquals(List.of(CARL), uniquePersonList.find(predicate));
+        Person editedCarl = new PersonBuilder(CARL).withName("Karl Kurz").build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(List.of(), uniquePersonList.find(predicate));
+        Person editedBob = new PersonBuilder(BOB).withName("Carla Bob").build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        assertEquals(List.of(editedBob), uniquePersonList.find(predicate));
+        uniquePersonList.remove(editedBob);
+        assertEquals(List.of(), uniquePersonList.find(predicate));
+    }
+
+    @Test
+    public void find_listChangedOnOtherThread_returnsOnlyMatches() throws Exception {
+        uniquePersonList.setPersons(GeneratedPersons.generate(1000));
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("carl"));
+        Person editedCarl = new PersonBuilder(CARL).withName("Karl Kurz").build();
+        AtomicBoolean isChanging = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        // searches run off the JavaFX application thread while the list is changed on it
+        Thread searcher = new Thread(() -> {
+            try {
+                while (isChanging.get()) {
+                    for (Person match : uniquePersonList.find(predicate)) {
+                        assertTrue(predicate.test(match));
+                    }
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        searcher.start();
+        for (int i = 0; i < 2000; i++) {
+            uniquePersonList.add(CARL);
+            uniquePersonList.setPerson(CARL, editedCarl);
+            uniquePersonList.remove(editedCarl);
+        }
+        isChanging.set(false);
+        searcher.join();
+
+        assertNull(failure.get());
+    }
+
+    @Test
+    public void getModificationCount_changesOnlyOnModification() {
+        long count = uniquePersonList.getModificationCount();
+        uniquePersonList.add(ALICE);
+        assertEquals(++count, uniquePersonList.getModificationCount());
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(++count, uniquePersonList.getModificationCount());
+        uniquePersonList.remove(BOB);
+        assertEquals(++count, uniquePersonList.getModificationCount());
+        uniquePersonList.setPersons(Arrays.asList(ALICE, CARL));
+        assertEquals(++count, uniquePersonList.getModificationCount());
+
+        // reads and failed changes do not count
+        uniquePersonList.contains(ALICE);
+        uniquePersonList.asUnmodifiableObservableList().get(0);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(BOB));
+        assertEquals(count, uniquePersonList.getModificationCount());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -223,4 +460,9 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    private List<Integer> getIds() {
+        return uniquePersonList.asUnmodifiableObservableList().stream().map(Person::getId)
+                .collect(Collectors.toList());
+    }
 }
@@ -1,13 +1,24 @@
 package casetrack.app.model.tag;
 
 import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.ref.WeakReference;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import casetrack.app.testutil.RegexEquivalence;
+
 public class TagTest {
 
+    private static final int MAX_GC_ATTEMPTS = 50;
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new Tag(null));
@@ -19,6 +30,34 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_equalNames_returnsSameTag() {
+        Tag tag = Tag.of("urgent");
+        assertSame(tag, Tag.of(new String("urgent")));
+        assertEquals(new Tag("urgent"), tag);
+        assertNotSame(tag, Tag.of("Urgent"));
+    }
+
+    @Test
+    public void of_collectedTag_internedAgain() {
+        WeakReference<Tag> collectedTag = new WeakReference<>(Tag.of("transient-tag"));
+        for (int i = 0; i < MAX_GC_ATTEMPTS && collectedTag.get() != null; i++) {
+            System.gc();
+        }
+        // the interned tag is held weakly, so nothing else keeps it from being collected
+        assertNull(collectedTag.get());
+
+        Tag tag = Tag.of("transient-tag");
+        assertEquals(new Tag("transient-tag"), tag);
+        assertSame(tag, Tag.of("transient-tag"));
+    }
+
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+        assertThrows(IllegalArgumentException.class, Tag.MESSAGE_CONSTRAINTS, () -> Tag.of("-urgent"));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
@@ -40,4 +79,15 @@ public class TagTest {
         assertTrue(Tag.isValidTagName("123-456")); // numbers with hyphen
     }
 
+    @Test
+    public void isValidTagName_randomStrings_sameAsRegex() {
+        RegexEquivalence.assertEquivalent(Tag.VALIDATION_REGEX, Tag::isValidTagName, List.of("a", "Z", "0", "-",
+                " ", "_", "\u00e9"));
+    }
+
+    @Test
+    public void getLowerCaseTagName() {
+        assertEquals("high-priority", new Tag("High-Priority").getLowerCaseTagName());
+    }
+
 }
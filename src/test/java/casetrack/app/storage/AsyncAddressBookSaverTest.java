@@ -0,0 +1,151 @@
+package casetrack.app.storage;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static casetrack.app.testutil.TypicalPersons.HOON;
+import static casetrack.app.testutil.TypicalPersons.IDA;
+import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookSaverTest {
+
+    private static final long LONG_DELAY_MILLIS = 60_000;
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("casetrack.json");
+    }
+
+    private AddressBook readSaved() throws Exception {
+        return new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void flush_pendingSave_writtenBeforeReturning() throws Exception {
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(new JsonAddressBookStorage(filePath),
+                LONG_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.requestSave(addressBook);
+        saver.flush();
+
+        assertEquals(addressBook, readSaved());
+    }
+
+    @Test
+    public void requestSave_burstOfRequests_savedOnce() throws Exception {
+        CountingStorage storage = new CountingStorage(filePath);
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage, LONG_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.requestSave(addressBook);
+        addressBook.addPerson(HOON);
+        saver.requestSave(addressBook);
+        addressBook.addPerson(IDA);
+        saver.requestSave(addressBook);
+        saver.flush();
+
+        assertEquals(1, storage.saveCount.get());
+        assertEquals(addressBook, readSaved());
+
+        // nothing left to save
+        saver.flush();
+        assertEquals(1, storage.saveCount.get());
+    }
+
+    @Test
+    public void requestSave_laterChanges_notInSnapshot() throws Exception {
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(new JsonAddressBookStorage(filePath),
+                LONG_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.requestSave(addressBook);
+        addressBook.addPerson(HOON);
+        saver.flush();
+
+        assertEquals(getTypicalAddressBook(), readSaved());
+    }
+
+    @Test
+    public void requestSave_saveFails_failureHandlerCalled() throws Exception {
+        CountingStorage storage = new CountingStorage(filePath);
+        storage.failuresLeft.set(1);
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage, 0);
+        CompletableFuture<IOException> failure = new CompletableFuture<>();
+        saver.setOnSaveFailure(failure::complete);
+
+        saver.requestSave(getTypicalAddressBook());
+        assertSame(DUMMY_IO_EXCEPTION, failure.get(10, TimeUnit.SECONDS));
+
+        // the failed save is retried on flush
+        saver.flush();
+        assertEquals(getTypicalAddressBook(), readSaved());
+    }
+
+    @Test
+    public void requestSave_saveFails_retriedInBackground() throws Exception {
+        CountingStorage storage = new CountingStorage(filePath);
+        storage.failuresLeft.set(2);
+        AtomicInteger failureCount = new AtomicInteger();
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage, 0, 10);
+        saver.setOnSaveFailure(e -> failureCount.incrementAndGet());
+
+        saver.requestSave(getTypicalAddressBook());
+        storage.saved.get(10, TimeUnit.SECONDS);
+
+        assertEquals(2, failureCount.get());
+        assertEquals(1, storage.saveCount.get());
+        assertEquals(getTypicalAddressBook(), readSaved());
+    }
+
+    @Test
+    public void flush_saveFails_throwsIoException() {
+        CountingStorage storage = new CountingStorage(filePath);
+        storage.failuresLeft.set(Integer.MAX_VALUE);
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage, LONG_DELAY_MILLIS);
+        saver.requestSave(getTypicalAddressBook());
+
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), saver::flush);
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), saver::flush);
+    }
+
+    /**
+     * A storage that counts its saves, and fails the first {@code failuresLeft} of them.
+     */
+    private static class CountingStorage extends JsonAddressBookStorage {
+        private final AtomicInteger saveCount = new AtomicInteger();
+        private final AtomicInteger failuresLeft = new AtomicInteger();
+        private final CompletableFuture<Void> saved = new CompletableFuture<>();
+
+        CountingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (failuresLeft.getAndDecrement() > 0) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            saveCount.incrementAndGet();
+            super.saveAddressBook(addressBook, filePath);
+            saved.complete(null);
+        }
+    }
+
+}
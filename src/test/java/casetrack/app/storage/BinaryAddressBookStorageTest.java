@@ -0,0 +1,211 @@
+package casetrack.app.storage;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.HOON;
+import static casetrack.app.testutil.TypicalPersons.IDA;
+import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.GeneratedPersons;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        storage.saveAddressBook(original); // file path not specified
+        readBack = storage.readAddressBook().get(); // file path not specified
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_sameDataAsJson_success() throws Exception {
+        AddressBook original = GeneratedPersons.generateAddressBook(500);
+        Path jsonFilePath = testFolder.resolve("export.json");
+        Path binaryFilePath = testFolder.resolve("import.bin");
+
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        ReadOnlyAddressBook fromJson = new JsonAddressBookStorage(jsonFilePath).readAddressBook().get();
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(fromJson);
+
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("casetrack.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedByte_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("corrupted.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        // flips a character in a name, which still parses but no longer matches the checksum
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[20] ^= 0x01;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("future.bin");
+        Files.write(filePath, withChecksum(BinaryAddressBookStorage.MAGIC, BinaryAddressBookStorage.VERSION + 1, 0));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidPerson_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("invalidPerson.bin");
+        Files.write(filePath, withPerson(1, "R#chel"));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_negativeId_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("negativeId.bin");
+        Files.write(filePath, withPerson(-1, "Rachel"));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_savedAddressBook_keepsIds() throws Exception {
+        Path filePath = testFolder.resolve("ids.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.removePerson(ALICE);
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        assertEquals(getIds(original), getIds(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incomeWithMoreThanTwoDecimalPlaces_roundsToCents() throws Exception {
+        Path filePath = testFolder.resolve("legacyIncome.bin");
+        Files.write(filePath, withPerson(1, "Rachel", "2.3456"));
+
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(235, readBack.getPersonList().get(0).getIncome().getCents());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(testFolder.resolve("x.bin"))
+                .saveAddressBook(null));
+    }
+
+    private static List<Integer> getIds(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList().stream().map(Person::getId).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a snapshot holding a person named {@code name} with the given {@code id}.
+     */
+    private static byte[] withPerson(int id, String name) throws Exception {
+        return withPerson(id, name, "100");
+    }
+
+    /**
+     * Returns a snapshot holding a person named {@code name} with the given {@code id} and {@code income}.
+     */
+    private static byte[] withPerson(int id, String name, String income) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookStorage.MAGIC);
+        out.writeInt(BinaryAddressBookStorage.VERSION);
+        out.writeInt(1);
+        out.writeInt(id);
+        for (String field : new String[] {name, "98765432", "rachel@example.com", "Blk 1", income, "-"}) {
+            byte[] fieldBytes = field.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(fieldBytes.length);
+            out.write(fieldBytes);
+        }
+        out.writeInt(0); // tags
+        out.writeInt(0); // notes
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes.toByteArray());
+        out.writeLong(checksum.getValue());
+        return bytes.toByteArray();
+    }
+
+    private static byte[] withChecksum(int... values) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes.toByteArray());
+        out.writeLong(checksum.getValue());
+        return bytes.toByteArray();
+    }
+
+}
@@ -0,0 +1,284 @@
+package casetrack.app.storage;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.BENSON;
+import static casetrack.app.testutil.TypicalPersons.CARL;
+import static casetrack.app.testutil.TypicalPersons.HOON;
+import static casetrack.app.testutil.TypicalPersons.IDA;
+import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.util.JsonUtil;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("casetrack.json");
+        journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    private JournalAddressBookStorage createStorage() {
+        return new JournalAddressBookStorage(new JsonAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(addressBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        Person aliceWithNote = ALICE.addNote(new Note("Follow up on housing"));
+        addressBook.setPerson(ALICE, aliceWithNote);
+        addressBook.removePerson(CARL);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // the snapshot is untouched and the three changes are journaled
+        assertTrue(Arrays.equals(snapshot, Files.readAllBytes(filePath)));
+        assertEquals(4, Files.readAllLines(journalFilePath).size());
+
+        assertEquals(addressBook, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_deleteAndEditOfNextPersonInOneSave_replayed() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(addressBook);
+
+        // the edit of the next person is journaled before the deletion of the first
+        Person benson = addressBook.getPersonList().get(1);
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        addressBook.setPerson(benson, benson.addNote(new Note("Follow up on housing")));
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotTouched_replaysJournal() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // the same snapshot with another modification time, as after it is copied or restored
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(0));
+
+        assertEquals(addressBook, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journaledChanges_keepIds() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        ReadOnlyAddressBook readBack = createStorage().readAddressBook().get();
+        assertEquals(getIds(addressBook), getIds(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsWithoutNewSnapshot() throws Exception {
+        createStorage().saveAddressBook(getTypicalAddressBook());
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        JournalAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(Arrays.equals(snapshot, Files.readAllBytes(filePath)));
+        assertEquals(addressBook, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_headerHoldsChecksumOfSnapshot() throws Exception {
+        createStorage().saveAddressBook(getTypicalAddressBook());
+
+        CRC32 expected = new CRC32();
+        expected.update(Files.readAllBytes(filePath));
+        JsonJournalHeader header = JsonUtil.fromJsonString(Files.readAllLines(journalFilePath).get(0),
+                JsonJournalHeader.class);
+        assertEquals(expected.getValue(), header.getSnapshotChecksum());
+    }
+
+    @Test
+    public void saveAddressBook_afterReadWithoutJournal_writesSnapshot() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        // the checksum of a snapshot without a journal is not known, so it is rewritten rather than read back
+        JournalAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_compactsJournal() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(new JsonAddressBookStorage(filePath), 2);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(HOON);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignoresRecord() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+
+        Files.write(journalFilePath, "{\"op\":\"ADD\",\"person\":{\"na".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(expected, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_ignoresJournal() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // a newer snapshot written without resetting the journal, as after an interrupted compaction
+        AddressBook newerSnapshot = new AddressBook(addressBook);
+        newerSnapshot.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(newerSnapshot);
+
+        assertEquals(newerSnapshot, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataLoadingException() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        Files.write(journalFilePath, ("{\"op\":\"DELETE\",\"id\":99}" + System.lineSeparator())
+                .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> createStorage().readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshotOnly() throws Exception {
+        Path otherFilePath = testFolder.resolve("export.json");
+        createStorage().saveAddressBook(getTypicalAddressBook(), otherFilePath);
+
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(otherFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void diff_replayedRecords_reproduceCurrentList() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<Person> persisted = new ArrayList<>(addressBook.getPersonList());
+        addressBook.removePerson(persisted.get(0));
+        addressBook.setPerson(persisted.get(2), persisted.get(2).addNote(new Note("note")));
+        addressBook.removePerson(persisted.get(3));
+        addressBook.addPerson(new PersonBuilder().withName("Bob Choo").withPhone("81234567").build());
+        List<Person> current = addressBook.getPersonList();
+
+        assertEquals(current, replay(persisted, JournalAddressBookStorage.diff(persisted, current)));
+    }
+
+    @Test
+    public void diff_reorderedPersons_replayedInNewOrder() throws Exception {
+        List<Person> persisted = getTypicalAddressBook().getPersonList();
+        List<Person> current = new ArrayList<>(persisted);
+        Collections.reverse(current);
+
+        List<Person> replayed = replay(persisted, JournalAddressBookStorage.diff(persisted, current));
+        assertEquals(current, replayed);
+        assertEquals(current.stream().map(Person::getId).collect(Collectors.toList()),
+                replayed.stream().map(Person::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void diff_personWithoutId_returnsNull() {
+        assertNull(JournalAddressBookStorage.diff(Arrays.asList(ALICE, BENSON), Arrays.asList(BENSON)));
+    }
+
+    @Test
+    public void diff_unchangedList_noRecords() {
+        List<Person> persisted = Arrays.asList(ALICE, BENSON, CARL);
+        assertTrue(JournalAddressBookStorage.diff(persisted, new ArrayList<>(persisted)).isEmpty());
+    }
+
+    private static List<Person> replay(List<Person> persons, List<JsonAdaptedJournalRecord> records)
+            throws Exception {
+        ReplayedPersons replayed = new ReplayedPersons(persons);
+        for (JsonAdaptedJournalRecord record : records) {
+            record.applyTo(replayed);
+        }
+        return replayed.toList();
+    }
+
+    private static List<Integer> getIds(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList().stream().map(Person::getId).collect(Collectors.toList());
+    }
+}
@@ -4,6 +4,7 @@ import static casetrack.app.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORM
 import static casetrack.app.testutil.Assert.assertThrows;
 import static casetrack.app.testutil.TypicalPersons.BENSON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
@@ -20,6 +21,7 @@ import casetrack.app.model.person.Name;
 import casetrack.app.model.person.Note;
 import casetrack.app.model.person.Person;
 import casetrack.app.model.person.Phone;
+import casetrack.app.model.tag.Tag;
 import casetrack.app.testutil.PersonBuilder;
 
 public class JsonAdaptedPersonTest {
@@ -48,6 +50,35 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_tags_areInterned() throws Exception {
+        Person person = new JsonAdaptedPerson(BENSON).toModelType();
+        for (Tag tag : person.getTags()) {
+            assertSame(Tag.of(tag.tagName), tag);
+        }
+    }
+
+    @Test
+    public void toModelType_personWithId_keepsId() throws Exception {
+        Person person = new JsonAdaptedPerson(BENSON.withId(3)).toModelType();
+        assertEquals(BENSON, person);
+        assertEquals(3, person.getId());
+    }
+
+    @Test
+    public void toModelType_nullId_returnsPersonWithoutId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(null, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_INCOME, VALID_MEDICAL_INFO, VALID_TAGS, VALID_NOTES);
+        assertEquals(Person.UNASSIGNED_ID, person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(0, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_INCOME, VALID_MEDICAL_INFO, VALID_TAGS, VALID_NOTES);
+        assertThrows(IllegalValueException.class, JsonAdaptedPerson.MESSAGE_INVALID_ID, person::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
@@ -120,7 +151,7 @@ public class JsonAdaptedPersonTest {
     public void toModelType_invalidIncome_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL,
                 VALID_ADDRESS, INVALID_INCOME, VALID_MEDICAL_INFO, VALID_TAGS, VALID_NOTES);
-        String expectedMessage = casetrack.app.model.person.Income.MESSAGE_CONSTRAINTS;
+        String expectedMessage = casetrack.app.model.person.Income.MESSAGE_STORED_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
 
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import casetrack.app.commons.exceptions.IllegalValueException;
 import casetrack.app.commons.util.JsonUtil;
 import casetrack.app.model.AddressBook;
+import casetrack.app.model.person.Email;
 import casetrack.app.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -33,14 +34,15 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+        assertThrows(IllegalValueException.class, String.format(ParallelPersonLoader.MESSAGE_INVALID_PERSON, 1,
+                Email.MESSAGE_CONSTRAINTS), dataFromFile::toModelType);
     }
 
     @Test
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+        assertThrows(IllegalValueException.class, String.format(ParallelPersonLoader.MESSAGE_DUPLICATE_PERSON, 2),
                 dataFromFile::toModelType);
     }
 
@@ -0,0 +1,121 @@
+package casetrack.app.storage;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.GeneratedPersons;
+
+public class ParallelPersonLoaderTest {
+
+    private static final int PERSON_COUNT = 2 * ParallelPersonLoader.CHUNK_SIZE + 100;
+
+    private final List<Person> persons = GeneratedPersons.generate(PERSON_COUNT);
+
+    @Test
+    public void finish_noPersons_returnsEmptyAddressBook() throws Exception {
+        assertEquals(new AddressBook(), new ParallelPersonLoader().finish());
+    }
+
+    @Test
+    public void finish_manyPersons_addsPersonsInOrder() throws Exception {
+        ParallelPersonLoader loader = new ParallelPersonLoader();
+        for (Person person : persons) {
+            loader.add(() -> person);
+        }
+
+        assertEquals(persons, loader.finish().getPersonList());
+    }
+
+    @Test
+    public void add_invalidPersons_reportsFirstInvalidPerson() {
+        // the invalid persons are in the same chunk, which is converted in parallel
+        int firstInvalid = ParallelPersonLoader.CHUNK_SIZE + 10;
+        String expectedMessage = String.format(ParallelPersonLoader.MESSAGE_INVALID_PERSON, firstInvalid + 1,
+                "invalid " + firstInvalid);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> load(persons, firstInvalid,
+                firstInvalid + 1, firstInvalid + 500));
+    }
+
+    @Test
+    public void finish_invalidPersonInLastChunk_reportsInvalidPerson() {
+        int invalid = PERSON_COUNT - 1;
+        String expectedMessage = String.format(ParallelPersonLoader.MESSAGE_INVALID_PERSON, invalid + 1,
+                "invalid " + invalid);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> load(persons, invalid));
+    }
+
+    @Test
+    public void add_duplicatePerson_reportsDuplicate() {
+        int duplicate = ParallelPersonLoader.CHUNK_SIZE + 10;
+        List<Person> withDuplicate = new ArrayList<>(persons);
+        withDuplicate.set(duplicate, persons.get(3));
+
+        String expectedMessage = String.format(ParallelPersonLoader.MESSAGE_DUPLICATE_PERSON, duplicate + 1);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> load(withDuplicate));
+    }
+
+    @Test
+    public void add_duplicateBeforeInvalidPerson_reportsDuplicate() {
+        int duplicate = ParallelPersonLoader.CHUNK_SIZE + 10;
+        List<Person> withDuplicate = new ArrayList<>(persons);
+        withDuplicate.set(duplicate, persons.get(duplicate - 1));
+
+        String expectedMessage = String.format(ParallelPersonLoader.MESSAGE_DUPLICATE_PERSON, duplicate + 1);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> load(withDuplicate, duplicate + 1));
+    }
+
+    @Test
+    public void add_duplicateId_reportsDuplicateId() {
+        List<Person> withDuplicateId = new ArrayList<>(persons);
+        withDuplicateId.set(1, persons.get(1).withId(7));
+        withDuplicateId.set(5, persons.get(5).withId(7));
+
+        String expectedMessage = String.format(ParallelPersonLoader.MESSAGE_DUPLICATE_ID, 6);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> load(withDuplicateId));
+    }
+
+    @Test
+    public void finish_invalidPerson_keepsCause() throws Exception {
+        IllegalValueException cause = new IllegalValueException("invalid");
+        ParallelPersonLoader loader = new ParallelPersonLoader();
+        loader.add(() -> {
+            throw cause;
+        });
+
+        try {
+            loader.finish();
+            fail("The invalid person was not reported");
+        } catch (IllegalValueException e) {
+            assertEquals(cause, e.getCause());
+        }
+    }
+
+    /**
+     * Loads {@code persons}, with the persons at {@code invalidIndices} failing to convert.
+     */
+    private static AddressBook load(List<Person> persons, int... invalidIndices) throws IllegalValueException {
+        ParallelPersonLoader loader = new ParallelPersonLoader();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            int index = i;
+            boolean isInvalid = IntStream.of(invalidIndices).anyMatch(invalid -> invalid == index);
+            loader.add(() -> {
+                if (isInvalid) {
+                    throw new IllegalValueException("invalid " + index);
+                }
+                return person;
+            });
+        }
+        return loader.finish();
+    }
+}
@@ -0,0 +1,99 @@
+package casetrack.app.storage;
+
+import static casetrack.app.testutil.TypicalPersons.HOON;
+import static casetrack.app.testutil.TypicalPersons.IDA;
+import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import casetrack.app.commons.core.StorageFormat;
+import casetrack.app.model.AddressBook;
+
+public class StorageFormatsTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path addressBookFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        addressBookFilePath = testFolder.resolve("casetrack.json");
+    }
+
+    @Test
+    public void readNewerAddressBook_noDataFiles_emptyResult() throws Exception {
+        assertFalse(StorageFormats.readNewerAddressBook(StorageFormat.JSON, addressBookFilePath).isPresent());
+    }
+
+    @Test
+    public void readNewerAddressBook_chosenFormatNewest_emptyResult() throws Exception {
+        save(StorageFormat.BINARY, getTypicalAddressBook(), 1000);
+        save(StorageFormat.JSON, getTypicalAddressBook(), 2000);
+
+        assertFalse(StorageFormats.readNewerAddressBook(StorageFormat.JSON, addressBookFilePath).isPresent());
+    }
+
+    @Test
+    public void readNewerAddressBook_switchedToBinaryAndBack_importsLatestEdits() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        save(StorageFormat.JSON, addressBook, 1000);
+
+        // switched to BINARY: the JSON data is imported, saved as binary and edited
+        addressBook = new AddressBook(
+                StorageFormats.readNewerAddressBook(StorageFormat.BINARY, addressBookFilePath).get());
+        addressBook.addPerson(HOON);
+        save(StorageFormat.BINARY, addressBook, 2000);
+
+        // switched back to JSON: the stale JSON data file must not win over the binary one
+        AddressBook imported = new AddressBook(
+                StorageFormats.readNewerAddressBook(StorageFormat.JSON, addressBookFilePath).get());
+        assertEquals(addressBook, imported);
+        imported.addPerson(IDA);
+        save(StorageFormat.JSON, imported, 3000);
+
+        assertFalse(StorageFormats.readNewerAddressBook(StorageFormat.JSON, addressBookFilePath).isPresent());
+        assertEquals(imported, new AddressBook(StorageFormats.readNewerAddressBook(StorageFormat.BINARY,
+                addressBookFilePath).get()));
+    }
+
+    @Test
+    public void readNewerAddressBook_journaledChangesAfterOtherFormat_emptyResult() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        save(StorageFormat.JSON, addressBook, 1000);
+        save(StorageFormat.BINARY, addressBook, 2000);
+
+        // the JSON snapshot is older than the binary one, but its journal holds later changes
+        AddressBookStorage storage = StorageFormats.createAddressBookStorage(StorageFormat.JSON, addressBookFilePath);
+        AddressBook edited = new AddressBook(storage.readAddressBook().get());
+        edited.addPerson(HOON);
+        storage.saveAddressBook(edited);
+        Path jsonFilePath = StorageFormat.JSON.getFilePath(addressBookFilePath);
+        Files.setLastModifiedTime(JournalAddressBookStorage.getJournalFilePath(jsonFilePath),
+                FileTime.fromMillis(3000));
+
+        assertFalse(StorageFormats.readNewerAddressBook(StorageFormat.JSON, addressBookFilePath).isPresent());
+        assertEquals(edited, new AddressBook(StorageFormats.readNewerAddressBook(StorageFormat.BINARY,
+                addressBookFilePath).get()));
+    }
+
+    /**
+     * Saves {@code addressBook} in {@code format} and sets the modification time of its data files to
+     * {@code modifiedMillis}, so that the order of saves does not depend on the resolution of file times.
+     */
+    private void save(StorageFormat format, AddressBook addressBook, long modifiedMillis) throws Exception {
+        StorageFormats.createAddressBookStorage(format, addressBookFilePath).saveAddressBook(addressBook);
+        Path filePath = format.getFilePath(addressBookFilePath);
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(modifiedMillis));
+        Files.setLastModifiedTime(JournalAddressBookStorage.getJournalFilePath(filePath),
+                FileTime.fromMillis(modifiedMillis));
+    }
+}
@@ -1,16 +1,25 @@
 package casetrack.app.storage;
 
+import static casetrack.app.testutil.Assert.assertThrows;
+import static casetrack.app.testutil.TypicalPersons.HOON;
+import static casetrack.app.testutil.TypicalPersons.IDA;
 import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import casetrack.app.commons.core.GuiSettings;
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.util.FileUtil;
 import casetrack.app.model.AddressBook;
 import casetrack.app.model.ReadOnlyAddressBook;
 import casetrack.app.model.UserPrefs;
@@ -60,6 +69,124 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void readAddressBook_corruptedFile_recoversFromBackup() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        AddressBook modified = new AddressBook(original);
+        modified.addPerson(HOON);
+        storageManager.saveAddressBook(modified);
+
+        Files.write(storageManager.getAddressBookFilePath(), "{\"persons\": [".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFileWithJournal_recoversBackupWithItsJournal() throws Exception {
+        Path filePath = getTempFilePath("journaled");
+        StorageManager journaledStorageManager = new StorageManager(
+                new JournalAddressBookStorage(new JsonAddressBookStorage(filePath), 2),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        AddressBook addressBook = getTypicalAddressBook();
+        journaledStorageManager.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        journaledStorageManager.saveAddressBook(addressBook);
+        AddressBook journaled = new AddressBook(addressBook);
+
+        // compacts the journal, leaving the previous snapshot and its journal as backups
+        addressBook.addPerson(IDA);
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        journaledStorageManager.saveAddressBook(addressBook);
+
+        Files.write(filePath, "{\"persons\": [".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(journaled, new AddressBook(journaledStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRecoveryFromBackup_keepsBackup() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        AddressBook modified = new AddressBook(original);
+        modified.addPerson(HOON);
+        storageManager.saveAddressBook(modified);
+
+        Path filePath = storageManager.getAddressBookFilePath();
+        Files.write(filePath, "{\"persons\": [".getBytes(StandardCharsets.UTF_8));
+        AddressBook recovered = new AddressBook(storageManager.readAddressBook().get());
+        recovered.addPerson(IDA);
+        storageManager.saveAddressBook(recovered);
+
+        // the unreadable file is moved aside instead of replacing the backup it was recovered from
+        assertEquals(original, new AddressBook(
+                new JsonAddressBookStorage(FileUtil.getBackupFilePath(filePath)).readAddressBook().get()));
+        assertEquals("{\"persons\": [", FileUtil.readFromFile(StorageManager.getUnreadableFilePath(filePath)));
+        assertEquals(recovered, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRecoveryWithJournal_keepsBackupAndItsJournal() throws Exception {
+        Path filePath = getTempFilePath("journaled");
+        StorageManager journaledStorageManager = new StorageManager(
+                new JournalAddressBookStorage(new JsonAddressBookStorage(filePath), 2),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        AddressBook addressBook = getTypicalAddressBook();
+        journaledStorageManager.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        journaledStorageManager.saveAddressBook(addressBook);
+        AddressBook journaled = new AddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        journaledStorageManager.saveAddressBook(addressBook);
+
+        Files.write(filePath, "{\"persons\": [".getBytes(StandardCharsets.UTF_8));
+        AddressBook recovered = new AddressBook(journaledStorageManager.readAddressBook().get());
+        recovered.removePerson(HOON);
+        // compacts, as the recovered address book was not read from the data file
+        journaledStorageManager.saveAddressBook(recovered);
+
+        Path backupFilePath = FileUtil.getBackupFilePath(filePath);
+        assertEquals(journaled, new AddressBook(new JournalAddressBookStorage(new JsonAddressBookStorage(filePath))
+                .readAddressBook(backupFilePath).get()));
+    }
+
+    @Test
+    public void readAddressBook_newerTempFile_recoversFromTempFile() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+
+        // a complete temporary file left behind by a save interrupted before the rename
+        AddressBook newer = getTypicalAddressBook();
+        newer.addPerson(HOON);
+        Path tempFilePath = FileUtil.getTempFilePath(storageManager.getAddressBookFilePath());
+        new JsonAddressBookStorage(tempFilePath).saveAddressBook(newer);
+        Files.setLastModifiedTime(tempFilePath, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+
+        assertEquals(newer, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteTempFile_readsDataFile() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+
+        Path tempFilePath = FileUtil.getTempFilePath(storageManager.getAddressBookFilePath());
+        Files.write(tempFilePath, "{\"persons\": [".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(tempFilePath, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_noValidFile_throwsDataLoadingException() throws Exception {
+        Files.write(storageManager.getAddressBookFilePath(), "not json".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> storageManager.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_noFile_emptyResult() throws Exception {
+        assertFalse(storageManager.readAddressBook().isPresent());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
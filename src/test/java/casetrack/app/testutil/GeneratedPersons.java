@@ -0,0 +1,92 @@
+package casetrack.app.testutil;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.person.Address;
+import casetrack.app.model.person.Email;
+import casetrack.app.model.person.Income;
+import casetrack.app.model.person.MedicalInfo;
+import casetrack.app.model.person.Name;
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.Phone;
+import casetrack.app.model.tag.Tag;
+
+/**
+ * A utility class that generates large numbers of distinct, valid {@code Person} objects
+ * for use in tests and benchmarks.
+ */
+public class GeneratedPersons {
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Siti",
+        "Wei Ming", "Priya", "Nur"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Kumar", "Rahman"};
+    private static final String[] TAG_NAMES = {"elderly", "urgent", "lowIncome", "disabled", "family", "housing",
+        "followUp", "chronic", "youth", "referral", "mentalHealth", "caregiver"};
+    private static final String[] MEDICAL_INFO = {"-", "Diabetes type 2", "Hypertension", "Asthma",
+        "Wheelchair user", "Allergic to penicillin"};
+    private static final String[] NOTES = {"Home visit scheduled", "Requested financial assistance",
+        "Follow up on housing application", "Referred to family service centre", "Missed last appointment"};
+
+    private static final long DEFAULT_SEED = 2103;
+
+    /**
+     * Returns {@code count} distinct persons, generated deterministically.
+     */
+    public static List<Person> generate(int count) {
+        return generate(count, DEFAULT_SEED);
+    }
+
+    /**
+     * Returns {@code count} distinct persons, generated deterministically from {@code seed}.
+     */
+    public static List<Person> generate(int count, long seed) {
+        Random random = new Random(seed);
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(generatePerson(i, random));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an {@code AddressBook} with {@code count} generated persons.
+     */
+    public static AddressBook generateAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generate(count));
+        return addressBook;
+    }
+
+    private static Person generatePerson(int i, Random random) {
+        String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + i;
+        String phone = String.valueOf(80000000 + i);
+        String email = "patient" + i + "@example.com";
+        String address = "Blk " + (i % 999 + 1) + " Street " + (i % 97 + 1) + ", #" + (i % 20 + 1) + "-"
+                + (i % 300 + 1);
+        String income = String.valueOf(random.nextInt(800000) / 100.0);
+
+        Set<Tag> tags = new HashSet<>();
+        int tagCount = random.nextInt(4);
+        for (int t = 0; t < tagCount; t++) {
+            tags.add(Tag.of(TAG_NAMES[random.nextInt(TAG_NAMES.length)]));
+        }
+
+        List<Note> notes = new ArrayList<>();
+        int noteCount = random.nextInt(3);
+        for (int n = 0; n < noteCount; n++) {
+            notes.add(new Note(NOTES[random.nextInt(NOTES.length)]));
+        }
+
+        return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address),
+                new Income(income), new MedicalInfo(MEDICAL_INFO[random.nextInt(MEDICAL_INFO.length)]), tags, notes);
+    }
+
+}
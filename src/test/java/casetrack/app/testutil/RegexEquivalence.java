@@ -0,0 +1,53 @@
+package casetrack.app.testutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+/**
+ * Checks that a hand-written validator accepts exactly the strings that a regex does, on many random strings.
+ * The strings are built from pieces that are significant to the regex, so that both valid strings and strings that
+ * are invalid in only a small way come up often.
+ */
+public class RegexEquivalence {
+
+    private static final int STRING_COUNT = 20_000;
+    private static final int MAX_PIECES = 12;
+    private static final long SEED = 2103;
+
+    /**
+     * Asserts that {@code validator} accepts the same random strings built from {@code pieces} as {@code regex},
+     * and that some of them are accepted and some rejected.
+     */
+    public static void assertEquivalent(String regex, Predicate<String> validator, List<String> pieces) {
+        assertEquivalent(test -> test.matches(regex), validator, pieces);
+    }
+
+    /**
+     * Asserts that {@code validator} accepts the same random strings built from {@code pieces} as {@code expected},
+     * and that some of them are accepted and some rejected.
+     */
+    public static void assertEquivalent(Predicate<String> expected, Predicate<String> validator,
+            List<String> pieces) {
+        Random random = new Random(SEED);
+        int validCount = 0;
+        for (int i = 0; i < STRING_COUNT; i++) {
+            StringBuilder test = new StringBuilder();
+            int pieceCount = random.nextInt(MAX_PIECES + 1);
+            for (int j = 0; j < pieceCount; j++) {
+                test.append(pieces.get(random.nextInt(pieces.size())));
+            }
+
+            boolean isValid = expected.test(test.toString());
+            assertEquals(isValid, validator.test(test.toString()), () -> "Validator differs on \"" + test + "\"");
+            if (isValid) {
+                validCount++;
+            }
+        }
+        assertTrue(validCount > 0, "No valid string was generated");
+        assertTrue(validCount < STRING_COUNT, "No invalid string was generated");
+    }
+}